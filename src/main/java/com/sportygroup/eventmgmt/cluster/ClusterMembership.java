@@ -0,0 +1,215 @@
+package com.sportygroup.eventmgmt.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Membership of this instance in a cluster sharing the polling of live events.
+ * Event IDs are mapped to the members with a {@link ConsistentHashRing}, and this instance only polls
+ * the events it owns. Members come from a static comma-separated list, or from a members file shared by
+ * the instances, with one member ID per line, which is re-read periodically. When the members change,
+ * the new ring is handed to the listeners so that they rebalance the affected events.
+ * <p>
+ * When the cluster mode is disabled, this instance owns every event.
+ */
+@Component
+public class ClusterMembership {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterMembership.class);
+
+    /** Flag indicating whether the cluster mode is enabled */
+    private final boolean enabled;
+
+    /** ID of this instance in the cluster */
+    private final String nodeId;
+
+    /** Static members of the cluster, used when no members file is configured */
+    private final List<String> staticMembers;
+
+    /** Members file shared by the instances, null if the members are static */
+    private final Path membersFile;
+
+    /** Number of virtual nodes per member */
+    private final int virtualNodes;
+
+    /** Interval in milliseconds between two reads of the members file */
+    private final long refreshMs;
+
+    /** Current ring of the cluster */
+    private volatile ConsistentHashRing ring;
+
+    /** Listeners notified of every new ring */
+    private final List<Consumer<ConsistentHashRing>> listeners = new CopyOnWriteArrayList<>();
+
+    /** Thread re-reading the members file, null if the members are static */
+    private ScheduledExecutorService refresher;
+
+    /**
+     * Constructs a new ClusterMembership.
+     *
+     * @param enabled whether the cluster mode is enabled
+     * @param nodeId ID of this instance in the cluster
+     * @param members static comma-separated members of the cluster
+     * @param membersFile path of the shared members file, empty to use the static members
+     * @param virtualNodes number of virtual nodes per member
+     * @param refreshMs interval in milliseconds between two reads of the members file
+     * @throws IllegalArgumentException if the cluster mode is enabled without a node ID
+     */
+    @Autowired
+    public ClusterMembership(@Value("${eventmgmt.cluster.enabled:false}") boolean enabled,
+                             @Value("${eventmgmt.cluster.node-id:}") String nodeId,
+                             @Value("${eventmgmt.cluster.members:}") String members,
+                             @Value("${eventmgmt.cluster.members-file:}") String membersFile,
+                             @Value("${eventmgmt.cluster.virtual-nodes:128}") int virtualNodes,
+                             @Value("${eventmgmt.cluster.refresh-ms:5000}") long refreshMs) {
+        if (enabled && (nodeId == null || nodeId.isBlank())) {
+            throw new IllegalArgumentException("Cluster mode needs eventmgmt.cluster.node-id");
+        }
+        this.enabled = enabled;
+        this.nodeId = nodeId == null ? "" : nodeId.trim();
+        this.staticMembers = members == null || members.isBlank() ? List.of() : Arrays.asList(members.split(","));
+        this.membersFile = membersFile == null || membersFile.isBlank() ? null : Path.of(membersFile);
+        this.virtualNodes = virtualNodes;
+        this.refreshMs = refreshMs;
+        this.ring = new ConsistentHashRing(List.of(this.nodeId), virtualNodes);
+    }
+
+    /**
+     * Builds the initial ring and, with a members file, starts re-reading it periodically.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (membersFile == null) {
+            updateMembers(staticMembers);
+        } else {
+            refresh();
+            refresher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "cluster-membership");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refresher.scheduleWithFixedDelay(this::refresh, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        }
+        LOGGER.info("Cluster node {} started with members {}", nodeId, ring.getMembers());
+    }
+
+    /**
+     * Stops re-reading the members file when the application shuts down.
+     */
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks whether the cluster mode is enabled.
+     *
+     * @return true if events are sharded across instances
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the ID of this instance.
+     *
+     * @return the node ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Gets the current ring of the cluster.
+     *
+     * @return the ring
+     */
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    /**
+     * Checks whether this instance polls an event.
+     *
+     * @param eventId the ID of the event
+     * @return true if the cluster mode is disabled or this instance owns the event on the current ring
+     */
+    public boolean isOwner(int eventId) {
+        return !enabled || nodeId.equals(ring.ownerOf(eventId));
+    }
+
+    /**
+     * Registers a listener notified with the new ring whenever the members change.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<ConsistentHashRing> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Replaces the members of the cluster and notifies the listeners if they changed.
+     *
+     * @param members the IDs of the members
+     * @return true if the members changed
+     */
+    public synchronized boolean updateMembers(Collection<String> members) {
+        ConsistentHashRing updated = new ConsistentHashRing(members, virtualNodes);
+        if (updated.getMembers().equals(ring.getMembers())) {
+            return false;
+        }
+        if (!updated.getMembers().contains(nodeId)) {
+            LOGGER.warn("Cluster node {} is not a member of {}, it will not poll any event", nodeId, updated.getMembers());
+        }
+        LOGGER.info("Cluster members changed from {} to {}", ring.getMembers(), updated.getMembers());
+        ring = updated;
+        for (Consumer<ConsistentHashRing> listener : listeners) {
+            listener.accept(updated);
+        }
+        return true;
+    }
+
+    /**
+     * Re-reads the members file and applies its members.
+     * Blank lines and lines starting with '#' are ignored. A missing or unreadable file keeps the
+     * current members.
+     */
+    void refresh() {
+        try {
+            List<String> members = new ArrayList<>();
+            for (String line : Files.readAllLines(membersFile)) {
+                String member = line.trim();
+                if (!member.isEmpty() && !member.startsWith("#")) {
+                    members.add(member);
+                }
+            }
+            updateMembers(members);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read cluster members file {}, keeping members {}", membersFile, ring.getMembers(), e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.sportygroup.eventmgmt.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring mapping event IDs to the instances of the cluster.
+ * Every member is placed on the ring at a number of virtual nodes, and an event belongs to the member
+ * of the first virtual node at or after the hash of its ID. Adding or removing a member therefore only
+ * moves the events of the ring segments it gains or loses, about one event in N, and the virtual nodes
+ * keep the segments of the members close to equal in size.
+ * <p>
+ * The ring is kept in two sorted parallel arrays, so a lookup is a binary search without allocation.
+ */
+public final class ConsistentHashRing {
+
+    /** Hashes of the virtual nodes, in ascending order */
+    private final long[] points;
+
+    /** Member of each virtual node, parallel to {@link #points} */
+    private final String[] owners;
+
+    /** Members of the ring, sorted */
+    private final List<String> members;
+
+    /**
+     * Constructs a new ConsistentHashRing.
+     *
+     * @param members IDs of the members, duplicates and blank IDs are ignored
+     * @param virtualNodes number of virtual nodes per member
+     * @throws IllegalArgumentException if the number of virtual nodes is not positive
+     */
+    public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive: " + virtualNodes);
+        }
+        TreeSet<String> uniqueMembers = new TreeSet<>();
+        for (String member : members) {
+            if (member != null && !member.isBlank()) {
+                uniqueMembers.add(member.trim());
+            }
+        }
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String member : uniqueMembers) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // On the rare hash collision the smallest member ID keeps the point, on every instance alike
+                ring.putIfAbsent(hash(member + "#" + i), member);
+            }
+        }
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        int index = 0;
+        for (var point : ring.entrySet()) {
+            points[index] = point.getKey();
+            owners[index] = point.getValue();
+            index++;
+        }
+        this.members = Collections.unmodifiableList(new ArrayList<>(uniqueMembers));
+    }
+
+    /**
+     * Gets the member owning an event.
+     *
+     * @param eventId the ID of the event
+     * @return the ID of the owning member, null if the ring has no members
+     */
+    public String ownerOf(int eventId) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, mix(eventId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * Gets the members of the ring.
+     *
+     * @return the sorted member IDs
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    /**
+     * Hashes a virtual node name: 64-bit FNV-1a over its UTF-8 bytes, finished with the mixing function.
+     *
+     * @param name the virtual node name
+     * @return the position of the virtual node on the ring
+     */
+    private static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Spreads a value over the whole ring with the SplitMix64 finalizer, so consecutive event IDs land
+     * far apart.
+     *
+     * @param value the value
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
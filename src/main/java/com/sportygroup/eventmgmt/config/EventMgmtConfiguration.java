@@ -1,16 +1,147 @@
 package com.sportygroup.eventmgmt.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.EventScoreSerializer;
+import com.sportygroup.eventmgmt.upstream.HttpClientScoreSource;
+import com.sportygroup.eventmgmt.upstream.MeteredScoreSource;
+import com.sportygroup.eventmgmt.upstream.RestTemplateScoreSource;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @EnableKafka
 @Configuration
 public class EventMgmtConfiguration {
 
+    /** Timeout in milliseconds to connect to the upstream score API */
+    @Value("${api.event-score.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    /** Deadline in milliseconds of a single request to the upstream score API */
+    @Value("${api.event-score.request-timeout-ms:3000}")
+    private int requestTimeoutMs;
+
+    /** Number of threads completing the requests of the JDK HttpClient */
+    @Value("${api.event-score.client-threads:4}")
+    private int clientThreads;
+
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(requestTimeoutMs);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Creates the source used by the processors to fetch scores.
+     * The JDK HttpClient is the default; the RestTemplate remains available as a fallback.
+     * The HttpClient completes its requests, and thereby the asynchronous pipeline stages, on a small
+     * fixed pool, so the number of concurrent requests is not bounded by threads.
+     * Either source is metered, so that the latency and failures of every request are recorded.
+     */
+    @Bean
+    public ScoreSource scoreSource(RestTemplate restTemplate, ObjectMapper objectMapper, PollingMetrics pollingMetrics,
+                                   @Value("${api.event-score.client:http-client}") ScoreSourceType scoreSourceType,
+                                   @Value("${api.event-score.url}") String apiUrl,
+                                   @Value("${api.event-score.bulk-url}") String bulkApiUrl) {
+        if (scoreSourceType == ScoreSourceType.REST_TEMPLATE) {
+            return new MeteredScoreSource(new RestTemplateScoreSource(restTemplate, apiUrl, bulkApiUrl), pollingMetrics);
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(newClientExecutor())
+                .build();
+        return new MeteredScoreSource(new HttpClientScoreSource(httpClient, objectMapper, apiUrl, bulkApiUrl, Duration.ofMillis(requestTimeoutMs)),
+                pollingMetrics);
+    }
+
+    /**
+     * Selects the encoding of the published score records. JSON, written by the configured
+     * {@code spring.kafka.producer.value-serializer}, stays the default so that existing consumers keep
+     * reading the topic. The binary {@link EventScoreSerializer} is opted into with
+     * {@code eventmgmt.publishing.format=binary}, once every consumer reads with the {@code
+     * EventScoreDeserializer}.
+     */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer scoreFormatCustomizer(
+            @Value("${eventmgmt.publishing.format:json}") ScoreFormat scoreFormat) {
+        return producerFactory -> {
+            if (scoreFormat == ScoreFormat.BINARY) {
+                ((DefaultKafkaProducerFactory<Integer, EventScore>) producerFactory).setValueSerializer(new EventScoreSerializer());
+            }
+        };
+    }
+
+    /**
+     * Creates the container factory of the control topic listener.
+     * Records are consumed in batches and their offsets are committed only once the listener returned,
+     * i.e. once every status change of the batch has been applied. A batch failing on a record is
+     * retried from that record after a back-off; offsets before it are committed. Records that cannot
+     * be deserialized reach the listener with null keys or values instead of blocking the partition.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Integer, Event> eventStatusListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${eventmgmt.control.concurrency:1}") int concurrency,
+            @Value("${eventmgmt.control.max-poll-records:500}") int maxPollRecords,
+            @Value("${eventmgmt.control.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${eventmgmt.control.max-retries:5}") long maxRetries) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties();
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        DefaultKafkaConsumerFactory<Integer, Event> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new ErrorHandlingDeserializer<>(new IntegerDeserializer()), new ErrorHandlingDeserializer<>(new JsonDeserializer<>(Event.class, false)));
+
+        ConcurrentKafkaListenerContainerFactory<Integer, Event> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryBackoffMs, maxRetries)));
+        return factory;
+    }
+
+    /**
+     * Creates the fixed pool of daemon threads the HttpClient completes its requests on.
+     *
+     * @return the client executor
+     */
+    private ExecutorService newClientExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(clientThreads, task -> {
+            Thread thread = new Thread(task, "score-http-client-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
@@ -0,0 +1,13 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * Threads used to run the score polling ticks handed out by the scheduler.
+ */
+public enum ExecutionMode {
+
+    /** Ticks run directly on the scheduler's fixed pool of platform threads */
+    PLATFORM,
+
+    /** The scheduler only does timing and hands every tick to a new virtual thread (Java 21+) */
+    VIRTUAL
+}
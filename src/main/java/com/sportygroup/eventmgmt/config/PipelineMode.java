@@ -0,0 +1,13 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * How a polling tick fetches and publishes the score of a live event.
+ */
+public enum PipelineMode {
+
+    /** The tick thread fetches the score and hands it to Kafka, blocking for the whole fetch */
+    BLOCKING,
+
+    /** The tick only starts a non-blocking fetch; decoding and publishing run as completion stages */
+    ASYNC
+}
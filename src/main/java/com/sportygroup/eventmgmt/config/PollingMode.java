@@ -0,0 +1,13 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * Strategy used to poll the external score API for live events.
+ */
+public enum PollingMode {
+
+    /** One scheduled processor and one upstream call per live event and period */
+    SINGLE,
+
+    /** One scheduled processor per period that fetches all live events in bulk requests */
+    BATCH
+}
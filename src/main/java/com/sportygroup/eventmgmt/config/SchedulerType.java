@@ -0,0 +1,13 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * Timer implementation used to fire the periodic polling ticks.
+ */
+public enum SchedulerType {
+
+    /** ScheduledThreadPoolExecutor delay queue, O(log n) per schedule */
+    EXECUTOR,
+
+    /** Hashed timing wheel, O(1) schedule and cancel for very large live-event counts */
+    TIMING_WHEEL
+}
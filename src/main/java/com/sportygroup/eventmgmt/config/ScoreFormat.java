@@ -0,0 +1,16 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * Encoding of the score record values published to Kafka.
+ */
+public enum ScoreFormat {
+
+    /** JSON text written by the {@code JsonSerializer}, readable by every consumer */
+    JSON,
+
+    /**
+     * Compact binary format of the {@code EventScoreSerializer}, readable by consumers using the
+     * {@code EventScoreDeserializer}
+     */
+    BINARY
+}
@@ -0,0 +1,13 @@
+package com.sportygroup.eventmgmt.config;
+
+/**
+ * HTTP client implementation used to fetch scores from the upstream score API.
+ */
+public enum ScoreSourceType {
+
+    /** Pooled JDK HttpClient with keep-alive, HTTP/2 and per-request deadlines */
+    HTTP_CLIENT,
+
+    /** Blocking RestTemplate, kept as a fallback */
+    REST_TEMPLATE
+}
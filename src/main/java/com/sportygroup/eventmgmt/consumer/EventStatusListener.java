@@ -0,0 +1,176 @@
+package com.sportygroup.eventmgmt.consumer;
+
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.service.EventManagementService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes event status changes from the control topic and applies them in batches.
+ * The topic is keyed by event ID, so the changes of one event are applied in order. Each poll of the
+ * topic is applied with a single call to {@link EventManagementService#updateEventStatuses(Iterable)},
+ * and its offsets are committed by the container only after this listener returned.
+ * <p>
+ * Invalid changes are rejected and skipped, as they would never succeed. A change failing unexpectedly
+ * fails the batch from that record on, so it is redelivered up to {@code eventmgmt.control.max-retries}
+ * times; changes applied twice are harmless, as a repeated live or not-live status does not change
+ * the schedule.
+ * <p>
+ * A live event rejected because score polling is overloaded (E1004) does not hold up the partition: it is
+ * parked in a deferred set and the records behind it are applied, including the not-live changes that
+ * relieve the overload. The deferred events are applied again every {@code
+ * eventmgmt.control.retry-backoff-ms} until they are admitted. A later change of a deferred event replaces
+ * it, so a deferred live event never overrides a not-live change consumed after it. Deferred events are held
+ * in memory only: their records are committed, so a deferred event is lost if the instance stops before it
+ * was admitted.
+ * <p>
+ * The listener only starts with {@code eventmgmt.control.enabled=true}.
+ */
+@Component
+public class EventStatusListener {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStatusListener.class);
+
+    /** Service applying the status changes */
+    @Autowired
+    private EventManagementService eventManagementService;
+
+    /** Interval in milliseconds between two attempts to apply the deferred events */
+    @Value("${eventmgmt.control.retry-backoff-ms:1000}")
+    private long retryBackoffMs = 1000;
+
+    /** Live events rejected while score polling was overloaded, by event ID */
+    private final Map<Integer, Event> deferredEvents = new ConcurrentHashMap<>();
+
+    /** Thread applying the deferred events again, created on start */
+    private ScheduledExecutorService deferredRetrier;
+
+    /**
+     * Starts applying the deferred events again every {@code eventmgmt.control.retry-backoff-ms}.
+     */
+    @PostConstruct
+    public void start() {
+        deferredRetrier = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "event-status-deferred");
+            thread.setDaemon(true);
+            return thread;
+        });
+        deferredRetrier.scheduleWithFixedDelay(this::retryDeferred, retryBackoffMs, retryBackoffMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops applying the deferred events.
+     */
+    @PreDestroy
+    public void stop() {
+        if (deferredRetrier != null) {
+            deferredRetrier.shutdownNow();
+        }
+        if (!deferredEvents.isEmpty()) {
+            LOGGER.warn("Dropping {} deferred live events on shutdown: {}", deferredEvents.size(), deferredEvents.keySet());
+        }
+    }
+
+    /**
+     * Applies a batch of status changes consumed from the control topic.
+     * A change without an event ID in its payload takes the event ID from its record key.
+     *
+     * @param records the consumed records, with null keys or values where they could not be deserialized
+     * @throws BatchListenerFailedException if a change could not be applied
+     */
+    @KafkaListener(id = "event-status-control",
+            topics = "${eventmgmt.control.topic:event-status-control}",
+            groupId = "${eventmgmt.control.group-id:eventmgmt}",
+            containerFactory = "eventStatusListenerContainerFactory",
+            autoStartup = "${eventmgmt.control.enabled:false}")
+    public void onStatusChanges(List<ConsumerRecord<Integer, Event>> records) {
+        List<Event> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<Integer, Event> record : records) {
+            Event event = record.value();
+            if (event != null && event.getEventId() == 0 && record.key() != null) {
+                event.setEventId(record.key());
+            }
+            if (event != null) {
+                // A newer change replaces a deferred one, and waits for a retry of it in progress to finish
+                deferredEvents.remove(event.getEventId());
+            }
+            events.add(event);
+        }
+
+        List<EventStatusResult> results = eventManagementService.updateEventStatuses(events);
+
+        int rejected = 0;
+        int deferred = 0;
+        for (int i = 0; i < results.size(); i++) {
+            EventStatusResult result = results.get(i);
+            ConsumerRecord<Integer, Event> record = records.get(i);
+            if (result.isUpdated()) {
+                deferredEvents.remove(result.getEventId());
+            } else if ("E1001".equals(result.getErrorCode())) {
+                rejected++;
+                LOGGER.warn("Skipping invalid status change at {}-{}@{}: {}", record.topic(), record.partition(), record.offset(), result.getError());
+            } else if ("E1004".equals(result.getErrorCode())) {
+                deferred++;
+                deferredEvents.put(result.getEventId(), events.get(i));
+            } else {
+                throw new BatchListenerFailedException("Failed to apply status change of event_id: " + result.getEventId(), i);
+            }
+        }
+        if (deferred > 0) {
+            LOGGER.info("Deferred {} live events while score polling is overloaded, {} deferred in total", deferred, deferredEvents.size());
+        }
+        LOGGER.debug("Applied {} status changes from the control topic, {} rejected, {} deferred", records.size() - rejected - deferred, rejected, deferred);
+    }
+
+    /**
+     * Gets the number of live events waiting to be admitted.
+     *
+     * @return the number of deferred events
+     */
+    public int getDeferredCount() {
+        return deferredEvents.size();
+    }
+
+    /**
+     * Applies the deferred events again. Each one is applied while its entry is locked, so that a newer
+     * change of the event consumed meanwhile is applied after it. Events rejected again stay deferred.
+     */
+    private void retryDeferred() {
+        for (Integer eventId : deferredEvents.keySet()) {
+            try {
+                deferredEvents.computeIfPresent(eventId, (id, event) -> {
+                    EventStatusResult result = eventManagementService.updateEventStatuses(List.of(event)).get(0);
+                    if (result.isUpdated()) {
+                        LOGGER.info("Applied deferred live event_id: {}", id);
+                        return null;
+                    }
+                    if ("E1001".equals(result.getErrorCode())) {
+                        LOGGER.warn("Dropping invalid deferred status change of event_id: {}: {}", id, result.getError());
+                        return null;
+                    }
+                    return event;
+                });
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while applying deferred event_id: {}", eventId, e);
+            }
+        }
+    }
+}
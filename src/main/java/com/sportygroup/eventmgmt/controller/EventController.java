@@ -1,23 +1,50 @@
 package com.sportygroup.eventmgmt.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.model.LatestScore;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import com.sportygroup.eventmgmt.publisher.ScoreStreamBroadcaster;
 import com.sportygroup.eventmgmt.service.EventManagementService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * REST controller for handling event-related operations.
- * Provides endpoints to manage event status and lifecycle.
+ * Provides endpoints to manage event status and lifecycle, and to read the latest scores of live events.
  */
 @RestController
 @RequestMapping("/events")
@@ -30,6 +57,18 @@ public class EventController {
     @Autowired
     private EventManagementService eventManagementService;
 
+    /** Object mapper reading and writing the NDJSON bulk requests */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Cache of the latest fetched score of every live event */
+    @Autowired
+    private LatestScoreCache scoreCache;
+
+    /** Fan-out of the fetched scores to the streaming clients */
+    @Autowired
+    private ScoreStreamBroadcaster scoreStreamBroadcaster;
+
     /**
      * Updates the status of an event.
      * This endpoint handles the transition of events between live and non-live states.
@@ -38,6 +77,8 @@ public class EventController {
      * @return ResponseEntity with appropriate status code and body:
      *         - 200 OK if the update was successful
      *         - 400 Bad Request with error details if the request was invalid
+     *         - 503 Service Unavailable with error details and a Retry-After header if a new live event
+     *           was rejected because score polling is overloaded
      *         - 500 Internal Server Error with error details if an unexpected error occurred
      */
     @PutMapping
@@ -53,6 +94,12 @@ public class EventController {
             errorResponse.put("errorCode", "E1001");
             errorResponse.put("error", e.getMessage());
             return ResponseEntity.badRequest().body(errorResponse);
+        } catch (HttpServerErrorException e) {
+            // Live event rejected while the scheduler is overloaded, the client may retry after the given delay
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("errorCode", "E1004");
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(e.getStatusCode()).headers(e.getResponseHeaders()).body(errorResponse);
         } catch (Exception e) {
             // Handle unexpected errors
             LOGGER.error("Error while updating event status for event_id: {}", event.getEventId(), e);
@@ -62,4 +109,215 @@ public class EventController {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
+
+    /**
+     * Updates the status of several events in a single request.
+     * All transitions are applied in one pass, and the outcome of every event is returned
+     * in the order of the request.
+     *
+     * @param events the events with updated status information
+     * @return ResponseEntity with the per-event results:
+     *         - 200 OK with one result per event, including the rejected ones
+     *         - 500 Internal Server Error with error details if an unexpected error occurred
+     */
+    @PutMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity updateEventStatuses(@RequestBody List<Event> events) {
+        try {
+            LOGGER.info("Updating status of {} events", events.size());
+            return ResponseEntity.ok(eventManagementService.updateEventStatuses(events));
+        } catch (Exception e) {
+            LOGGER.error("Error while updating status of {} events", events.size(), e);
+            return internalServerError();
+        }
+    }
+
+    /**
+     * Updates the status of a stream of events sent as newline delimited JSON, one event per line.
+     * Events are read and applied one at a time as the request body arrives, and the result of every event
+     * is written as a newline delimited JSON line as soon as it is known, so neither the events nor their
+     * results are ever held in memory as a whole. A malformed line is reported in its place with error
+     * code E1001, and the lines after it are still applied. Results are flushed whenever reading the next
+     * line would wait for the client.
+     *
+     * @param body the request body with one event per line
+     * @return ResponseEntity streaming one result line per line of the request, including the rejected ones
+     */
+    @PutMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEventStatuses(InputStream body) {
+        LOGGER.info("Updating status of streamed events");
+        StreamingResponseBody results = output -> {
+            ObjectWriter writer = objectMapper.writerFor(EventStatusResult.class);
+            Consumer<EventStatusResult> resultLines = result -> {
+                try {
+                    output.write(writer.writeValueAsBytes(result));
+                    output.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            EventLines events = new EventLines(lines, objectMapper.readerFor(Event.class), resultLines, output);
+            try {
+                eventManagementService.updateEventStatuses(() -> events, resultLines);
+            } catch (UncheckedIOException e) {
+                LOGGER.warn("Streamed event status update aborted: {}", e.getCause().getMessage());
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(results);
+    }
+
+    /**
+     * Retrieves the latest fetched score of a live event from memory, without calling the upstream API.
+     *
+     * @param eventId the ID of the event
+     * @return ResponseEntity with appropriate status code and body:
+     *         - 200 OK with the latest score and the time it was fetched
+     *         - 404 Not Found with error details if no current score is known for the event
+     */
+    @GetMapping("/{eventId}/score")
+    public ResponseEntity getLatestScore(@PathVariable("eventId") int eventId) {
+        LatestScore latestScore = scoreCache.get(eventId);
+        if (latestScore == null) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("errorCode", "E1003");
+            errorResponse.put("error", "No current score for event_id: " + eventId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+        return ResponseEntity.ok(latestScore);
+    }
+
+    /**
+     * Retrieves the latest fetched scores of several live events from memory in a single call.
+     *
+     * @param eventIds the IDs of the events, e.g. {@code ?ids=1,2,3}
+     * @return the latest scores in request order; events without a current score are left out
+     */
+    @GetMapping(value = "/scores", params = "ids")
+    public List<LatestScore> getLatestScores(@RequestParam("ids") List<Integer> eventIds) {
+        return scoreCache.getAll(eventIds);
+    }
+
+    /**
+     * Streams the scores of an event as Server-Sent Events, one {@code score} event per fetched score.
+     * The latest known score is sent first. The request thread is released right away; scores are
+     * pushed as they are fetched, and a client that reads too slowly skips its oldest pending scores.
+     * A client that stops reading altogether has its stream closed once a write exceeds the write timeout.
+     *
+     * @param eventId the ID of the event
+     * @return the emitter of the stream
+     */
+    @GetMapping(value = "/{eventId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScores(@PathVariable("eventId") int eventId) {
+        LOGGER.debug("Opening score stream for event_id: {}", eventId);
+        return scoreStreamBroadcaster.subscribe(eventId);
+    }
+
+    /**
+     * Builds the response for an unexpected error.
+     *
+     * @return ResponseEntity with status 500 and error code E1002
+     */
+    private ResponseEntity internalServerError() {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("errorCode", "E1002");
+        errorResponse.put("error", "Error while updating event status. Please try again later");
+        return ResponseEntity.internalServerError().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    /**
+     * Events parsed from the lines of a newline delimited JSON request body, one line at a time.
+     * Blank lines are skipped, and a line that is not a valid event is reported as rejected instead of
+     * being returned, so it is answered in order between the results of the events around it.
+     */
+    private static final class EventLines implements Iterator<Event> {
+
+        /** Lines of the request body */
+        private final BufferedReader lines;
+
+        /** Reader parsing a line into an event */
+        private final ObjectReader eventReader;
+
+        /** Receives the result of every malformed line */
+        private final Consumer<EventStatusResult> rejected;
+
+        /** Response body, flushed before waiting for the next line */
+        private final OutputStream output;
+
+        /** Number of the last line read */
+        private int lineNumber;
+
+        /** Event parsed ahead by {@link #hasNext()}, valid while {@link #parsed} is set */
+        private Event next;
+
+        /** Flag indicating whether {@link #next} holds an event not returned yet */
+        private boolean parsed;
+
+        /**
+         * Constructs a new EventLines.
+         *
+         * @param lines the lines of the request body
+         * @param eventReader the reader parsing a line into an event
+         * @param rejected receives the result of every malformed line
+         * @param output the response body
+         */
+        private EventLines(BufferedReader lines, ObjectReader eventReader, Consumer<EventStatusResult> rejected,
+                           OutputStream output) {
+            this.lines = lines;
+            this.eventReader = eventReader;
+            this.rejected = rejected;
+            this.output = output;
+        }
+
+        /**
+         * Reads lines until one holds an event or the body ends.
+         *
+         * @return true if an event was read, false at the end of the body
+         * @throws UncheckedIOException if the body could not be read or the response not flushed
+         */
+        @Override
+        public boolean hasNext() {
+            try {
+                while (!parsed) {
+                    if (!lines.ready()) {
+                        // The client gets the results so far before the next line is waited for
+                        output.flush();
+                    }
+                    String line = lines.readLine();
+                    if (line == null) {
+                        return false;
+                    }
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        next = eventReader.readValue(line);
+                        parsed = true;
+                    } catch (JsonProcessingException e) {
+                        rejected.accept(new EventStatusResult(0, false, false, "E1001",
+                                "Malformed event on line " + lineNumber + ": " + e.getOriginalMessage()));
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Returns the next event of the body.
+         *
+         * @return the event, null for a line holding {@code null}
+         * @throws NoSuchElementException if the body has no more events
+         */
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            parsed = false;
+            return next;
+        }
+    }
 }
@@ -4,8 +4,11 @@ import com.sportygroup.eventmgmt.model.EventScore;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -30,4 +33,21 @@ public class EventScoreController {
     public EventScore getEventScore(@PathVariable("eventId") int eventId) {
         return new EventScore(eventId, randomScoreGenerator.nextFloat(0, 1001.0f));
     }
+
+    /**
+     * Retrieves the scores for several events in a single call.
+     * This endpoint generates random scores for demonstration purposes and lets
+     * bulk pollers fetch many live events in one round trip.
+     *
+     * @param eventIds the IDs of the events to retrieve scores for, e.g. {@code ?ids=1,2,3}
+     * @return a list of EventScore objects, one per requested event, in request order
+     */
+    @GetMapping(params = "ids")
+    public List<EventScore> getEventScores(@RequestParam("ids") List<Integer> eventIds) {
+        List<EventScore> eventScores = new ArrayList<>(eventIds.size());
+        for (Integer eventId : eventIds) {
+            eventScores.add(getEventScore(eventId));
+        }
+        return eventScores;
+    }
 }
@@ -0,0 +1,48 @@
+package com.sportygroup.eventmgmt.controller;
+
+import com.sportygroup.eventmgmt.model.UpstreamStatus;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreakers;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST controller for reporting the health of the upstream score APIs.
+ * Provides endpoints to see whether polling of an upstream is paused by its circuit breaker or lagging
+ * behind for lack of request budget.
+ */
+@RestController
+@RequestMapping("/upstreams")
+public class UpstreamController {
+
+    /** Registry of the upstream circuit breakers */
+    @Autowired
+    private UpstreamCircuitBreakers circuitBreakers;
+
+    /** Budget of upstream requests per second */
+    @Autowired
+    private UpstreamRequestBudget requestBudget;
+
+    /**
+     * Retrieves the circuit breaker status of every upstream polled so far.
+     *
+     * @return the list of upstream statuses
+     */
+    @GetMapping
+    public List<UpstreamStatus> getUpstreamStatuses() {
+        List<UpstreamStatus> statuses = new ArrayList<>();
+        for (UpstreamCircuitBreaker circuitBreaker : circuitBreakers.getAll()) {
+            UpstreamCircuitBreaker.State state = circuitBreaker.getState();
+            statuses.add(new UpstreamStatus(circuitBreaker.getUpstream(), state.name(),
+                    circuitBreaker.getConsecutiveFailures(), state != UpstreamCircuitBreaker.State.CLOSED,
+                    requestBudget.getThrottledRequests(circuitBreaker.getUpstream())));
+        }
+        return statuses;
+    }
+}
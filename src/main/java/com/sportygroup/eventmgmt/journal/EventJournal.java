@@ -0,0 +1,468 @@
+package com.sportygroup.eventmgmt.journal;
+
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventPriority;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only journal of the live and not-live transitions of events, kept in a memory-mapped file.
+ * Recording a transition only writes a small fixed-size record into the mapped page cache, without a
+ * system call or an fsync, so it adds no noticeable latency to a status update. The journal survives
+ * a restart or deploy of the process; the operating system writes the pages back to disk.
+ * <p>
+ * On startup the journal is replayed into the set of live events and compacted: it is rewritten with
+ * one record per live event and atomically swapped in. Its capacity is doubled whenever the live events
+ * alone would take more than half of it. Once the records pass the high-water mark of
+ * {@value #HIGH_WATER_PERCENT}% of the capacity, the journal is compacted again on a background thread:
+ * the new file is written and forced outside the lock, and only the swap to its mapping, with the
+ * transitions recorded in the meantime, happens under it. A status update never waits for more than that
+ * swap. Should the file fill up before the swap, transitions are kept in memory and written by the swap.
+ * <p>
+ * File layout: an 8 byte header (magic, version) followed by 13 byte records (event ID, flags,
+ * polling interval hint or -1). The lowest bit of the flags is the live flag and the next two bits the
+ * priority, 0 standing for the normal priority, so journals written before priorities existed still read
+ * as normal priority events. The event ID of a record is written last, and replay stops at the first
+ * zero event ID, so a record torn by a crash is ignored.
+ */
+@Component
+public class EventJournal {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventJournal.class);
+
+    /** Magic number at the start of the journal file */
+    static final int MAGIC = 0x45564A31;
+
+    /** Version of the record layout */
+    static final int VERSION = 1;
+
+    /** Size of the file header in bytes */
+    static final int HEADER_SIZE = 8;
+
+    /** Size of one record in bytes */
+    static final int RECORD_SIZE = 13;
+
+    /** Interval hint stored for events without one */
+    private static final long NO_INTERVAL = -1;
+
+    /** Flag bit of a live event */
+    private static final int LIVE_FLAG = 1;
+
+    /** Shift of the priority code within the flags */
+    private static final int PRIORITY_SHIFT = 1;
+
+    /** Share of the capacity in percent past which a background compaction is started */
+    static final int HIGH_WATER_PERCENT = 75;
+
+    /** Maximum time in milliseconds to wait for a running compaction when closing */
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    /** Path of the journal file, null if journaling is disabled */
+    private final Path path;
+
+    /** Current capacity of the mapped file in bytes */
+    private long capacity;
+
+    /** Live events with their interval hints and priorities, as recorded in the journal */
+    private final Map<Integer, Event> liveEvents = new LinkedHashMap<>();
+
+    /** Channel of the journal file */
+    private FileChannel channel;
+
+    /** Mapped journal file, positioned at the next record */
+    private MappedByteBuffer buffer;
+
+    /** Thread compacting the journal in the background, null if journaling is disabled */
+    private ExecutorService compactor;
+
+    /** Flag indicating whether a background compaction is scheduled or running */
+    private boolean compacting;
+
+    /** Latest transition of every event since a running compaction took its snapshot, null otherwise */
+    private Map<Integer, Event> recordedDuringCompaction;
+
+    /** Flag indicating whether a transition could not be written because the file was full */
+    private boolean unwritten;
+
+    /**
+     * Constructs a new EventJournal.
+     *
+     * @param path path of the journal file, empty to disable journaling
+     * @param capacityBytes initial capacity of the journal file in bytes
+     */
+    @Autowired
+    public EventJournal(@Value("${eventmgmt.journal.path:}") String path,
+                        @Value("${eventmgmt.journal.capacity-bytes:1048576}") long capacityBytes) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+        this.capacity = Math.max(capacityBytes, HEADER_SIZE + RECORD_SIZE);
+    }
+
+    /**
+     * Opens the journal: replays the existing file, if any, and compacts it.
+     *
+     * @throws UncheckedIOException if the journal file cannot be written
+     */
+    @PostConstruct
+    public synchronized void open() {
+        if (path == null) {
+            LOGGER.info("Live event journal is disabled");
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            if (Files.exists(path)) {
+                replay();
+            } else if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            compactNow();
+            compactor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "journal-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            LOGGER.info("Live event journal {} opened with {} live events in {} ms", path, liveEvents.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open live event journal " + path, e);
+        }
+    }
+
+    /**
+     * Checks whether journaling is enabled.
+     *
+     * @return true if transitions are recorded
+     */
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * Gets the live events recorded in the journal, in the order they went live.
+     *
+     * @return events with their ID, live flag, interval hint and priority
+     */
+    public synchronized List<Event> getLiveEvents() {
+        List<Event> events = new ArrayList<>(liveEvents.size());
+        for (Event event : liveEvents.values()) {
+            events.add(liveEvent(event.getEventId(), event.getPollIntervalMs(), event.getPriority()));
+        }
+        return events;
+    }
+
+    /**
+     * Records an accepted transition of an event.
+     * Transitions that do not change the recorded state, e.g. while replaying, are not written again.
+     * Only a mapped write is done here; past the high-water mark a background compaction is started.
+     * A failing write is logged and does not fail the transition.
+     *
+     * @param event the event with its new status
+     */
+    public synchronized void record(Event event) {
+        if (buffer == null) {
+            return;
+        }
+        int eventId = event.getEventId();
+        if (event.isLive()) {
+            Event previous = liveEvents.put(eventId, liveEvent(eventId, event.getPollIntervalMs(), event.getPriority()));
+            if (previous != null && Objects.equals(previous.getPollIntervalMs(), event.getPollIntervalMs())
+                    && previous.getPriority() == event.getPriority()) {
+                return;
+            }
+        } else if (liveEvents.remove(eventId) == null) {
+            return;
+        }
+        Event transition = event.isLive() ? liveEvents.get(eventId) : notLiveEvent(eventId);
+        if (recordedDuringCompaction != null) {
+            recordedDuringCompaction.put(eventId, transition);
+        }
+        try {
+            if (buffer.remaining() >= RECORD_SIZE) {
+                writeRecord(buffer, transition);
+            } else {
+                // Kept in memory and written by the compaction swapping in a larger file
+                unwritten = true;
+            }
+            if (buffer.position() >= capacity * HIGH_WATER_PERCENT / 100) {
+                startCompaction();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to record transition of event_id: {} in the live event journal", eventId, e);
+        }
+    }
+
+    /**
+     * Flushes the journal to disk when the application shuts down, after a running compaction.
+     * Transitions that did not fit in the file are written by a last compaction.
+     */
+    @PreDestroy
+    public void close() {
+        ExecutorService runningCompactor;
+        synchronized (this) {
+            runningCompactor = compactor;
+            compactor = null;
+        }
+        // Waited for without the lock, which the compaction needs to swap its file in
+        if (runningCompactor != null) {
+            runningCompactor.shutdown();
+            try {
+                if (!runningCompactor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Live event journal compaction still running on close");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (buffer == null) {
+                return;
+            }
+            try {
+                if (unwritten) {
+                    compactNow();
+                }
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close live event journal {}", path, e);
+            }
+            buffer = null;
+            channel = null;
+        }
+    }
+
+    private void replay() throws IOException {
+        try (FileChannel existing = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer records = existing.map(FileChannel.MapMode.READ_ONLY, 0, existing.size());
+            capacity = Math.max(capacity, existing.size());
+            if (records.remaining() < HEADER_SIZE || records.getInt() != MAGIC || records.getInt() != VERSION) {
+                LOGGER.warn("Ignoring live event journal {} with an unknown format", path);
+                return;
+            }
+            int replayed = 0;
+            while (records.remaining() >= RECORD_SIZE) {
+                int eventId = records.getInt();
+                if (eventId == 0) {
+                    break;
+                }
+                int flags = records.get();
+                long interval = records.getLong();
+                if ((flags & LIVE_FLAG) != 0) {
+                    liveEvents.put(eventId, liveEvent(eventId, interval == NO_INTERVAL ? null : interval, priorityOf(flags >>> PRIORITY_SHIFT)));
+                } else {
+                    liveEvents.remove(eventId);
+                }
+                replayed++;
+            }
+            LOGGER.debug("Replayed {} journal records from {}", replayed, path);
+        }
+    }
+
+    /**
+     * Schedules a background compaction unless one is already scheduled or running.
+     * Must be called holding the lock of the journal.
+     */
+    private void startCompaction() {
+        if (compacting || compactor == null) {
+            return;
+        }
+        compacting = true;
+        compactor.execute(this::compactInBackground);
+    }
+
+    /**
+     * Compacts the journal on the background thread: snapshots the live events, writes and forces the
+     * compacted file without holding the lock, then swaps it in with the transitions recorded meanwhile.
+     */
+    private void compactInBackground() {
+        List<Event> snapshot;
+        long newCapacity;
+        synchronized (this) {
+            if (buffer == null) {
+                compacting = false;
+                return;
+            }
+            snapshot = new ArrayList<>(liveEvents.values());
+            recordedDuringCompaction = new LinkedHashMap<>();
+            newCapacity = capacityFor(snapshot.size());
+        }
+        try {
+            Path compacted = writeCompacted(snapshot, newCapacity);
+            synchronized (this) {
+                if (buffer == null) {
+                    Files.deleteIfExists(compacted);
+                } else {
+                    swapIn(compacted, newCapacity, snapshot.size());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to compact live event journal {}", path, e);
+        } finally {
+            synchronized (this) {
+                recordedDuringCompaction = null;
+                compacting = false;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the journal with one record per live event and swaps it in, holding the lock throughout.
+     * Used on startup and on close, when no status update is waiting.
+     */
+    private void compactNow() throws IOException {
+        long newCapacity = capacityFor(liveEvents.size());
+        swapIn(writeCompacted(new ArrayList<>(liveEvents.values()), newCapacity), newCapacity, liveEvents.size());
+    }
+
+    /**
+     * Gets the capacity of a compacted journal: the current one, doubled while the live events would
+     * take more than half of it.
+     *
+     * @param liveEventCount the number of live events written by the compaction
+     * @return the capacity in bytes
+     */
+    private long capacityFor(int liveEventCount) {
+        long needed = HEADER_SIZE + (long) liveEventCount * RECORD_SIZE;
+        long newCapacity = capacity;
+        while (needed * 2 > newCapacity) {
+            newCapacity *= 2;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Writes a compacted journal file with one record per live event and forces it to disk.
+     *
+     * @param events the live events
+     * @param fileCapacity the capacity of the file in bytes
+     * @return the path of the compacted file, next to the journal
+     */
+    private Path writeCompacted(List<Event> events, long fileCapacity) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer records = target.map(FileChannel.MapMode.READ_WRITE, 0, fileCapacity);
+            records.putInt(MAGIC).putInt(VERSION);
+            for (Event event : events) {
+                writeRecord(records, event);
+            }
+            records.force();
+        }
+        return compacted;
+    }
+
+    /**
+     * Swaps a compacted file in place of the journal. The transitions recorded since its snapshot are
+     * appended to it first, so that it holds the current state, and it is atomically moved over the journal.
+     * Must be called holding the lock of the journal.
+     *
+     * @param compacted the compacted file
+     * @param fileCapacity the capacity of the compacted file in bytes
+     * @param records the number of records written to it
+     * @throws IOException if the file cannot be swapped in, or the transitions recorded meanwhile do not fit
+     */
+    private void swapIn(Path compacted, long fileCapacity, int records) throws IOException {
+        FileChannel newChannel = FileChannel.open(compacted, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileCapacity);
+            newBuffer.position(HEADER_SIZE + records * RECORD_SIZE);
+            if (recordedDuringCompaction != null) {
+                for (Event transition : recordedDuringCompaction.values()) {
+                    if (newBuffer.remaining() < RECORD_SIZE) {
+                        throw new IOException("Transitions recorded during the compaction outgrew the compacted journal");
+                    }
+                    writeRecord(newBuffer, transition);
+                }
+            }
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (channel != null) {
+                channel.close();
+            }
+            channel = newChannel;
+            buffer = newBuffer;
+            capacity = fileCapacity;
+            unwritten = false;
+        } catch (IOException | RuntimeException e) {
+            newChannel.close();
+            throw e;
+        }
+        LOGGER.debug("Compacted live event journal {} to {} live events", path, liveEvents.size());
+    }
+
+    private static void writeRecord(MappedByteBuffer records, Event event) {
+        int position = records.position();
+        int flags = event.isLive() ? LIVE_FLAG | priorityCode(event.getPriority()) << PRIORITY_SHIFT : 0;
+        // The event ID goes in last, so that replay never sees a partially written record
+        records.put(position + 4, (byte) flags);
+        records.putLong(position + 5, event.getPollIntervalMs() == null ? NO_INTERVAL : event.getPollIntervalMs());
+        records.putInt(position, event.getEventId());
+        records.position(position + RECORD_SIZE);
+    }
+
+    private static Event notLiveEvent(int eventId) {
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setLive(false);
+        return event;
+    }
+
+    private static Event liveEvent(int eventId, Long pollIntervalMs, EventPriority priority) {
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setLive(true);
+        event.setPollIntervalMs(pollIntervalMs);
+        event.setPriority(priority);
+        return event;
+    }
+
+    /**
+     * Maps a priority to its code in the record flags; the normal priority is 0.
+     *
+     * @param priority the priority
+     * @return the priority code
+     */
+    private static int priorityCode(EventPriority priority) {
+        return switch (priority) {
+            case NORMAL -> 0;
+            case HIGH -> 1;
+            case LOW -> 2;
+        };
+    }
+
+    /**
+     * Maps a priority code of the record flags back to its priority; unknown codes read as normal.
+     *
+     * @param code the priority code
+     * @return the priority
+     */
+    private static EventPriority priorityOf(int code) {
+        return switch (code) {
+            case 1 -> EventPriority.HIGH;
+            case 2 -> EventPriority.LOW;
+            default -> EventPriority.NORMAL;
+        };
+    }
+}
@@ -0,0 +1,326 @@
+package com.sportygroup.eventmgmt.metrics;
+
+import com.sportygroup.eventmgmt.model.EventPriority;
+import com.sportygroup.eventmgmt.model.EventScore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the score polling pipeline, from the scheduler firing a tick to Kafka acknowledging the score.
+ * Exposed through the Actuator {@code metrics} endpoint:
+ * <ul>
+ *     <li>{@code eventmgmt.events.live}: live events polled by this instance</li>
+ *     <li>{@code eventmgmt.scheduler.lag}: time a polling run started after it was due</li>
+ *     <li>{@code eventmgmt.scheduler.overloaded}: 1 while the scheduler lag exceeds the overload threshold,
+ *     0 otherwise</li>
+ *     <li>{@code eventmgmt.polling.shed}: load shed, by reason: ticks skipped to catch up ({@code coalesced})
+ *     and live events rejected while overloaded ({@code rejected})</li>
+ *     <li>{@code eventmgmt.upstream.fetch}: latency of the score API requests, by operation and outcome</li>
+ *     <li>{@code eventmgmt.upstream.errors}: failed score API requests, by operation and whether they are
+ *     retried</li>
+ *     <li>{@code eventmgmt.polling.retries}: retries a polling tick needed before its fetch succeeded or was
+ *     given up</li>
+ *     <li>{@code eventmgmt.kafka.send}: time from a send to its broker acknowledgement, by outcome</li>
+ *     <li>{@code eventmgmt.kafka.send.failures}: records not acknowledged or dropped at the in-flight
+ *     cap</li>
+ *     <li>{@code eventmgmt.kafka.in-flight}: sends awaiting acknowledgement</li>
+ *     <li>{@code eventmgmt.score.fetch-to-publish}: time from a score being fetched to it being sent</li>
+ *     <li>{@code eventmgmt.score.schedule-to-publish}: time from the poll of a score being due to it being
+ *     sent</li>
+ *     <li>{@code executor.*} tagged {@code name=polling}: threads, active ticks and queued tasks of the
+ *     polling scheduler</li>
+ * </ul>
+ * The pool is saturated when {@code executor.active} stays at {@code executor.pool.size} and the scheduler
+ * lag grows; {@code executor.queued} also counts the ticks that are not due yet, one per live event.
+ */
+@Component
+public class PollingMetrics {
+
+    /** Registry the meters are registered with */
+    private final MeterRegistry registry;
+
+    /** Time polling runs started after they were due */
+    private final Timer schedulerLag;
+
+    /** Latency of the successful single-score requests */
+    private final Timer singleFetchSuccess;
+
+    /** Latency of the failed single-score requests */
+    private final Timer singleFetchFailure;
+
+    /** Latency of the successful bulk requests */
+    private final Timer bulkFetchSuccess;
+
+    /** Latency of the failed bulk requests */
+    private final Timer bulkFetchFailure;
+
+    /** Single-score requests failing temporarily, which are retried */
+    private final Counter singleTemporaryErrors;
+
+    /** Single-score requests failing unrecoverably, which are not retried */
+    private final Counter singleUnrecoverableErrors;
+
+    /** Bulk requests failing temporarily, which are retried */
+    private final Counter bulkTemporaryErrors;
+
+    /** Bulk requests failing unrecoverably, which are not retried */
+    private final Counter bulkUnrecoverableErrors;
+
+    /** Retries per polling tick */
+    private final DistributionSummary retries;
+
+    /** Time from a send to its acknowledgement */
+    private final Timer sendSuccess;
+
+    /** Time from a send to its failure */
+    private final Timer sendFailure;
+
+    /** Records the broker failed to acknowledge */
+    private final Counter sendErrors;
+
+    /** Records dropped because the in-flight cap stayed reached */
+    private final Counter sendDropped;
+
+    /** Time from a score being fetched to it being sent */
+    private final Timer fetchToPublish;
+
+    /** Time from the poll of a score being due to it being sent */
+    private final Timer scheduleToPublish;
+
+    /** Ticks skipped because a later tick was already due */
+    private final Counter coalescedTicks;
+
+    /** Live events rejected because the scheduler was overloaded */
+    private final Counter rejectedLiveEvents;
+
+    /**
+     * Constructs a new PollingMetrics and registers its meters.
+     *
+     * @param registry registry the meters are registered with
+     */
+    public PollingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.schedulerLag = Timer.builder("eventmgmt.scheduler.lag")
+                .description("Time a polling run started after it was due")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.singleFetchSuccess = fetchTimer("single", "success");
+        this.singleFetchFailure = fetchTimer("single", "failure");
+        this.bulkFetchSuccess = fetchTimer("bulk", "success");
+        this.bulkFetchFailure = fetchTimer("bulk", "failure");
+        this.singleTemporaryErrors = errorCounter("single", "temporary");
+        this.singleUnrecoverableErrors = errorCounter("single", "unrecoverable");
+        this.bulkTemporaryErrors = errorCounter("bulk", "temporary");
+        this.bulkUnrecoverableErrors = errorCounter("bulk", "unrecoverable");
+        this.retries = DistributionSummary.builder("eventmgmt.polling.retries")
+                .description("Retries a polling tick needed before its fetch succeeded or was given up")
+                .serviceLevelObjectives(1, 2)
+                .register(registry);
+        this.sendSuccess = sendTimer("success");
+        this.sendFailure = sendTimer("failure");
+        this.sendErrors = sendFailureCounter("error");
+        this.sendDropped = sendFailureCounter("dropped");
+        this.fetchToPublish = Timer.builder("eventmgmt.score.fetch-to-publish")
+                .description("Time from a score being fetched to it being sent to Kafka")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.scheduleToPublish = Timer.builder("eventmgmt.score.schedule-to-publish")
+                .description("Time from the poll of a score being due to it being sent to Kafka")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.coalescedTicks = shedCounter("coalesced");
+        this.rejectedLiveEvents = shedCounter("rejected");
+    }
+
+    /**
+     * Registers the gauge of the live events polled by this instance.
+     *
+     * @param liveEvents supplies the number of live events
+     */
+    public void registerLiveEvents(Supplier<Number> liveEvents) {
+        Gauge.builder("eventmgmt.events.live", liveEvents)
+                .description("Live events polled by this instance")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Registers the gauge of the sends awaiting a broker acknowledgement.
+     *
+     * @param inFlight supplies the number of sends in flight
+     */
+    public void registerKafkaInFlight(Supplier<Number> inFlight) {
+        Gauge.builder("eventmgmt.kafka.in-flight", inFlight)
+                .description("Score sends awaiting a broker acknowledgement")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Registers the gauge of the overloaded state of the polling scheduler lane of a priority.
+     *
+     * @param priority the priority of the lane, the value of the {@code priority} tag in lower case
+     * @param overloaded tells whether the lane is overloaded
+     */
+    public void registerSchedulerOverloaded(EventPriority priority, BooleanSupplier overloaded) {
+        Gauge.builder("eventmgmt.scheduler.overloaded", () -> overloaded.getAsBoolean() ? 1 : 0)
+                .description("1 while the polling scheduler lag of the lane exceeds the overload threshold")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .strongReference(true)
+                .register(registry);
+    }
+
+    /**
+     * Registers the pool size, active threads, queued and completed tasks of an executor.
+     *
+     * @param executor the executor
+     * @param name the value of the {@code name} tag of its meters
+     */
+    public void registerExecutor(ExecutorService executor, String name) {
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * Records how late a polling run started.
+     *
+     * @param lagNanos time in nanoseconds between the run being due and starting, clamped to zero if it
+     *        started early
+     */
+    public void recordSchedulerLag(long lagNanos) {
+        schedulerLag.record(Math.max(0, lagNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records polling ticks skipped because a later tick of the same task was already due.
+     *
+     * @param ticks the number of ticks skipped
+     */
+    public void recordCoalescedTicks(long ticks) {
+        coalescedTicks.increment(ticks);
+    }
+
+    /**
+     * Records a live event rejected because the polling scheduler was overloaded.
+     */
+    public void recordRejectedLiveEvent() {
+        rejectedLiveEvents.increment();
+    }
+
+    /**
+     * Records a request to the score API.
+     *
+     * @param bulk whether the request fetched the scores of several events
+     * @param startNanos {@link System#nanoTime()} when the request was started
+     * @param failure the failure of the request, null if it succeeded
+     */
+    public void recordFetch(boolean bulk, long startNanos, Throwable failure) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (failure == null) {
+            (bulk ? bulkFetchSuccess : singleFetchSuccess).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        (bulk ? bulkFetchFailure : singleFetchFailure).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (failure instanceof RestClientException) {
+            (bulk ? bulkTemporaryErrors : singleTemporaryErrors).increment();
+        } else {
+            (bulk ? bulkUnrecoverableErrors : singleUnrecoverableErrors).increment();
+        }
+    }
+
+    /**
+     * Records the number of retries of a polling tick whose fetch succeeded or was given up.
+     *
+     * @param retryCount the retries performed in the tick
+     */
+    public void recordRetries(int retryCount) {
+        retries.record(retryCount);
+    }
+
+    /**
+     * Records a completed Kafka send.
+     *
+     * @param startNanos {@link System#nanoTime()} when the record was handed to the producer
+     * @param failure the failure of the send, null if the broker acknowledged the record
+     */
+    public void recordSend(long startNanos, Throwable failure) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (failure == null) {
+            sendSuccess.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        } else {
+            sendFailure.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            sendErrors.increment();
+        }
+    }
+
+    /**
+     * Records a score dropped because the in-flight cap stayed reached.
+     */
+    public void recordSendDropped() {
+        sendDropped.increment();
+    }
+
+    /**
+     * Records the staleness of a score about to be sent, from its fetch and schedule timestamps.
+     * Timestamps that are not set are skipped.
+     *
+     * @param eventScore the score, stamped with its publish time
+     */
+    public void recordPublishLag(EventScore eventScore) {
+        if (eventScore.getFetchedAt() > 0) {
+            fetchToPublish.record(Math.max(0, eventScore.getPublishedAt() - eventScore.getFetchedAt()), TimeUnit.MILLISECONDS);
+        }
+        if (eventScore.getScheduledAt() > 0) {
+            scheduleToPublish.record(Math.max(0, eventScore.getPublishedAt() - eventScore.getScheduledAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Timer fetchTimer(String operation, String outcome) {
+        return Timer.builder("eventmgmt.upstream.fetch")
+                .description("Latency of the score API requests")
+                .tags("operation", operation, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter errorCounter(String operation, String type) {
+        return Counter.builder("eventmgmt.upstream.errors")
+                .description("Failed score API requests; temporary failures are retried")
+                .tags("operation", operation, "type", type)
+                .register(registry);
+    }
+
+    private Timer sendTimer(String outcome) {
+        return Timer.builder("eventmgmt.kafka.send")
+                .description("Time from a score send to its broker acknowledgement")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter shedCounter(String reason) {
+        return Counter.builder("eventmgmt.polling.shed")
+                .description("Polling load shed: ticks coalesced into a later one, live events rejected while overloaded")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private Counter sendFailureCounter(String reason) {
+        return Counter.builder("eventmgmt.kafka.send.failures")
+                .description("Scores not acknowledged by the broker, or dropped at the in-flight cap")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -12,6 +12,12 @@ public class Event {
     /** Flag indicating whether the event is currently live */
     private boolean live;
 
+    /** Optional hint for the polling interval of the event in milliseconds, null for the default */
+    private Long pollIntervalMs;
+
+    /** Priority tier the event is polled in */
+    private EventPriority priority = EventPriority.NORMAL;
+
     /**
      * Gets the event identifier.
      * 
@@ -47,4 +53,42 @@ public class Event {
     public void setLive(boolean live) {
         this.live = live;
     }
+
+    /**
+     * Gets the polling interval hint of the event.
+     *
+     * @return the interval hint in milliseconds, or null if none was given
+     */
+    public Long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    /**
+     * Sets the polling interval hint of the event.
+     * The hint is the interval the event starts with; it is kept within the configured bounds and
+     * adapted to the score changes afterwards.
+     *
+     * @param pollIntervalMs the interval hint in milliseconds, or null for the default
+     */
+    public void setPollIntervalMs(Long pollIntervalMs) {
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * Gets the priority tier of the event.
+     *
+     * @return the priority, {@link EventPriority#NORMAL} unless set
+     */
+    public EventPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority tier of the event.
+     *
+     * @param priority the priority, or null for {@link EventPriority#NORMAL}
+     */
+    public void setPriority(EventPriority priority) {
+        this.priority = priority == null ? EventPriority.NORMAL : priority;
+    }
 }
@@ -0,0 +1,19 @@
+package com.sportygroup.eventmgmt.model;
+
+/**
+ * Priority tier of a live event.
+ * Each tier is polled on its own scheduler threads, starts from its own polling interval and draws on
+ * its own share of the upstream request budget, so that a featured match keeps its freshness while
+ * thousands of minor fixtures saturate the lower tiers.
+ */
+public enum EventPriority {
+
+    /** Featured events, polled most often on a dedicated lane */
+    HIGH,
+
+    /** Regular events, the default */
+    NORMAL,
+
+    /** Minor events, polled least often on a dedicated lane */
+    LOW
+}
@@ -1,8 +1,14 @@
 package com.sportygroup.eventmgmt.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Represents the score information for a sports event.
  * This model is used to track and transmit score data throughout the system.
+ * <p>
+ * Published scores also carry when their poll was scheduled, when they were fetched and published, and a
+ * sequence number increasing for every record of an event, so that consumers can drop stale or out-of-order
+ * records. These fields are left out of the JSON while unset, e.g. in upstream responses.
  */
 public class EventScore {
 
@@ -12,6 +18,22 @@ public class EventScore {
     /** Current score value for the event */
     private float score;
 
+    /** Time the poll fetching this score was scheduled for, in epoch milliseconds, 0 if unset */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private long scheduledAt;
+
+    /** Time this score was fetched from the upstream, in epoch milliseconds, 0 if unset */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private long fetchedAt;
+
+    /** Time this score was handed to Kafka, in epoch milliseconds, 0 if unset */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private long publishedAt;
+
+    /** Number increasing with every published record of the event, 0 if unset */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private long sequence;
+
     /**
      * Default constructor for EventScore.
      */
@@ -64,4 +86,78 @@ public class EventScore {
     public void setScore(float score) {
         this.score = score;
     }
+
+    /**
+     * Gets the time the poll fetching this score was scheduled for.
+     * A poll delayed by retries or a busy scheduler is fetched well after this time.
+     *
+     * @return the scheduled time in epoch milliseconds, 0 if unset
+     */
+    public long getScheduledAt() {
+        return scheduledAt;
+    }
+
+    /**
+     * Sets the time the poll fetching this score was scheduled for.
+     *
+     * @param scheduledAt the scheduled time in epoch milliseconds
+     */
+    public void setScheduledAt(long scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+
+    /**
+     * Gets the time this score was fetched from the upstream.
+     *
+     * @return the fetch time in epoch milliseconds, 0 if unset
+     */
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * Sets the time this score was fetched from the upstream.
+     *
+     * @param fetchedAt the fetch time in epoch milliseconds
+     */
+    public void setFetchedAt(long fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Gets the time this score was handed to Kafka.
+     *
+     * @return the publish time in epoch milliseconds, 0 if unset
+     */
+    public long getPublishedAt() {
+        return publishedAt;
+    }
+
+    /**
+     * Sets the time this score was handed to Kafka.
+     *
+     * @param publishedAt the publish time in epoch milliseconds
+     */
+    public void setPublishedAt(long publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * Gets the sequence number of this record. Records of the same event are numbered in increasing
+     * order, so a record whose sequence is not above the last one seen is stale.
+     *
+     * @return the sequence number, 0 if unset
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Sets the sequence number of this record.
+     *
+     * @param sequence the sequence number
+     */
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
 }
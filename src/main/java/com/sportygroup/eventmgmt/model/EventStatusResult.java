@@ -0,0 +1,142 @@
+package com.sportygroup.eventmgmt.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the outcome of one event status update of a bulk update request.
+ * This model is used to report, per event, whether its transition was applied or why it was rejected.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventStatusResult {
+
+    /** Identifier of the event, 0 if the entry was null */
+    private int eventId;
+
+    /** Requested live status of the event */
+    private boolean live;
+
+    /** Flag indicating whether the transition was applied */
+    private boolean updated;
+
+    /**
+     * Error code if the transition was rejected: E1001 for invalid events, E1002 for unexpected errors,
+     * E1004 for live events rejected while score polling is overloaded
+     */
+    private String errorCode;
+
+    /** Error message if the transition was rejected */
+    private String error;
+
+    /**
+     * Default constructor for EventStatusResult.
+     */
+    public EventStatusResult() {
+    }
+
+    /**
+     * Parameterized constructor for EventStatusResult.
+     *
+     * @param eventId the identifier of the event
+     * @param live the requested live status
+     * @param updated whether the transition was applied
+     * @param errorCode the error code, E1001, E1002 or E1004, null if the transition was applied
+     * @param error the error message, null if the transition was applied
+     */
+    public EventStatusResult(int eventId, boolean live, boolean updated, String errorCode, String error) {
+        this.eventId = eventId;
+        this.live = live;
+        this.updated = updated;
+        this.errorCode = errorCode;
+        this.error = error;
+    }
+
+    /**
+     * Gets the event identifier.
+     *
+     * @return the event ID
+     */
+    public int getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Sets the event identifier.
+     *
+     * @param eventId the event ID to set
+     */
+    public void setEventId(int eventId) {
+        this.eventId = eventId;
+    }
+
+    /**
+     * Checks the requested live status of the event.
+     *
+     * @return true if the event was requested to go live, false otherwise
+     */
+    public boolean isLive() {
+        return live;
+    }
+
+    /**
+     * Sets the requested live status of the event.
+     *
+     * @param live the live status to set
+     */
+    public void setLive(boolean live) {
+        this.live = live;
+    }
+
+    /**
+     * Checks whether the transition was applied.
+     *
+     * @return true if the transition was applied, false if it was rejected
+     */
+    public boolean isUpdated() {
+        return updated;
+    }
+
+    /**
+     * Sets whether the transition was applied.
+     *
+     * @param updated the flag to set
+     */
+    public void setUpdated(boolean updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * Gets the error code of a rejected transition.
+     *
+     * @return the error code, null if the transition was applied
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Sets the error code of a rejected transition.
+     *
+     * @param errorCode the error code to set
+     */
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Gets the error message of a rejected transition.
+     *
+     * @return the error message, null if the transition was applied
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Sets the error message of a rejected transition.
+     *
+     * @param error the error message to set
+     */
+    public void setError(String error) {
+        this.error = error;
+    }
+}
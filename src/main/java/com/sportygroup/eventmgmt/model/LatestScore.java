@@ -0,0 +1,92 @@
+package com.sportygroup.eventmgmt.model;
+
+import java.time.Instant;
+
+/**
+ * Represents the latest fetched score of a live event together with the time it was fetched.
+ * This model is used to serve current scores from memory without calling the upstream API.
+ */
+public class LatestScore {
+
+    /** Unique identifier for the event */
+    private int eventId;
+
+    /** Latest fetched score value for the event */
+    private float score;
+
+    /** Time the score was fetched from the upstream API */
+    private Instant fetchedAt;
+
+    /**
+     * Default constructor for LatestScore.
+     */
+    public LatestScore() {
+    }
+
+    /**
+     * Parameterized constructor for LatestScore.
+     *
+     * @param eventId the event identifier
+     * @param score the latest fetched score value
+     * @param fetchedAt the time the score was fetched
+     */
+    public LatestScore(int eventId, float score, Instant fetchedAt) {
+        this.eventId = eventId;
+        this.score = score;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Gets the event identifier.
+     *
+     * @return the event ID
+     */
+    public int getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Sets the event identifier.
+     *
+     * @param eventId the event ID to set
+     */
+    public void setEventId(int eventId) {
+        this.eventId = eventId;
+    }
+
+    /**
+     * Gets the latest fetched score value.
+     *
+     * @return the score
+     */
+    public float getScore() {
+        return score;
+    }
+
+    /**
+     * Sets the latest fetched score value.
+     *
+     * @param score the score to set
+     */
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    /**
+     * Gets the time the score was fetched.
+     *
+     * @return the fetch time
+     */
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    /**
+     * Sets the time the score was fetched.
+     *
+     * @param fetchedAt the fetch time to set
+     */
+    public void setFetchedAt(Instant fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+}
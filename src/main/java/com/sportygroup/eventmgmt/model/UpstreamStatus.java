@@ -0,0 +1,137 @@
+package com.sportygroup.eventmgmt.model;
+
+/**
+ * Represents the health of an upstream score API as seen by its circuit breaker.
+ * This model is used to report whether polling of an upstream is currently paused.
+ */
+public class UpstreamStatus {
+
+    /** Host and port of the upstream */
+    private String upstream;
+
+    /** Circuit breaker state: CLOSED, OPEN or HALF_OPEN */
+    private String circuitBreakerState;
+
+    /** Number of consecutive failed calls since the last success */
+    private int consecutiveFailures;
+
+    /** Flag indicating whether polling of the upstream is paused */
+    private boolean pollingPaused;
+
+    /** Number of polls skipped because the upstream request budget was exhausted */
+    private long throttledRequests;
+
+    /**
+     * Default constructor for UpstreamStatus.
+     */
+    public UpstreamStatus() {
+    }
+
+    /**
+     * Parameterized constructor for UpstreamStatus.
+     *
+     * @param upstream the host and port of the upstream
+     * @param circuitBreakerState the circuit breaker state
+     * @param consecutiveFailures the number of consecutive failed calls
+     * @param pollingPaused whether polling of the upstream is paused
+     * @param throttledRequests the number of polls skipped for lack of request budget
+     */
+    public UpstreamStatus(String upstream, String circuitBreakerState, int consecutiveFailures, boolean pollingPaused,
+                          long throttledRequests) {
+        this.upstream = upstream;
+        this.circuitBreakerState = circuitBreakerState;
+        this.consecutiveFailures = consecutiveFailures;
+        this.pollingPaused = pollingPaused;
+        this.throttledRequests = throttledRequests;
+    }
+
+    /**
+     * Gets the upstream host and port.
+     *
+     * @return the upstream
+     */
+    public String getUpstream() {
+        return upstream;
+    }
+
+    /**
+     * Sets the upstream host and port.
+     *
+     * @param upstream the upstream to set
+     */
+    public void setUpstream(String upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Gets the circuit breaker state.
+     *
+     * @return the circuit breaker state
+     */
+    public String getCircuitBreakerState() {
+        return circuitBreakerState;
+    }
+
+    /**
+     * Sets the circuit breaker state.
+     *
+     * @param circuitBreakerState the circuit breaker state to set
+     */
+    public void setCircuitBreakerState(String circuitBreakerState) {
+        this.circuitBreakerState = circuitBreakerState;
+    }
+
+    /**
+     * Gets the number of consecutive failed calls.
+     *
+     * @return the consecutive failure count
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Sets the number of consecutive failed calls.
+     *
+     * @param consecutiveFailures the consecutive failure count to set
+     */
+    public void setConsecutiveFailures(int consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    /**
+     * Checks if polling of the upstream is paused.
+     *
+     * @return true if polling is paused, false otherwise
+     */
+    public boolean isPollingPaused() {
+        return pollingPaused;
+    }
+
+    /**
+     * Sets whether polling of the upstream is paused.
+     *
+     * @param pollingPaused the paused flag to set
+     */
+    public void setPollingPaused(boolean pollingPaused) {
+        this.pollingPaused = pollingPaused;
+    }
+
+    /**
+     * Gets the number of polls skipped for lack of request budget.
+     *
+     * @return the throttled request count
+     */
+    public long getThrottledRequests() {
+        return throttledRequests;
+    }
+
+    /**
+     * Sets the number of polls skipped for lack of request budget.
+     *
+     * @param throttledRequests the throttled request count to set
+     */
+    public void setThrottledRequests(long throttledRequests) {
+        this.throttledRequests = throttledRequests;
+    }
+}
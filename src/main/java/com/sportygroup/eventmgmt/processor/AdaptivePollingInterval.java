@@ -0,0 +1,80 @@
+package com.sportygroup.eventmgmt.processor;
+
+/**
+ * Polling interval of one live event that adapts to how often its score changes.
+ * Every fetched score is compared with the previous one: a change halves the interval so that a busy
+ * event is polled faster, while a score that has not moved for several polls lengthens it by half on
+ * each further unchanged poll. The interval always stays within the configured bounds.
+ */
+public class AdaptivePollingInterval {
+
+    /** Number of consecutive unchanged polls after which the interval starts to grow */
+    static final int UNCHANGED_POLLS_BEFORE_BACKOFF = 3;
+
+    /** Lower bound of the interval in milliseconds */
+    private final long minIntervalMs;
+
+    /** Upper bound of the interval in milliseconds */
+    private final long maxIntervalMs;
+
+    /** Current interval in milliseconds */
+    private long intervalMs;
+
+    /** Last fetched score, valid once {@link #hasScore} is set */
+    private float lastScore;
+
+    /** Flag indicating whether a score has been fetched yet */
+    private boolean hasScore;
+
+    /** Number of consecutive polls that returned an unchanged score */
+    private int unchangedPolls;
+
+    /**
+     * Constructs a new AdaptivePollingInterval.
+     *
+     * @param initialIntervalMs interval to start with, clamped to the bounds
+     * @param minIntervalMs lower bound of the interval in milliseconds
+     * @param maxIntervalMs upper bound of the interval in milliseconds
+     */
+    public AdaptivePollingInterval(long initialIntervalMs, long minIntervalMs, long maxIntervalMs) {
+        if (minIntervalMs <= 0 || maxIntervalMs < minIntervalMs) {
+            throw new IllegalArgumentException("Invalid polling interval bounds: " + minIntervalMs + ".." + maxIntervalMs);
+        }
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.intervalMs = clamp(initialIntervalMs);
+    }
+
+    /**
+     * Records a fetched score and adapts the interval to it.
+     *
+     * @param score the fetched score
+     */
+    public synchronized void recordScore(float score) {
+        if (!hasScore) {
+            hasScore = true;
+            lastScore = score;
+            return;
+        }
+        if (Float.floatToIntBits(score) != Float.floatToIntBits(lastScore)) {
+            lastScore = score;
+            unchangedPolls = 0;
+            intervalMs = clamp(intervalMs / 2);
+        } else if (++unchangedPolls >= UNCHANGED_POLLS_BEFORE_BACKOFF) {
+            intervalMs = clamp(intervalMs + intervalMs / 2);
+        }
+    }
+
+    /**
+     * Gets the delay before the next poll.
+     *
+     * @return the current interval in milliseconds
+     */
+    public synchronized long getIntervalMs() {
+        return intervalMs;
+    }
+
+    private long clamp(long value) {
+        return Math.max(minIntervalMs, Math.min(maxIntervalMs, value));
+    }
+}
@@ -0,0 +1,267 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.scheduler.PollingRun;
+import com.sportygroup.eventmgmt.upstream.ScoreFetch;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClientException;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Non-blocking variant of {@link EventScoreProcessor}.
+ * A tick only starts an asynchronous fetch and returns; the fetched score is checked for changes and
+ * handed to the Kafka send in the completion stage of the fetch, so no thread is held while the
+ * upstream or the broker responds. A score arriving while the in-flight send cap is reached is dropped
+ * and counted rather than waiting for a slot, and published again by the next tick. Retries, the circuit
+ * breaker, the latest-score cache and change detection behave as in the blocking processor.
+ * <p>
+ * A response arriving after the event went not live is discarded instead of being published, just as
+ * a blocking fetch is interrupted when its scheduled task is cancelled.
+ * <p>
+ * As in the blocking processor, the request of the event is prepared once and routine logging is
+ * sampled by a {@link PollingLogSummary}.
+ */
+public class AsyncEventScoreProcessor implements Runnable, PollingRun {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventScoreProcessor.class);
+
+    /** Maximum number of retry attempts for API calls */
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+
+    /** Sampled summary of the routine polling log */
+    private static final PollingLogSummary LOG_SUMMARY = new PollingLogSummary(LOGGER, PollingLogSummary.DEFAULT_INTERVAL_MS);
+
+    /** Publishing stage sending scores to Kafka */
+    private final ScorePublisher scorePublisher;
+
+    /** Source of event scores from the external API */
+    private final ScoreSource scoreSource;
+
+    /** Fetch of the event score, prepared by the first tick and repeated by all others */
+    private ScoreFetch scoreFetch;
+
+    /** ID of the event to process */
+    private final int eventId;
+
+    /** Scheduler for the retry attempts */
+    private final RetryScheduler retryScheduler;
+
+    /** Circuit breaker of the upstream score API */
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    /** Budget of upstream requests per second */
+    private final UpstreamRequestBudget requestBudget;
+
+    /** Detector suppressing the publish of unchanged scores */
+    private final ScoreChangeDetector changeDetector;
+
+    /** Cache of the latest fetched score of every live event */
+    private final LatestScoreCache scoreCache;
+
+    /** Polling interval of the event, adapted to every fetched score */
+    private final AdaptivePollingInterval pollingInterval;
+
+    /** Tells whether the event is still live when a response arrives */
+    private final BooleanSupplier live;
+
+    /** Meters the retries of every tick are recorded in */
+    private final PollingMetrics metrics;
+
+    /** Completion of every publish, created once instead of per tick */
+    private final BiConsumer<Object, Throwable> onPublished = this::onPublished;
+
+    /**
+     * Constructs a new AsyncEventScoreProcessor with the required dependencies.
+     *
+     * @param scorePublisher publishing stage sending scores to Kafka
+     * @param scoreSource source of event scores from the external API
+     * @param eventId ID of the event to process
+     * @param retryScheduler scheduler for the retry attempts
+     * @param circuitBreaker circuit breaker of the upstream score API
+     * @param requestBudget budget of upstream requests per second
+     * @param changeDetector detector suppressing the publish of unchanged scores
+     * @param scoreCache cache of the latest fetched score of every live event
+     * @param live tells whether the event is still live when a response arrives
+     * @param pollingInterval polling interval of the event, adapted to every fetched score
+     * @param metrics meters the retries of every tick are recorded in
+     */
+    public AsyncEventScoreProcessor(ScorePublisher scorePublisher, ScoreSource scoreSource, int eventId,
+                                    RetryScheduler retryScheduler, UpstreamCircuitBreaker circuitBreaker,
+                                    UpstreamRequestBudget requestBudget, ScoreChangeDetector changeDetector, LatestScoreCache scoreCache,
+                                    BooleanSupplier live, AdaptivePollingInterval pollingInterval, PollingMetrics metrics) {
+        this.scorePublisher = scorePublisher;
+        this.scoreSource = scoreSource;
+        this.eventId = eventId;
+        this.retryScheduler = retryScheduler;
+        this.circuitBreaker = circuitBreaker;
+        this.requestBudget = requestBudget;
+        this.changeDetector = changeDetector;
+        this.scoreCache = scoreCache;
+        this.pollingInterval = pollingInterval;
+        this.live = live;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts the fetch of the event score and returns without waiting for it.
+     * The tick is skipped while Kafka publishing is saturated, so a slow broker slows polling down.
+     */
+    @Override
+    public void run() {
+        run(System.currentTimeMillis());
+    }
+
+    /**
+     * Starts the fetch of the event score for a tick scheduled at the given time.
+     *
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     * @see #run()
+     */
+    @Override
+    public void run(long scheduledAtMs) {
+        if (scorePublisher.isSaturated()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Kafka publishing is saturated, skipping score poll for event id {}", eventId);
+            }
+            return;
+        }
+        attempt(0, scheduledAtMs);
+    }
+
+    /**
+     * Starts one attempt to fetch and publish the event score.
+     * Skips the attempt while the upstream circuit breaker is open, and schedules the next attempt
+     * through the retry scheduler when the fetch fails temporarily.
+     *
+     * @param retryCount the number of retries already performed in this tick
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     */
+    private void attempt(int retryCount, long scheduledAtMs) {
+        if (!circuitBreaker.allowRequest()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Circuit breaker for upstream {} is open, skipping score poll for event id {}", circuitBreaker.getUpstream(), eventId);
+            }
+            return;
+        }
+        if (!requestBudget.tryAcquire(circuitBreaker.getUpstream())) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Upstream request budget exhausted, skipping score poll for event id {}", eventId);
+            }
+            return;
+        }
+        if (retryCount > 0) {
+            LOG_SUMMARY.recordRetry();
+        }
+
+        try {
+            scoreFetch().fetchAsync().whenComplete((eventScore, ex) -> {
+                if (ex != null) {
+                    onFetchFailure(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex, retryCount, scheduledAtMs);
+                } else {
+                    onFetched(eventScore, retryCount, scheduledAtMs);
+                }
+            });
+        } catch (RuntimeException e) {
+            onFetchFailure(e, retryCount, scheduledAtMs);
+        }
+    }
+
+    /**
+     * Publishes a fetched score, unless the event went not live meanwhile or its score has not changed.
+     *
+     * @param eventScore the fetched score
+     * @param retryCount the number of retries performed in this tick
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     */
+    private void onFetched(EventScore eventScore, int retryCount, long scheduledAtMs) {
+        eventScore.setScheduledAt(scheduledAtMs);
+        eventScore.setFetchedAt(System.currentTimeMillis());
+        circuitBreaker.recordSuccess();
+        metrics.recordRetries(retryCount);
+        pollingInterval.recordScore(eventScore.getScore());
+        if (!scoreCache.put(eventScore, live)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Discarding score of event id {} which is no longer live", eventId);
+            }
+            return;
+        }
+        try {
+            boolean publish = changeDetector.shouldPublish(eventId, eventScore.getScore());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Score for event id {} is {} after {} retries, {}", eventId, eventScore.getScore(), retryCount,
+                        publish ? "publishing" : "unchanged");
+            }
+            LOG_SUMMARY.recordPoll(publish);
+            if (publish) {
+                // Runs on the HTTP client's completion threads, which must never wait for the broker
+                scorePublisher.tryPublish(eventScore).whenComplete(onPublished);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Unrecoverable error while publishing event score for event id {}", eventId, e);
+        }
+    }
+
+    /**
+     * Handles a failed fetch: temporary failures are retried with a jittered backoff, others are logged.
+     *
+     * @param failure the cause of the failure
+     * @param retryCount the number of retries already performed in this tick
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     */
+    private void onFetchFailure(Throwable failure, int retryCount, long scheduledAtMs) {
+        if (!(failure instanceof RestClientException)) {
+            // For other exceptions, don't retry
+            metrics.recordRetries(retryCount);
+            LOGGER.error("Unrecoverable error while processing event score for event id {}", eventId, failure);
+            return;
+        }
+        // These exceptions are typically related to network issues or temporary service unavailability
+        circuitBreaker.recordFailure();
+        int nextRetryCount = retryCount + 1;
+        if (nextRetryCount >= MAX_RETRY_ATTEMPTS) {
+            metrics.recordRetries(retryCount);
+            LOGGER.error("Failed to process event score after {} retry attempts for event id {}", MAX_RETRY_ATTEMPTS, eventId, failure);
+        } else {
+            LOGGER.warn("Temporary error while processing event score for event id {}. Will retry. Error: {}", eventId, failure.getMessage());
+            retryScheduler.scheduleRetry(() -> attempt(nextRetryCount, scheduledAtMs), RetryScheduler.backoffDelayMs(nextRetryCount));
+        }
+    }
+
+    /**
+     * Gets the prepared fetch of the event score, preparing it on the first tick rather than when the
+     * event goes live, so that status updates never build upstream requests. Ticks racing on the first
+     * preparation at worst prepare it twice; the prepared fetch is immutable.
+     *
+     * @return the fetch of the event score
+     */
+    private ScoreFetch scoreFetch() {
+        ScoreFetch fetch = scoreFetch;
+        if (fetch == null) {
+            fetch = scoreSource.prepareFetch(eventId);
+            scoreFetch = fetch;
+        }
+        return fetch;
+    }
+
+    /**
+     * Completes the publish of a score. A failed score is forgotten so that the next tick publishes it again.
+     *
+     * @param result the send result, unused
+     * @param ex the failure of the send, null if it was acknowledged
+     */
+    private void onPublished(Object result, Throwable ex) {
+        if (ex != null) {
+            changeDetector.clear(eventId);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Processor responsible for fetching the scores of all live events in bulk and publishing them to a Kafka
+ * topic. Implements Runnable to be executed as a single scheduled task per polling window, instead of one
+ * task per event. Live events are grouped into bulk requests of a configurable size, and every returned score
+ * is published to Kafka as an individual {@link EventScore} record. Failed batches are retried asynchronously
+ * with a jittered backoff, and no request is sent while the upstream's circuit breaker is open or the
+ * upstream request budget is exhausted. Every returned score is kept as the latest score of its event, but it
+ * is only published when it changed since the last publish, or when a heartbeat is due.
+ */
+public class EventScoreBatchProcessor implements Runnable {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventScoreBatchProcessor.class);
+
+    /** Maximum number of retry attempts for API calls */
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+
+    /** Publishing stage sending scores to Kafka */
+    private final ScorePublisher scorePublisher;
+
+    /** Source of event scores from the external bulk API */
+    private final ScoreSource scoreSource;
+
+    /** Live view of the event IDs that are due for polling */
+    private final Collection<Integer> liveEventIds;
+
+    /** Maximum number of event IDs sent in a single bulk request */
+    private final int batchSize;
+
+    /** Scheduler for the retry attempts */
+    private final RetryScheduler retryScheduler;
+
+    /** Circuit breaker of the upstream score API */
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    /** Budget of upstream requests per second */
+    private final UpstreamRequestBudget requestBudget;
+
+    /** Detector suppressing the publish of unchanged scores */
+    private final ScoreChangeDetector changeDetector;
+
+    /** Cache of the latest fetched score of every live event */
+    private final LatestScoreCache scoreCache;
+
+    /** Meters the retries of every batch are recorded in */
+    private final PollingMetrics metrics;
+
+    /**
+     * Constructs a new EventScoreBatchProcessor with the required dependencies.
+     *
+     * @param scorePublisher publishing stage sending scores to Kafka
+     * @param scoreSource source of event scores from the external bulk API
+     * @param liveEventIds live view of the event IDs to poll on each run
+     * @param batchSize maximum number of event IDs per bulk request
+     * @param retryScheduler scheduler for the retry attempts
+     * @param circuitBreaker circuit breaker of the upstream score API
+     * @param requestBudget budget of upstream requests per second
+     * @param changeDetector detector suppressing the publish of unchanged scores
+     * @param scoreCache cache of the latest fetched score of every live event
+     * @param metrics meters the retries of every batch are recorded in
+     */
+    public EventScoreBatchProcessor(ScorePublisher scorePublisher, ScoreSource scoreSource,
+                                    Collection<Integer> liveEventIds, int batchSize,
+                                    RetryScheduler retryScheduler, UpstreamCircuitBreaker circuitBreaker,
+                                    UpstreamRequestBudget requestBudget, ScoreChangeDetector changeDetector, LatestScoreCache scoreCache,
+                                    PollingMetrics metrics) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.scorePublisher = scorePublisher;
+        this.scoreSource = scoreSource;
+        this.liveEventIds = liveEventIds;
+        this.batchSize = batchSize;
+        this.retryScheduler = retryScheduler;
+        this.circuitBreaker = circuitBreaker;
+        this.requestBudget = requestBudget;
+        this.changeDetector = changeDetector;
+        this.scoreCache = scoreCache;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Executes one polling window for all live events.
+     * Takes a snapshot of the live events, splits it into bulk requests of at most {@code batchSize} IDs
+     * and publishes every returned score to the Kafka topic.
+     * A failing batch does not prevent the remaining batches from being processed, and batches are
+     * skipped while Kafka publishing is saturated. The scores are stamped with the start of the window
+     * as the time their poll was scheduled for.
+     */
+    @Override
+    public void run() {
+        long scheduledAtMs = System.currentTimeMillis();
+        List<Integer> snapshot = new ArrayList<>(liveEventIds);
+        if (snapshot.isEmpty()) {
+            LOGGER.debug("No live events to poll");
+            return;
+        }
+
+        LOGGER.info("Polling scores for {} live events in batches of {}", snapshot.size(), batchSize);
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            if (scorePublisher.isSaturated()) {
+                LOGGER.warn("Kafka publishing is saturated, skipping {} of {} live events in this window", snapshot.size() - from, snapshot.size());
+                return;
+            }
+            List<Integer> batch = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            attemptBatch(batch, ScoreSource.joinIds(batch), 0, scheduledAtMs);
+        }
+    }
+
+    /**
+     * Performs one attempt to fetch and publish the scores of one batch of events.
+     * Skips the attempt while the upstream circuit breaker is open, and schedules the next attempt
+     * through the retry scheduler after a temporary failure.
+     *
+     * @param eventIds the event IDs of this batch
+     * @param ids the comma separated event IDs of this batch
+     * @param retryCount the number of retries already performed for this batch
+     * @param scheduledAtMs start of the polling window, in epoch milliseconds
+     */
+    private void attemptBatch(List<Integer> eventIds, String ids, int retryCount, long scheduledAtMs) {
+        if (!circuitBreaker.allowRequest()) {
+            LOGGER.debug("Circuit breaker for upstream {} is open, skipping batch of {} events", circuitBreaker.getUpstream(), eventIds.size());
+            return;
+        }
+        if (!requestBudget.tryAcquire(circuitBreaker.getUpstream())) {
+            LOGGER.debug("Upstream request budget exhausted, skipping batch of {} events", eventIds.size());
+            return;
+        }
+
+        try {
+            if (retryCount > 0) {
+                LOGGER.info("Retry attempt {} for batch of {} events", retryCount, eventIds.size());
+            }
+
+            // Make a single API call for the whole batch
+            List<EventScore> eventScores = scoreSource.fetchScores(eventIds);
+            long fetchedAtMs = System.currentTimeMillis();
+            circuitBreaker.recordSuccess();
+            metrics.recordRetries(retryCount);
+            LOGGER.debug("Received {} scores for batch of {} events", eventScores.size(), eventIds.size());
+
+            // Fan the changed scores of the bulk response out as individual records
+            for (EventScore eventScore : eventScores) {
+                int eventId = eventScore.getEventId();
+                eventScore.setScheduledAt(scheduledAtMs);
+                eventScore.setFetchedAt(fetchedAtMs);
+                if (!scoreCache.put(eventScore, () -> liveEventIds.contains(eventId))) {
+                    // The event went not live while the batch was fetched
+                    continue;
+                }
+                if (changeDetector.shouldPublish(eventId, eventScore.getScore())) {
+                    scorePublisher.publish(eventScore).whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            // Forget the failed score so that the next window publishes it again
+                            changeDetector.clear(eventId);
+                        }
+                    });
+                }
+            }
+            LOGGER.debug("Event scores sent to kafka topic for events {}", ids);
+        } catch (RestClientException e) {
+            // These exceptions are typically related to network issues or temporary service unavailability
+            circuitBreaker.recordFailure();
+            int nextRetryCount = retryCount + 1;
+            if (nextRetryCount >= MAX_RETRY_ATTEMPTS) {
+                metrics.recordRetries(retryCount);
+                LOGGER.error("Failed to process batch after {} retry attempts for events {}", MAX_RETRY_ATTEMPTS, ids, e);
+            } else {
+                LOGGER.warn("Temporary error while processing batch of {} events. Will retry. Error: {}", eventIds.size(), e.getMessage());
+                retryScheduler.scheduleRetry(() -> attemptBatch(eventIds, ids, nextRetryCount, scheduledAtMs), RetryScheduler.backoffDelayMs(nextRetryCount));
+            }
+        } catch (Exception e) {
+            // For other exceptions, don't retry
+            metrics.recordRetries(retryCount);
+            LOGGER.error("Unrecoverable error while processing batch for events {}", ids, e);
+        }
+    }
+}
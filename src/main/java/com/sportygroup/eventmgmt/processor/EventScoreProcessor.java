@@ -1,98 +1,238 @@
 package com.sportygroup.eventmgmt.processor;
 
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
 import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.scheduler.PollingRun;
+import com.sportygroup.eventmgmt.upstream.ScoreFetch;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 /**
  * Processor responsible for fetching event scores from an external API and publishing them to a Kafka topic.
  * Implements Runnable to be executed as a scheduled task.
  * Includes retry logic to handle intermittent failures when communicating with external systems.
+ * Retries are rescheduled with a jittered backoff instead of sleeping on the polling thread, and no
+ * request is sent while the upstream's circuit breaker is open or the upstream request budget is exhausted.
+ * Every fetched score is kept as the latest score of the event, but it is only published when it changed
+ * since the last publish, or when a heartbeat is due. The number of retries every tick needed is recorded.
+ * Fetched scores are stamped with the time their tick was scheduled for and the time they were fetched.
+ * <p>
+ * A tick allocates little besides the fetched score: the request of the event is prepared once, the
+ * event ID is never boxed, and routine logging is summed up by a sampled {@link PollingLogSummary}
+ * instead of writing INFO lines for every event and tick.
  */
-public class EventScoreProcessor implements Runnable {
+public class EventScoreProcessor implements Runnable, PollingRun {
 
-    /** Kafka topic name for publishing event scores */
-    private static final String TOPIC_NAME = "event-score-processor";
-    
     /** Logger instance for this class */
     private static final Logger LOGGER = LoggerFactory.getLogger(EventScoreProcessor.class);
     
     /** Maximum number of retry attempts for API calls */
     private static final int MAX_RETRY_ATTEMPTS = 3;
-    
-    /** Base delay in milliseconds between retry attempts */
-    private static final long RETRY_DELAY_MS = 1000;
 
-    /** Kafka template for publishing messages */
-    private final KafkaTemplate<Integer, EventScore> kafkaTemplate;
-    
-    /** REST template for making API calls */
-    private final RestTemplate restTemplate;
-    
-    /** URL of the external API to fetch event scores */
-    private final String apiUrl;
+    /** Sampled summary of the routine polling log */
+    private static final PollingLogSummary LOG_SUMMARY = new PollingLogSummary(LOGGER, PollingLogSummary.DEFAULT_INTERVAL_MS);
+
+    /** Publishing stage sending scores to Kafka */
+    private final ScorePublisher scorePublisher;
     
+    /** Source of event scores from the external API */
+    private final ScoreSource scoreSource;
+
+    /** Fetch of the event score, prepared by the first tick and repeated by all others */
+    private ScoreFetch scoreFetch;
+
     /** ID of the event to process */
-    private final Integer eventId;
+    private final int eventId;
+
+    /** Scheduler for the retry attempts */
+    private final RetryScheduler retryScheduler;
+
+    /** Circuit breaker of the upstream score API */
+    private final UpstreamCircuitBreaker circuitBreaker;
+
+    /** Budget of upstream requests per second */
+    private final UpstreamRequestBudget requestBudget;
+
+    /** Detector suppressing the publish of unchanged scores */
+    private final ScoreChangeDetector changeDetector;
+
+    /** Cache of the latest fetched score of every live event */
+    private final LatestScoreCache scoreCache;
+
+    /** Polling interval of the event, adapted to every fetched score */
+    private final AdaptivePollingInterval pollingInterval;
+
+    /** Tells whether the event is still live when a response arrives */
+    private final BooleanSupplier live;
+
+    /** Meters the retries of every tick are recorded in */
+    private final PollingMetrics metrics;
+
+    /** Completion of every publish, created once instead of per tick */
+    private final BiConsumer<Object, Throwable> onPublished = this::onPublished;
 
     /**
      * Constructs a new EventScoreProcessor with the required dependencies.
      *
-     * @param kafkaTemplate Kafka template for publishing messages
-     * @param restTemplate REST template for making API calls
-     * @param apiUrl URL of the external API to fetch event scores
+     * @param scorePublisher publishing stage sending scores to Kafka
+     * @param scoreSource source of event scores from the external API
      * @param eventId ID of the event to process
+     * @param retryScheduler scheduler for the retry attempts
+     * @param circuitBreaker circuit breaker of the upstream score API
+     * @param requestBudget budget of upstream requests per second
+     * @param changeDetector detector suppressing the publish of unchanged scores
+     * @param scoreCache cache of the latest fetched score of every live event
+     * @param live tells whether the event is still live when a response arrives
+     * @param pollingInterval polling interval of the event, adapted to every fetched score
+     * @param metrics meters the retries of every tick are recorded in
      */
-    public EventScoreProcessor(KafkaTemplate<Integer, EventScore> kafkaTemplate, RestTemplate restTemplate, String apiUrl, Integer eventId) {
-        this.kafkaTemplate = kafkaTemplate;
-        this.restTemplate = restTemplate;
-        this.apiUrl = apiUrl;
+    public EventScoreProcessor(ScorePublisher scorePublisher, ScoreSource scoreSource, int eventId,
+                               RetryScheduler retryScheduler, UpstreamCircuitBreaker circuitBreaker, UpstreamRequestBudget requestBudget,
+                               ScoreChangeDetector changeDetector, LatestScoreCache scoreCache, BooleanSupplier live,
+                               AdaptivePollingInterval pollingInterval, PollingMetrics metrics) {
+        this.scorePublisher = scorePublisher;
+        this.scoreSource = scoreSource;
         this.eventId = eventId;
+        this.retryScheduler = retryScheduler;
+        this.circuitBreaker = circuitBreaker;
+        this.requestBudget = requestBudget;
+        this.changeDetector = changeDetector;
+        this.scoreCache = scoreCache;
+        this.pollingInterval = pollingInterval;
+        this.live = live;
+        this.metrics = metrics;
     }
 
     /**
      * Executes the event score processing task with retry logic.
      * Fetches the event score from the external API and publishes it to the Kafka topic.
-     * Implements exponential backoff for retries to avoid overwhelming the external system.
+     * Failed attempts are retried asynchronously with a growing, jittered backoff to avoid overwhelming the
+     * external system. The tick is skipped while Kafka publishing is saturated, so a slow broker slows
+     * polling down.
      */
     @Override
     public void run() {
-        int retryCount = 0;
-        boolean success = false;
-
-        while (!success && retryCount < MAX_RETRY_ATTEMPTS) {
-            try {
-                if (retryCount > 0) {
-                    LOGGER.info("Retry attempt {} for event id {}", retryCount, eventId);
-                    // Exponential backoff: wait longer with each retry
-                    Thread.sleep(RETRY_DELAY_MS * retryCount);
-                }
-                
-                LOGGER.info("Invoking external api to get score for event id {} for url {}", eventId, apiUrl);
-                // Make API call to fetch event score
-                EventScore eventScore = restTemplate.getForObject(apiUrl, EventScore.class, eventId);
-                LOGGER.debug("Score for event id {} is {}", eventId, eventScore.getScore());
-                
-                // Publish event score to Kafka topic
-                kafkaTemplate.send(TOPIC_NAME, eventScore);
-                LOGGER.info("Event score sent to kafka topic for event id {}", eventId);
-                success = true;
-            } catch (RestClientException e) {
-                // These exceptions are typically related to network issues or temporary service unavailability
-                retryCount++;
-                if (retryCount >= MAX_RETRY_ATTEMPTS) {
-                    LOGGER.error("Failed to process event score after {} retry attempts for event id {}", MAX_RETRY_ATTEMPTS, eventId, e);
-                } else {
-                    LOGGER.warn("Temporary error while processing event score for event id {}. Will retry. Error: {}", eventId, e.getMessage());
+        run(System.currentTimeMillis());
+    }
+
+    /**
+     * Executes the event score processing task for a tick scheduled at the given time.
+     *
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     * @see #run()
+     */
+    @Override
+    public void run(long scheduledAtMs) {
+        if (scorePublisher.isSaturated()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Kafka publishing is saturated, skipping score poll for event id {}", eventId);
+            }
+            return;
+        }
+        attempt(0, scheduledAtMs);
+    }
+
+    /**
+     * Performs one attempt to fetch and publish the event score.
+     * Skips the attempt while the upstream circuit breaker is open, and schedules the next attempt
+     * through the retry scheduler after a temporary failure.
+     *
+     * @param retryCount the number of retries already performed in this tick
+     * @param scheduledAtMs time the tick was due, in epoch milliseconds
+     */
+    private void attempt(int retryCount, long scheduledAtMs) {
+        if (!circuitBreaker.allowRequest()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Circuit breaker for upstream {} is open, skipping score poll for event id {}", circuitBreaker.getUpstream(), eventId);
+            }
+            return;
+        }
+        if (!requestBudget.tryAcquire(circuitBreaker.getUpstream())) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Upstream request budget exhausted, skipping score poll for event id {}", eventId);
+            }
+            return;
+        }
+        if (retryCount > 0) {
+            LOG_SUMMARY.recordRetry();
+        }
+
+        try {
+            // Make API call to fetch event score
+            EventScore eventScore = scoreFetch().fetch();
+            eventScore.setScheduledAt(scheduledAtMs);
+            eventScore.setFetchedAt(System.currentTimeMillis());
+            circuitBreaker.recordSuccess();
+            metrics.recordRetries(retryCount);
+            pollingInterval.recordScore(eventScore.getScore());
+            if (!scoreCache.put(eventScore, live)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Discarding score of event id {} which is no longer live", eventId);
                 }
-            } catch (Exception e) {
-                // For other exceptions, don't retry
-                LOGGER.error("Unrecoverable error while processing event score for event id {}", eventId, e);
-                break;
+                return;
+            }
+
+            // Publish event score to Kafka topic, unless it has not changed since the last publish
+            boolean publish = changeDetector.shouldPublish(eventId, eventScore.getScore());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Score for event id {} is {} after {} retries, {}", eventId, eventScore.getScore(), retryCount,
+                        publish ? "publishing" : "unchanged");
+            }
+            LOG_SUMMARY.recordPoll(publish);
+            if (publish) {
+                scorePublisher.publish(eventScore).whenComplete(onPublished);
             }
+        } catch (RestClientException e) {
+            // These exceptions are typically related to network issues or temporary service unavailability
+            circuitBreaker.recordFailure();
+            int nextRetryCount = retryCount + 1;
+            if (nextRetryCount >= MAX_RETRY_ATTEMPTS) {
+                metrics.recordRetries(retryCount);
+                LOGGER.error("Failed to process event score after {} retry attempts for event id {}", MAX_RETRY_ATTEMPTS, eventId, e);
+            } else {
+                LOGGER.warn("Temporary error while processing event score for event id {}. Will retry. Error: {}", eventId, e.getMessage());
+                retryScheduler.scheduleRetry(() -> attempt(nextRetryCount, scheduledAtMs), RetryScheduler.backoffDelayMs(nextRetryCount));
+            }
+        } catch (Exception e) {
+            // For other exceptions, don't retry
+            metrics.recordRetries(retryCount);
+            LOGGER.error("Unrecoverable error while processing event score for event id {}", eventId, e);
+        }
+    }
+
+    /**
+     * Gets the prepared fetch of the event score, preparing it on the first tick rather than when the
+     * event goes live, so that status updates never build upstream requests. Ticks racing on the first
+     * preparation at worst prepare it twice; the prepared fetch is immutable.
+     *
+     * @return the fetch of the event score
+     */
+    private ScoreFetch scoreFetch() {
+        ScoreFetch fetch = scoreFetch;
+        if (fetch == null) {
+            fetch = scoreSource.prepareFetch(eventId);
+            scoreFetch = fetch;
+        }
+        return fetch;
+    }
+
+    /**
+     * Completes the publish of a score. A failed score is forgotten so that the next tick publishes it again.
+     *
+     * @param result the send result, unused
+     * @param ex the failure of the send, null if it was acknowledged
+     */
+    private void onPublished(Object result, Throwable ex) {
+        if (ex != null) {
+            changeDetector.clear(eventId);
         }
     }
 }
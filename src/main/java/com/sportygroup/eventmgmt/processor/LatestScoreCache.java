@@ -0,0 +1,297 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.model.LatestScore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Bounded in-memory cache of the latest fetched score of every live event.
+ * Processors record each fetched score, changed or not, so current scores can be read without
+ * consuming the Kafka topic or calling the upstream API again.
+ * <p>
+ * An entry is stamped with the time its score was fetched, is evicted when its event goes not live, and
+ * expires once it is older than the TTL, e.g. when polling of its upstream is paused. Besides the map of
+ * entries by event ID, the entries are kept in a concurrent sorted set in the order they were fetched, so
+ * the entry fetched longest ago is always the first one: when the cache grows past its size, expired
+ * entries are swept from the front and, if it is still too large, the first entries make room. Lookups
+ * never lock, and a put only locks the map bin of its event, so processors of different events never wait
+ * for each other. Concurrent puts of new events may overfill the cache by one entry each until their
+ * eviction completes.
+ * <p>
+ * Listeners are notified of every recorded score on the thread of the processor that fetched it,
+ * so they must hand the score off without blocking.
+ */
+@Component
+public class LatestScoreCache {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatestScoreCache.class);
+
+    /** Orders the entries by fetch time, then by the order they were recorded in */
+    private static final Comparator<Entry> FETCH_ORDER = Comparator.<Entry>comparingLong(entry -> entry.fetchedAtMs)
+            .thenComparingLong(entry -> entry.order);
+
+    /** Maximum number of cached events */
+    private final int maxSize;
+
+    /** Time in milliseconds after which a cached score expires, 0 to never expire */
+    private final long ttlMs;
+
+    /** Clock stamping the scores without a fetch time, and expiring the entries */
+    private final Clock clock;
+
+    /** Latest entries by event ID */
+    private final Map<Integer, Entry> scores = new ConcurrentHashMap<>();
+
+    /** Latest entries in the order they were fetched, the one fetched longest ago first */
+    private final NavigableSet<Entry> fetchOrder = new ConcurrentSkipListSet<>(FETCH_ORDER);
+
+    /** Order of the next recorded entry, telling apart the entries fetched in the same millisecond */
+    private final AtomicLong nextOrder = new AtomicLong();
+
+    /** Listeners notified of every recorded score */
+    private final List<Consumer<LatestScore>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new LatestScoreCache.
+     *
+     * @param maxSize maximum number of cached events
+     * @param ttlMs time in milliseconds after which a cached score expires, 0 to never expire
+     */
+    @Autowired
+    public LatestScoreCache(@Value("${eventmgmt.score-cache.max-size:100000}") int maxSize,
+                            @Value("${eventmgmt.score-cache.ttl-ms:60000}") long ttlMs) {
+        this(maxSize, ttlMs, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new LatestScoreCache with the given clock.
+     *
+     * @param maxSize maximum number of cached events
+     * @param ttlMs time in milliseconds after which a cached score expires, 0 to never expire
+     * @param clock clock stamping the scores without a fetch time, and expiring the entries
+     */
+    public LatestScoreCache(int maxSize, long ttlMs, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a fetched score as the latest score of its event, stamped with its fetch time, or the current
+     * time if it has none.
+     *
+     * @param eventScore the fetched score
+     */
+    public void put(EventScore eventScore) {
+        put(eventScore, () -> true);
+    }
+
+    /**
+     * Records a fetched score as the latest score of its event, unless the event is no longer live.
+     * The score is stamped with its fetch time, or the current time if it has none. A score fetched before
+     * the cached one of its event, e.g. by a response arriving late, does not replace it.
+     * <p>
+     * The event is checked again once the score is stored: an event going not live evicts its score after
+     * it stopped being live, so a score stored meanwhile is either evicted by it or removed again here,
+     * and is never left behind.
+     *
+     * @param eventScore the fetched score
+     * @param live tells whether the event is still live
+     * @return true if the event is live, false if it is no longer live and the score must be discarded
+     */
+    public boolean put(EventScore eventScore, BooleanSupplier live) {
+        if (!live.getAsBoolean()) {
+            return false;
+        }
+        long fetchedAtMs = eventScore.getFetchedAt() > 0 ? eventScore.getFetchedAt() : clock.millis();
+        LatestScore latest = new LatestScore(eventScore.getEventId(), eventScore.getScore(), Instant.ofEpochMilli(fetchedAtMs));
+        Entry entry = new Entry(latest, fetchedAtMs, nextOrder.getAndIncrement());
+        boolean[] added = new boolean[1];
+        Entry stored = scores.compute(latest.getEventId(), (eventId, previous) -> {
+            if (previous != null && previous.fetchedAtMs > fetchedAtMs) {
+                return previous;
+            }
+            // The fetch order is only updated under the lock of the bin, so it never holds two entries of an event
+            fetchOrder.add(entry);
+            if (previous != null) {
+                fetchOrder.remove(previous);
+            }
+            added[0] = previous == null;
+            return entry;
+        });
+        if (stored != entry) {
+            return true;
+        }
+        if (!live.getAsBoolean()) {
+            remove(entry);
+            return false;
+        }
+        if (added[0] && scores.size() > maxSize) {
+            makeRoom(clock.millis());
+        }
+        for (Consumer<LatestScore> listener : listeners) {
+            try {
+                listener.accept(latest);
+            } catch (RuntimeException e) {
+                LOGGER.error("Score listener failed for event id {}", latest.getEventId(), e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a listener notified of every recorded score.
+     *
+     * @param listener the listener, which must not block
+     */
+    public void addListener(Consumer<LatestScore> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Gets the latest score of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the latest score, null if none was fetched or it has expired
+     */
+    public LatestScore get(int eventId) {
+        Entry entry = scores.get(eventId);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry, clock.millis())) {
+            remove(entry);
+            return null;
+        }
+        return entry.latest;
+    }
+
+    /**
+     * Gets the latest scores of several events.
+     *
+     * @param eventIds the IDs of the events
+     * @return the latest scores, in the order of the IDs; events without a score are left out
+     */
+    public List<LatestScore> getAll(Collection<Integer> eventIds) {
+        List<LatestScore> latestScores = new ArrayList<>(eventIds.size());
+        for (Integer eventId : eventIds) {
+            LatestScore latest = eventId == null ? null : get(eventId);
+            if (latest != null) {
+                latestScores.add(latest);
+            }
+        }
+        return latestScores;
+    }
+
+    /**
+     * Evicts the latest score of an event, e.g. when the event is no longer live.
+     *
+     * @param eventId the ID of the event
+     */
+    public void evict(int eventId) {
+        scores.computeIfPresent(eventId, (id, entry) -> {
+            fetchOrder.remove(entry);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the number of cached events, including expired entries not swept yet.
+     *
+     * @return the number of cached events
+     */
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * Makes room in the overfilled cache: sweeps the expired entries, which are all at the front of the
+     * fetch order, then evicts the entries fetched longest ago until the cache is back to its size.
+     *
+     * @param now the current time in epoch milliseconds
+     */
+    private void makeRoom(long now) {
+        for (Entry oldest : fetchOrder) {
+            if (!isExpired(oldest, now) && scores.size() <= maxSize) {
+                return;
+            }
+            if (remove(oldest) && !isExpired(oldest, now)) {
+                LOGGER.debug("Score cache is full, evicted the score of event id {}", oldest.latest.getEventId());
+            }
+        }
+    }
+
+    /**
+     * Removes an entry, unless a newer score of its event replaced it meanwhile.
+     *
+     * @param entry the entry
+     * @return true if the entry was removed, false if it was no longer cached
+     */
+    private boolean remove(Entry entry) {
+        boolean[] removed = new boolean[1];
+        scores.computeIfPresent(entry.latest.getEventId(), (eventId, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            fetchOrder.remove(entry);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMs > 0 && now - entry.fetchedAtMs >= ttlMs;
+    }
+
+    /**
+     * Cached score of an event, with its position in the fetch order.
+     */
+    private static final class Entry {
+
+        /** Latest score of the event */
+        private final LatestScore latest;
+
+        /** Time the score was fetched, in epoch milliseconds */
+        private final long fetchedAtMs;
+
+        /** Order the entry was recorded in */
+        private final long order;
+
+        /**
+         * Constructs a new Entry.
+         *
+         * @param latest the latest score of the event
+         * @param fetchedAtMs the time the score was fetched, in epoch milliseconds
+         * @param order the order the entry was recorded in
+         */
+        private Entry(LatestScore latest, long fetchedAtMs, long order) {
+            this.latest = latest;
+            this.fetchedAtMs = fetchedAtMs;
+            this.order = order;
+        }
+    }
+}
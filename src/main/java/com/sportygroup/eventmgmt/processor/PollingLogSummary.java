@@ -0,0 +1,88 @@
+package com.sportygroup.eventmgmt.processor;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampled routine log of the per-event processors.
+ * With thousands of live events, an INFO line per event and tick floods the log and costs more than the
+ * poll itself. Processors count their polls, publishes and retries here instead, and a single INFO line
+ * sums them up at most once per interval. Details of every poll remain available at DEBUG.
+ */
+final class PollingLogSummary {
+
+    /** Default minimum time in milliseconds between two summaries */
+    static final long DEFAULT_INTERVAL_MS = 10000;
+
+    /** Logger the summaries are written to */
+    private final Logger logger;
+
+    /** Minimum time in nanoseconds between two summaries */
+    private final long intervalNanos;
+
+    /** Polls that fetched a score since the last summary */
+    private final LongAdder polls = new LongAdder();
+
+    /** Scores handed to Kafka since the last summary */
+    private final LongAdder published = new LongAdder();
+
+    /** Retry attempts since the last summary */
+    private final LongAdder retries = new LongAdder();
+
+    /** Time in nanoseconds of the last summary */
+    private final AtomicLong lastSummaryNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Constructs a new PollingLogSummary.
+     *
+     * @param logger logger the summaries are written to
+     * @param intervalMs minimum time in milliseconds between two summaries
+     */
+    PollingLogSummary(Logger logger, long intervalMs) {
+        this.logger = logger;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+    }
+
+    /**
+     * Counts a poll that fetched a score.
+     *
+     * @param publish true if the score was handed to Kafka, false if it was unchanged
+     */
+    void recordPoll(boolean publish) {
+        polls.increment();
+        if (publish) {
+            published.increment();
+        }
+        logIfDue();
+    }
+
+    /**
+     * Counts a retry attempt.
+     */
+    void recordRetry() {
+        retries.increment();
+        logIfDue();
+    }
+
+    /**
+     * Writes the summary and resets the counts if the interval has elapsed since the last summary.
+     * Only the thread winning the race for the due summary writes it.
+     */
+    private void logIfDue() {
+        long now = System.nanoTime();
+        long last = lastSummaryNanos.get();
+        if (now - last < intervalNanos || !lastSummaryNanos.compareAndSet(last, now)) {
+            return;
+        }
+        long polled = polls.sumThenReset();
+        long sent = published.sumThenReset();
+        long retried = retries.sumThenReset();
+        if (logger.isInfoEnabled()) {
+            logger.info("Polled {} scores in the last {} ms: {} published, {} unchanged, {} retries",
+                    polled, TimeUnit.NANOSECONDS.toMillis(now - last), sent, polled - sent, retried);
+        }
+    }
+}
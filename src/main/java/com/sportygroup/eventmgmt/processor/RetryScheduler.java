@@ -0,0 +1,34 @@
+package com.sportygroup.eventmgmt.processor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedules the retry of a failed score fetch without blocking the polling thread.
+ * Implemented by the service so that retries run on the same timer and worker threads as the ticks.
+ */
+@FunctionalInterface
+public interface RetryScheduler {
+
+    /** Base delay in milliseconds between retry attempts */
+    long RETRY_DELAY_MS = 1000;
+
+    /**
+     * Schedules a retry attempt.
+     *
+     * @param retry the retry attempt to run
+     * @param delayMs delay in milliseconds before the attempt
+     */
+    void scheduleRetry(Runnable retry, long delayMs);
+
+    /**
+     * Computes the backoff before a retry attempt, growing with each retry.
+     * Half of the backoff is randomised so that events failing in the same tick do not retry in lockstep.
+     *
+     * @param retryCount the number of the upcoming retry attempt, starting at 1
+     * @return the jittered delay in milliseconds
+     */
+    static long backoffDelayMs(int retryCount) {
+        long backoff = RETRY_DELAY_MS * retryCount;
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+}
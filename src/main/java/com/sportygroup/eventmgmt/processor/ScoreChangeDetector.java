@@ -0,0 +1,210 @@
+package com.sportygroup.eventmgmt.processor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a fetched score has to be published, based on the last published score of each live event.
+ * A score is published when it differs from the last published one, or when the heartbeat interval has
+ * elapsed since the last publish so that consumers can still tell a stalled event from a dead one.
+ * <p>
+ * Last published scores are kept in primitive open-addressing tables keyed by event ID, so recording a
+ * score neither boxes the ID nor the score. The tables are split into independently locked segments to
+ * keep processors of different events from contending. Event IDs must be positive; ID 0 is never cached.
+ */
+@Component
+public class ScoreChangeDetector {
+
+    /** Number of independently locked segments, a power of two */
+    private static final int SEGMENTS = 16;
+
+    /** Shift selecting a segment from the high bits of the hash, the low bits pick the slot */
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+
+    /** Interval in milliseconds after which an unchanged score is published again, 0 to disable */
+    @Value("${eventmgmt.publishing.heartbeat-ms:60000}")
+    private long heartbeatMs = 60000;
+
+    /** Segments holding the last published scores */
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * Constructs a new ScoreChangeDetector with empty segments.
+     */
+    public ScoreChangeDetector() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Constructs a new ScoreChangeDetector with the given heartbeat interval.
+     *
+     * @param heartbeatMs interval in milliseconds after which an unchanged score is published again, 0 to
+     *        disable
+     */
+    public ScoreChangeDetector(long heartbeatMs) {
+        this();
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    /**
+     * Checks whether the score of an event has to be published and, if so, records it as the last
+     * published score.
+     *
+     * @param eventId the ID of the event
+     * @param score the fetched score
+     * @return true if the score changed, was never published or is due for a heartbeat, false otherwise
+     */
+    public boolean shouldPublish(int eventId, float score) {
+        if (eventId == Segment.EMPTY) {
+            return true;
+        }
+        return segmentFor(eventId).shouldPublish(eventId, score, System.currentTimeMillis(), heartbeatMs);
+    }
+
+    /**
+     * Forgets the last published score of an event, e.g. when the event is no longer live
+     * or its last publish failed. The next fetched score of the event will be published.
+     *
+     * @param eventId the ID of the event
+     */
+    public void clear(int eventId) {
+        if (eventId != Segment.EMPTY) {
+            segmentFor(eventId).remove(eventId);
+        }
+    }
+
+    /**
+     * Gets the number of events with a recorded last published score.
+     *
+     * @return the number of cached events
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(int eventId) {
+        return segments[mix(eventId) >>> SEGMENT_SHIFT];
+    }
+
+    /**
+     * Spreads the bits of an event ID so that sequential IDs do not cluster.
+     *
+     * @param key the event ID
+     * @return the mixed hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open-addressing table with linear probing mapping an event ID to its last published score and time.
+     * Values are held in parallel primitive arrays. All access is guarded by the segment's monitor.
+     */
+    private static final class Segment {
+
+        /** Key marking a free slot */
+        static final int EMPTY = 0;
+
+        /** Initial number of slots, a power of two */
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] keys = new int[INITIAL_CAPACITY];
+
+        private float[] scores = new float[INITIAL_CAPACITY];
+
+        private long[] publishedAt = new long[INITIAL_CAPACITY];
+
+        private int size;
+
+        synchronized boolean shouldPublish(int eventId, float score, long now, long heartbeatMs) {
+            int slot = indexOf(eventId);
+            if (slot >= 0) {
+                boolean changed = Float.floatToIntBits(scores[slot]) != Float.floatToIntBits(score);
+                boolean heartbeatDue = heartbeatMs > 0 && now - publishedAt[slot] >= heartbeatMs;
+                if (!changed && !heartbeatDue) {
+                    return false;
+                }
+                scores[slot] = score;
+                publishedAt[slot] = now;
+                return true;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            insert(eventId, score, now);
+            size++;
+            return true;
+        }
+
+        synchronized void remove(int eventId) {
+            int slot = indexOf(eventId);
+            if (slot < 0) {
+                return;
+            }
+            // Backward shift deletion keeps probe sequences intact without tombstones
+            int mask = keys.length - 1;
+            int free = slot;
+            int next = (free + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - free) & mask)) {
+                    keys[free] = keys[next];
+                    scores[free] = scores[next];
+                    publishedAt[free] = publishedAt[next];
+                    free = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[free] = EMPTY;
+            size--;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int indexOf(int eventId) {
+            int mask = keys.length - 1;
+            int slot = mix(eventId) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == eventId) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(int eventId, float score, long now) {
+            int mask = keys.length - 1;
+            int slot = mix(eventId) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = eventId;
+            scores[slot] = score;
+            publishedAt[slot] = now;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            float[] oldScores = scores;
+            long[] oldPublishedAt = publishedAt;
+            keys = new int[oldKeys.length * 2];
+            scores = new float[oldKeys.length * 2];
+            publishedAt = new long[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    insert(oldKeys[i], oldScores[i], oldPublishedAt[i]);
+                }
+            }
+        }
+    }
+}
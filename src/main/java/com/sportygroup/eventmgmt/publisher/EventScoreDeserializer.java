@@ -0,0 +1,92 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.ByteUtils;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Kafka deserializer of {@link EventScore} record values written by {@link EventScoreSerializer}.
+ * Records without the {@value EventScoreSerializer#FORMAT_HEADER} header were written by the
+ * {@code JsonSerializer} and are read as JSON, so consumers migrate first and the producers switch to
+ * the binary format afterwards. Records of an unknown format version fail with a {@link
+ * SerializationException}.
+ */
+public class EventScoreDeserializer implements Deserializer<EventScore> {
+
+    /** Reader of the JSON records of producers that have not migrated */
+    private final JsonDeserializer<EventScore> jsonDeserializer = new JsonDeserializer<>(EventScore.class, false);
+
+    /**
+     * Deserializes a score in the format given by the record headers.
+     *
+     * @param topic the record topic
+     * @param headers the record headers
+     * @param data the encoded score, may be null
+     * @return the score, null if the data is null
+     */
+    @Override
+    public EventScore deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header format = headers.lastHeader(EventScoreSerializer.FORMAT_HEADER);
+        if (format == null) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+        byte[] version = format.value();
+        if (version == null || version.length != 1 || version[0] != EventScoreSerializer.VERSION) {
+            throw new SerializationException("Unsupported EventScore format version on topic " + topic);
+        }
+        return deserialize(topic, data);
+    }
+
+    /**
+     * Deserializes a score in the current binary format, for records read without their headers.
+     *
+     * @param topic the record topic
+     * @param data the encoded score, may be null
+     * @return the score, null if the data is null
+     */
+    @Override
+    public EventScore deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            int flags = buffer.get();
+            EventScore eventScore = new EventScore(buffer.getInt(), buffer.getFloat());
+            long timestamp = 0;
+            if ((flags & EventScoreSerializer.SCHEDULED_AT) != 0) {
+                timestamp += ByteUtils.readVarlong(buffer);
+                eventScore.setScheduledAt(timestamp);
+            }
+            if ((flags & EventScoreSerializer.FETCHED_AT) != 0) {
+                timestamp += ByteUtils.readVarlong(buffer);
+                eventScore.setFetchedAt(timestamp);
+            }
+            if ((flags & EventScoreSerializer.PUBLISHED_AT) != 0) {
+                timestamp += ByteUtils.readVarlong(buffer);
+                eventScore.setPublishedAt(timestamp);
+            }
+            if ((flags & EventScoreSerializer.SEQUENCE) != 0) {
+                eventScore.setSequence(eventScore.getPublishedAt() * 1000 + ByteUtils.readVarlong(buffer));
+            }
+            return eventScore;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new SerializationException("Truncated or corrupt EventScore record on topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,236 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishing stage between the score processors and Kafka.
+ * Every record is keyed by its event ID, so all updates of one event land on the same partition in order.
+ * The number of sends awaiting a broker acknowledgement is capped: when the cap is reached, publishing
+ * blocks for a bounded time and processors skip fetching, so a slow broker slows polling down instead
+ * of piling up unsent records. Callers running in a completion stage, which must not hold their thread,
+ * use {@link #tryPublish(EventScore)} to drop the record at once instead. Sent, failed and dropped records
+ * are counted, and the time from every send to its acknowledgement is recorded.
+ * <p>
+ * Every record is stamped with its publish time and a sequence number just before it is sent. Sequence
+ * numbers are the publish time in microseconds, bumped by one where that would not exceed the previous
+ * record, so they increase for every event across restarts and across instances taking an event over,
+ * as long as their clocks agree. Consumers drop a record whose sequence is not above the last one they
+ * applied for its event. The time from the fetch and from the scheduled poll to the publish is recorded.
+ */
+@Component
+public class ScorePublisher {
+
+    /** Kafka topic name for publishing event scores */
+    public static final String TOPIC_NAME = "event-score-processor";
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScorePublisher.class);
+
+    /** Kafka template for publishing messages */
+    private final KafkaTemplate<Integer, EventScore> kafkaTemplate;
+
+    /** Permits for the sends awaiting acknowledgement */
+    private final Semaphore inFlightPermits;
+
+    /** Maximum number of sends awaiting acknowledgement */
+    private final int maxInFlight;
+
+    /** Maximum time in milliseconds to wait for a permit before dropping a record */
+    private final long maxBlockMs;
+
+    /** Meters the sends are recorded in */
+    private final PollingMetrics metrics;
+
+    /** Sequence number of the last stamped record */
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    /** Number of records acknowledged by the broker */
+    private final LongAdder sentRecords = new LongAdder();
+
+    /** Number of records the broker failed to acknowledge */
+    private final LongAdder failedRecords = new LongAdder();
+
+    /** Number of records dropped because the in-flight cap stayed reached */
+    private final LongAdder droppedRecords = new LongAdder();
+
+    /**
+     * Constructs a new ScorePublisher.
+     *
+     * @param kafkaTemplate Kafka template for publishing messages
+     * @param maxInFlight maximum number of sends awaiting acknowledgement
+     * @param maxBlockMs maximum time in milliseconds to wait for a free slot before dropping a record
+     * @param metrics meters the sends are recorded in
+     */
+    public ScorePublisher(KafkaTemplate<Integer, EventScore> kafkaTemplate,
+                          @Value("${eventmgmt.publishing.max-in-flight:1000}") int maxInFlight,
+                          @Value("${eventmgmt.publishing.max-block-ms:5000}") long maxBlockMs,
+                          PollingMetrics metrics) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight sends must be positive: " + maxInFlight);
+        }
+        this.kafkaTemplate = kafkaTemplate;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.maxBlockMs = maxBlockMs;
+        this.metrics = metrics;
+        metrics.registerKafkaInFlight(this::getInFlight);
+    }
+
+    /**
+     * Publishes an event score keyed by its event ID.
+     * Blocks while the in-flight cap is reached, for at most the configured time, then stamps the score
+     * with its publish time and sequence number.
+     *
+     * @param eventScore the score to publish
+     * @return a future completed when the broker acknowledged the record, or failed if the send failed
+     *         or the record was dropped
+     */
+    public CompletableFuture<SendResult<Integer, EventScore>> publish(EventScore eventScore) {
+        try {
+            if (!inFlightPermits.tryAcquire(maxBlockMs, TimeUnit.MILLISECONDS)) {
+                return drop(eventScore);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedRecords.increment();
+            metrics.recordSendDropped();
+            return CompletableFuture.failedFuture(e);
+        }
+        return send(eventScore);
+    }
+
+    /**
+     * Publishes an event score keyed by its event ID without ever blocking the calling thread.
+     * The record is dropped at once if the in-flight cap is reached.
+     *
+     * @param eventScore the score to publish
+     * @return a future completed when the broker acknowledged the record, or failed if the send failed
+     *         or the record was dropped
+     */
+    public CompletableFuture<SendResult<Integer, EventScore>> tryPublish(EventScore eventScore) {
+        if (!inFlightPermits.tryAcquire()) {
+            return drop(eventScore);
+        }
+        return send(eventScore);
+    }
+
+    /**
+     * Counts a record dropped because the in-flight cap was reached.
+     *
+     * @param eventScore the dropped score
+     * @return a future failed with a {@link TimeoutException}
+     */
+    private CompletableFuture<SendResult<Integer, EventScore>> drop(EventScore eventScore) {
+        droppedRecords.increment();
+        metrics.recordSendDropped();
+        LOGGER.warn("Dropping score of event id {}, {} sends still awaiting the broker", eventScore.getEventId(), maxInFlight);
+        return CompletableFuture.failedFuture(new TimeoutException("Kafka publishing is saturated"));
+    }
+
+    /**
+     * Stamps a score with its publish time and sequence number and sends it, holding an in-flight permit
+     * until the broker acknowledged it.
+     *
+     * @param eventScore the score to send
+     * @return a future completed when the broker acknowledged the record, or failed if the send failed
+     */
+    private CompletableFuture<SendResult<Integer, EventScore>> send(EventScore eventScore) {
+        long publishedAt = System.currentTimeMillis();
+        eventScore.setPublishedAt(publishedAt);
+        eventScore.setSequence(nextSequence(publishedAt));
+        metrics.recordPublishLag(eventScore);
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<Integer, EventScore>> sendFuture;
+        try {
+            sendFuture = kafkaTemplate.send(TOPIC_NAME, eventScore.getEventId(), eventScore);
+        } catch (RuntimeException e) {
+            inFlightPermits.release();
+            failedRecords.increment();
+            metrics.recordSend(start, e);
+            LOGGER.error("Failed to send score of event id {} to kafka", eventScore.getEventId(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendFuture.whenComplete((result, ex) -> {
+            inFlightPermits.release();
+            metrics.recordSend(start, ex);
+            if (ex != null) {
+                failedRecords.increment();
+                LOGGER.error("Kafka did not acknowledge score of event id {}", eventScore.getEventId(), ex);
+            } else {
+                sentRecords.increment();
+            }
+        });
+    }
+
+    /**
+     * Assigns the next sequence number: the publish time in microseconds, or one more than the previous
+     * number if that is not lower.
+     *
+     * @param publishedAt publish time in epoch milliseconds
+     * @return the sequence number
+     */
+    private long nextSequence(long publishedAt) {
+        long candidate = TimeUnit.MILLISECONDS.toMicros(publishedAt);
+        return lastSequence.updateAndGet(previous -> Math.max(previous + 1, candidate));
+    }
+
+    /**
+     * Checks whether the in-flight cap is reached, in which case fetching more scores should be held back.
+     *
+     * @return true if no more sends can be started right now, false otherwise
+     */
+    public boolean isSaturated() {
+        return inFlightPermits.availablePermits() == 0;
+    }
+
+    /**
+     * Gets the number of sends awaiting acknowledgement.
+     *
+     * @return the in-flight send count
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+
+    /**
+     * Gets the number of records acknowledged by the broker.
+     *
+     * @return the sent record count
+     */
+    public long getSentRecords() {
+        return sentRecords.sum();
+    }
+
+    /**
+     * Gets the number of records the broker failed to acknowledge.
+     *
+     * @return the failed record count
+     */
+    public long getFailedRecords() {
+        return failedRecords.sum();
+    }
+
+    /**
+     * Gets the number of records dropped because the in-flight cap stayed reached.
+     *
+     * @return the dropped record count
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+}
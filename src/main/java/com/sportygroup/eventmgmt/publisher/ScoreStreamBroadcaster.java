@@ -0,0 +1,389 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.model.LatestScore;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans the fetched scores of live events out to Server-Sent Events subscribers.
+ * Every score recorded in the {@link LatestScoreCache} is offered to the subscribers of its event.
+ * Offering never blocks the processor: each subscriber has a bounded buffer that drops its oldest
+ * score when full, so a buffer of one coalesces to the latest score. Buffers are drained by a small
+ * shared pool of threads, and a connection only holds a thread while a score is being written to it,
+ * so thousands of subscribers share a handful of threads.
+ * <p>
+ * Writes to the client connection block while its TCP window is full, so a handful of stalled clients
+ * could hold every sender thread. A watchdog therefore unsubscribes every stream whose write has not
+ * returned within the write timeout, so no more scores are queued for it, and interrupts the sender
+ * thread blocked in it. The emitter holds its lock during a write, so finishing it with an error waits
+ * for the write to return; it is finished on a separate closer thread, which leaves the watchdog free to
+ * go on with the other streams. A write that does not return on the interrupt holds its sender thread,
+ * and the closer thread, until the servlet container fails it on its own socket timeout.
+ */
+@Component
+public class ScoreStreamBroadcaster {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreStreamBroadcaster.class);
+
+    /** Name of the server-sent event carrying a score */
+    static final String SCORE_EVENT = "score";
+
+    /** Cache of the latest fetched scores, the source of the streamed scores */
+    private final LatestScoreCache scoreCache;
+
+    /** Maximum number of scores buffered per subscriber */
+    private final int bufferSize;
+
+    /** Time in milliseconds after which a stream is closed, 0 to never time out */
+    private final long timeoutMs;
+
+    /** Time in nanoseconds a write to a subscriber may take before its stream is closed, 0 for no limit */
+    private final long writeTimeoutNanos;
+
+    /** Pool of threads writing the buffered scores to the subscribers */
+    private final ExecutorService senderPool;
+
+    /** Thread closing the streams whose write timed out, null if writes are not limited */
+    private final ScheduledExecutorService watchdog;
+
+    /** Threads finishing the emitters of the streams whose write timed out, null if writes are not limited */
+    private final ExecutorService closer;
+
+    /** Subscribers by event ID */
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /** Number of scores dropped from full subscriber buffers */
+    private final LongAdder droppedScores = new LongAdder();
+
+    /**
+     * Constructs a new ScoreStreamBroadcaster and registers it with the score cache.
+     *
+     * @param scoreCache cache of the latest fetched scores
+     * @param bufferSize maximum number of scores buffered per subscriber
+     * @param timeoutMs time in milliseconds after which a stream is closed, 0 to never time out
+     * @param senderThreads number of threads writing the scores to the subscribers
+     * @param writeTimeoutMs time in milliseconds a write to a subscriber may take before its stream is closed,
+     *                       0 for no limit
+     */
+    public ScoreStreamBroadcaster(LatestScoreCache scoreCache,
+                                  @Value("${eventmgmt.stream.buffer-size:16}") int bufferSize,
+                                  @Value("${eventmgmt.stream.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${eventmgmt.stream.sender-threads:4}") int senderThreads,
+                                  @Value("${eventmgmt.stream.write-timeout-ms:5000}") long writeTimeoutMs) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Stream buffer size must be positive: " + bufferSize);
+        }
+        this.scoreCache = scoreCache;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senderPool = Executors.newFixedThreadPool(senderThreads, task -> {
+            Thread thread = new Thread(task, "score-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, writeTimeoutMs));
+        if (writeTimeoutMs > 0) {
+            this.watchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "score-stream-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long checkPeriodMs = Math.max(1, writeTimeoutMs / 2);
+            watchdog.scheduleWithFixedDelay(this::closeTimedOutWrites, checkPeriodMs, checkPeriodMs, TimeUnit.MILLISECONDS);
+            AtomicInteger closerCount = new AtomicInteger();
+            this.closer = Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "score-stream-closer-" + closerCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.watchdog = null;
+            this.closer = null;
+        }
+        scoreCache.addListener(this::broadcast);
+    }
+
+    /**
+     * Opens a stream of the scores of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the emitter of the stream
+     */
+    public SseEmitter subscribe(int eventId) {
+        return subscribe(eventId, new SseEmitter(timeoutMs));
+    }
+
+    /**
+     * Subscribes an emitter to the scores of an event.
+     * The latest known score of the event, if any, is sent first so the client starts from the current state.
+     *
+     * @param eventId the ID of the event
+     * @param emitter the emitter of the stream
+     * @return the emitter
+     */
+    public SseEmitter subscribe(int eventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        // Added inside compute so that a concurrent unsubscribe cannot drop the set it is added to
+        subscribers.compute(eventId, (key, eventSubscribers) -> {
+            Set<Subscriber> updated = eventSubscribers != null ? eventSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        LOGGER.debug("Opened score stream for event id {}", eventId);
+
+        LatestScore latest = scoreCache.get(eventId);
+        if (latest != null) {
+            subscriber.offer(latest);
+        }
+        return emitter;
+    }
+
+    /**
+     * Offers a fetched score to every subscriber of its event, without blocking.
+     *
+     * @param latestScore the fetched score
+     */
+    public void broadcast(LatestScore latestScore) {
+        Set<Subscriber> eventSubscribers = subscribers.get(latestScore.getEventId());
+        if (eventSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : eventSubscribers) {
+            subscriber.offer(latestScore);
+        }
+    }
+
+    /**
+     * Gets the number of open streams of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount(int eventId) {
+        Set<Subscriber> eventSubscribers = subscribers.get(eventId);
+        return eventSubscribers == null ? 0 : eventSubscribers.size();
+    }
+
+    /**
+     * Gets the number of scores dropped because a subscriber did not keep up.
+     *
+     * @return the number of dropped scores
+     */
+    public long getDroppedScores() {
+        return droppedScores.sum();
+    }
+
+    /**
+     * Closes all streams when the application shuts down.
+     */
+    @PreDestroy
+    public void stop() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+            closer.shutdownNow();
+        }
+        senderPool.shutdownNow();
+        for (Set<Subscriber> eventSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : eventSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Closes every stream whose write has not returned within the write timeout.
+     */
+    private void closeTimedOutWrites() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> eventSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : eventSubscribers) {
+                subscriber.closeIfWriteTimedOut(now);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventId, (key, eventSubscribers) -> {
+            eventSubscribers.remove(subscriber);
+            return eventSubscribers.isEmpty() ? null : eventSubscribers;
+        });
+    }
+
+    /**
+     * Stream of one client with its bounded buffer of scores to send.
+     */
+    private final class Subscriber {
+
+        /** ID of the streamed event */
+        private final int eventId;
+
+        /** Emitter writing to the client connection */
+        private final SseEmitter emitter;
+
+        /** Scores waiting to be sent, guarded by this subscriber */
+        private final ArrayDeque<LatestScore> buffer = new ArrayDeque<>();
+
+        /** Flag indicating whether a drain of the buffer is scheduled or running, guarded by this subscriber */
+        private boolean draining;
+
+        /** Thread writing a score to the client, null between writes, guarded by this subscriber */
+        private Thread writer;
+
+        /** {@link System#nanoTime()} at which the current write started, guarded by this subscriber */
+        private long writeStartedNanos;
+
+        /** Flag indicating whether the stream was closed, guarded by this subscriber */
+        private boolean closed;
+
+        /**
+         * Constructs a new Subscriber.
+         *
+         * @param eventId ID of the streamed event
+         * @param emitter emitter writing to the client connection
+         */
+        private Subscriber(int eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Buffers a score, dropping the oldest one if the buffer is full, and schedules a drain.
+         *
+         * @param latestScore the score to send
+         */
+        private void offer(LatestScore latestScore) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedScores.increment();
+                }
+                buffer.addLast(latestScore);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                senderPool.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Score stream of event id {} not drained, streaming is shutting down", eventId);
+            }
+        }
+
+        /**
+         * Sends the buffered scores until the buffer is empty.
+         */
+        private void drain() {
+            while (true) {
+                LatestScore next;
+                synchronized (this) {
+                    next = closed ? null : buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    writer = Thread.currentThread();
+                    writeStartedNanos = System.nanoTime();
+                }
+                try {
+                    emitter.send(SseEmitter.event().name(SCORE_EVENT).data(next, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away, the stream is already closed or the write timed out
+                    close(e);
+                    return;
+                } finally {
+                    synchronized (this) {
+                        writer = null;
+                    }
+                    // Clears an interrupt of the watchdog so that it cannot hit the next write of this thread
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        /**
+         * Closes the stream if its current write has been blocked for longer than the write timeout,
+         * interrupting the sender thread blocked in it. The emitter is finished on a closer thread, as
+         * finishing it waits for the blocked write.
+         *
+         * @param now the current {@link System#nanoTime()}
+         */
+        private void closeIfWriteTimedOut(long now) {
+            synchronized (this) {
+                if (writer == null || now - writeStartedNanos < writeTimeoutNanos || !markClosed()) {
+                    return;
+                }
+                // Interrupted under the lock, which the writer takes before moving on to another write
+                writer.interrupt();
+            }
+            IOException cause = new IOException("Score stream write timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos) + " ms");
+            LOGGER.debug("Closing score stream of event id {}: {}", eventId, cause.getMessage());
+            unsubscribe(this);
+            try {
+                closer.execute(() -> emitter.completeWithError(cause));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Score stream of event id {} not finished, streaming is shutting down", eventId);
+            }
+        }
+
+        /**
+         * Closes the stream with an error and unsubscribes it. Closing a closed stream does nothing.
+         *
+         * @param cause the cause of the closing
+         */
+        private void close(Throwable cause) {
+            synchronized (this) {
+                if (!markClosed()) {
+                    return;
+                }
+            }
+            LOGGER.debug("Closing score stream of event id {}: {}", eventId, cause.getMessage());
+            unsubscribe(this);
+            emitter.completeWithError(cause);
+        }
+
+        /**
+         * Marks the stream closed and discards its buffer, so nothing is buffered or drained for it any more.
+         * Must be called while holding the lock of this subscriber.
+         *
+         * @return true if the stream was open, false if it was already closed
+         */
+        private boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            buffer.clear();
+            return true;
+        }
+    }
+}
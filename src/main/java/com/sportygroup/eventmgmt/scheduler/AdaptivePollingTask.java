@@ -0,0 +1,204 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Polling task whose period may change from one run to the next.
+ * Instead of a fixed-rate schedule, each run schedules the next one as a one-shot task after the delay
+ * returned by the delay supplier, so the cadence of an event can follow how often its score changes.
+ * <p>
+ * The task is returned to callers as a {@link ScheduledFuture} standing for the whole chain of runs:
+ * cancelling it cancels the pending run and stops any further rescheduling. A run never overlaps with
+ * the next one, since the next run is only scheduled once the current one has returned.
+ * Every run is told the time it was due, and how late it started is reported to a lag recorder.
+ */
+public class AdaptivePollingTask implements ScheduledFuture<Void>, Runnable {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptivePollingTask.class);
+
+    /**
+     * Schedules a one-shot run of a task, on the executor or the timing wheel.
+     */
+    @FunctionalInterface
+    public interface DelayScheduler {
+
+        /**
+         * Schedules a task to run once after the given delay.
+         *
+         * @param task the task to run
+         * @param delayMs delay in milliseconds before the run
+         * @return the future of the scheduled run
+         * @throws RejectedExecutionException if the scheduler has been shut down
+         */
+        ScheduledFuture<?> schedule(Runnable task, long delayMs);
+    }
+
+    /** The polling task to run */
+    private final PollingRun task;
+
+    /** Supplies the delay in milliseconds before the next run */
+    private final LongSupplier nextDelayMs;
+
+    /** Scheduler of the one-shot runs */
+    private final DelayScheduler scheduler;
+
+    /** Receives how late every run started, in nanoseconds */
+    private final LongConsumer lagRecorder;
+
+    /** {@link System#nanoTime()} at which the pending run is due */
+    private volatile long dueNanos;
+
+    /** Future of the pending run */
+    private volatile ScheduledFuture<?> pending;
+
+    /** Flag indicating whether the task has been cancelled */
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs a new AdaptivePollingTask. The task is not scheduled until {@link #start(long)} is called.
+     *
+     * @param task the polling task to run
+     * @param nextDelayMs supplies the delay in milliseconds before the next run, evaluated after each run
+     * @param scheduler scheduler of the one-shot runs
+     * @param lagRecorder receives how late every run started compared to its due time, in nanoseconds
+     */
+    public AdaptivePollingTask(PollingRun task, LongSupplier nextDelayMs, DelayScheduler scheduler, LongConsumer lagRecorder) {
+        this.task = task;
+        this.nextDelayMs = nextDelayMs;
+        this.scheduler = scheduler;
+        this.lagRecorder = lagRecorder;
+    }
+
+    /**
+     * Schedules the first run.
+     *
+     * @param initialDelayMs delay in milliseconds before the first run
+     * @return this task, as the future of the chain of runs
+     * @throws RejectedExecutionException if the scheduler has been shut down
+     */
+    public AdaptivePollingTask start(long initialDelayMs) {
+        scheduleNext(initialDelayMs);
+        return this;
+    }
+
+    /**
+     * Gets the polling task run by this schedule.
+     *
+     * @return the polling task
+     */
+    public PollingRun getTask() {
+        return task;
+    }
+
+    /**
+     * Runs the polling task and schedules the next run after the then current delay.
+     */
+    @Override
+    public void run() {
+        if (cancelled) {
+            return;
+        }
+        long lagNanos = System.nanoTime() - dueNanos;
+        lagRecorder.accept(lagNanos);
+        try {
+            task.run(System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(lagNanos));
+        } catch (RuntimeException e) {
+            LOGGER.error("Polling task failed", e);
+        }
+        if (cancelled) {
+            return;
+        }
+        try {
+            scheduleNext(nextDelayMs.getAsLong());
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Polling task not rescheduled, score polling is shutting down");
+        }
+    }
+
+    /**
+     * Schedules the next run and records its future as the pending run.
+     * Synchronized so that a run firing before its own future is recorded waits for it, and the future
+     * of the run it schedules is never overwritten by the older one.
+     *
+     * @param delayMs delay in milliseconds before the run
+     */
+    private synchronized void scheduleNext(long delayMs) {
+        dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        ScheduledFuture<?> next = scheduler.schedule(this, delayMs);
+        pending = next;
+        // A cancel racing with the reschedule may have missed the new run
+        if (cancelled) {
+            next.cancel(false);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        ScheduledFuture<?> current = pending;
+        if (current != null) {
+            current.cancel(mayInterruptIfRunning);
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized Void get() throws InterruptedException {
+        while (!cancelled) {
+            wait();
+        }
+        throw new CancellationException();
+    }
+
+    @Override
+    public synchronized Void get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        long remainingNanos = unit.toNanos(timeout);
+        long waitDeadline = System.nanoTime() + remainingNanos;
+        while (!cancelled) {
+            if (remainingNanos <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            remainingNanos = waitDeadline - System.nanoTime();
+        }
+        throw new CancellationException();
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        ScheduledFuture<?> current = pending;
+        return current == null ? 0 : current.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Fixed-rate polling task that skips to the latest tick instead of catching up.
+ * When a fixed-rate run of a {@link java.util.concurrent.ScheduledThreadPoolExecutor} takes longer than its
+ * period, the executor fires the missed ticks back to back as soon as the run returns, bursting the upstream
+ * just when it is slow. This task tracks when the next tick is due. A tick fired a whole period or more after
+ * it was due runs as the latest due tick, and the ticks it skipped are dropped: the task resyncs to the next
+ * tick after now, so the missed ticks the executor still fires are dropped as well. A timer that skips missed
+ * ticks itself, as the timing wheel does, therefore keeps polling on the original cadence after a stall.
+ * A tick fired while the previous run is still in progress, as happens when the runs are handed to other
+ * threads, is dropped too.
+ * <p>
+ * Every skipped tick is reported as coalesced, and how late every run started is reported as lag. The task
+ * must be scheduled with the initial delay and period it was constructed with, right after its construction,
+ * on a timer that never fires a tick before it is due.
+ */
+public class CoalescingPollingTask implements Runnable {
+
+    /** The polling task to run */
+    private final Runnable task;
+
+    /** Period between ticks in nanoseconds */
+    private final long periodNanos;
+
+    /** Receives how late every run started, in nanoseconds */
+    private final LongConsumer lagRecorder;
+
+    /** Receives the number of ticks dropped */
+    private final LongConsumer coalescedRecorder;
+
+    /** {@link System#nanoTime()} at which the next tick fired is due */
+    private final AtomicLong dueNanos;
+
+    /** Flag indicating whether a run is in progress */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Constructs a new CoalescingPollingTask.
+     *
+     * @param task the polling task to run
+     * @param initialDelay delay before the first tick
+     * @param period period between ticks
+     * @param unit time unit of the delay and period
+     * @param lagRecorder receives how late every run started compared to its due time, in nanoseconds
+     * @param coalescedRecorder receives the number of ticks dropped
+     */
+    public CoalescingPollingTask(Runnable task, long initialDelay, long period, TimeUnit unit,
+                                 LongConsumer lagRecorder, LongConsumer coalescedRecorder) {
+        this.task = task;
+        this.periodNanos = unit.toNanos(period);
+        this.lagRecorder = lagRecorder;
+        this.coalescedRecorder = coalescedRecorder;
+        this.dueNanos = new AtomicLong(System.nanoTime() + unit.toNanos(initialDelay));
+    }
+
+    /**
+     * Runs the polling task as the latest due tick, unless that tick already ran or the previous run is still
+     * in progress.
+     */
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        long due;
+        long missed;
+        do {
+            due = dueNanos.get();
+            if (now < due) {
+                // A tick skipped by an earlier late run, fired by a timer catching up
+                return;
+            }
+            missed = (now - due) / periodNanos;
+        } while (!dueNanos.compareAndSet(due, due + (missed + 1) * periodNanos));
+        if (missed > 0) {
+            coalescedRecorder.accept(missed);
+        }
+        if (!running.compareAndSet(false, true)) {
+            coalescedRecorder.accept(1);
+            return;
+        }
+        try {
+            lagRecorder.accept(now - due - missed * periodNanos);
+            task.run();
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free concurrent map from primitive int keys to objects, used to look up events by ID without boxing
+ * the ID. Entries are chained in buckets of immutable nodes. Lookups only read, and every update replaces the
+ * head of one bucket with a compare-and-set, retried when another thread changed the bucket first, so no
+ * thread ever waits for another.
+ * <p>
+ * When the map outgrows its table, the first thread to notice moves the buckets to a table twice the size,
+ * one bucket at a time, and leaves a forwarding node in every bucket it moved. Lookups and updates meeting
+ * a forwarding node continue in the new table, and updates of the buckets not moved yet go on in the old one,
+ * so a resize never blocks the other threads either.
+ *
+ * @param <V> the type of the values
+ */
+final class ConcurrentIntObjectMap<V> {
+
+    /** Initial number of buckets, a power of two */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Current table of buckets */
+    private volatile Table<V> table = new Table<>(INITIAL_CAPACITY);
+
+    /** Number of entries */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /** Flag indicating whether a thread is moving the entries to a larger table */
+    private final AtomicBoolean resizing = new AtomicBoolean();
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key
+     * @return the value, null if the key is not mapped
+     */
+    V get(int key) {
+        Table<V> current = table;
+        while (true) {
+            Node<V> node = current.buckets.get(current.indexOf(key));
+            if (node instanceof Forward<V> forward) {
+                current = forward.target;
+                continue;
+            }
+            for (; node != null; node = node.next) {
+                if (node.key == key) {
+                    return node.value;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Maps a key to a value unless it is already mapped.
+     *
+     * @param key the key
+     * @param value the value, not null
+     * @return the current value of the key, null if the value was stored
+     */
+    V putIfAbsent(int key, V value) {
+        Table<V> current = table;
+        while (true) {
+            int index = current.indexOf(key);
+            Node<V> head = current.buckets.get(index);
+            if (head instanceof Forward<V> forward) {
+                current = forward.target;
+                continue;
+            }
+            for (Node<V> node = head; node != null; node = node.next) {
+                if (node.key == key) {
+                    return node.value;
+                }
+            }
+            if (current.buckets.compareAndSet(index, head, new Node<>(key, value, head))) {
+                if (size.incrementAndGet() > current.threshold()) {
+                    resize();
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Removes a key if it is mapped to the given value.
+     *
+     * @param key the key
+     * @param value the expected value
+     * @return true if the entry was removed, false otherwise
+     */
+    boolean remove(int key, V value) {
+        Table<V> current = table;
+        while (true) {
+            int index = current.indexOf(key);
+            Node<V> head = current.buckets.get(index);
+            if (head instanceof Forward<V> forward) {
+                current = forward.target;
+                continue;
+            }
+            Node<V> removed = head;
+            while (removed != null && removed.key != key) {
+                removed = removed.next;
+            }
+            if (removed == null || !removed.value.equals(value)) {
+                return false;
+            }
+            // Nodes are immutable, so the nodes ahead of the removed one are copied onto the rest of the chain
+            Node<V> chain = removed.next;
+            for (Node<V> node = head; node != removed; node = node.next) {
+                chain = new Node<>(node.key, node.value, chain);
+            }
+            if (current.buckets.compareAndSet(index, head, chain)) {
+                size.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Passes every entry to an action. Entries added or removed meanwhile may or may not be seen,
+     * but an entry present throughout is seen exactly once.
+     *
+     * @param action receives the value and the key of every entry
+     */
+    void forEach(ObjIntConsumer<? super V> action) {
+        Table<V> current = table;
+        for (int index = 0; index < current.buckets.length(); index++) {
+            forEach(current, index, action);
+        }
+    }
+
+    /**
+     * Counts the entries whose value matches a predicate.
+     *
+     * @param filter tells whether the value of an entry counts
+     * @return the number of matching entries
+     */
+    int count(Predicate<? super V> filter) {
+        int[] count = new int[1];
+        forEach((value, key) -> {
+            if (filter.test(value)) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Passes the entries of one bucket to an action, following the bucket to the larger table if it
+     * was moved.
+     *
+     * @param current the table of the bucket
+     * @param index the index of the bucket
+     * @param action receives the value and the key of every entry
+     */
+    private void forEach(Table<V> current, int index, ObjIntConsumer<? super V> action) {
+        Node<V> node = current.buckets.get(index);
+        if (node instanceof Forward<V> forward) {
+            // A bucket of a table splits into the same index and the index one table length higher
+            forEach(forward.target, index, action);
+            forEach(forward.target, index + current.buckets.length(), action);
+            return;
+        }
+        for (; node != null; node = node.next) {
+            action.accept(node.value, node.key);
+        }
+    }
+
+    /**
+     * Moves the entries to a table twice the size, unless another thread is already doing so.
+     * Each bucket is split into its two buckets of the new table before a forwarding node replaces it.
+     * The new buckets are only reachable through that node, so no other thread updates them before the
+     * move of their bucket succeeded; a move losing the race against an update of its bucket is repeated.
+     */
+    private void resize() {
+        if (!resizing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Table<V> old = table;
+            if (size.get() <= old.threshold()) {
+                return;
+            }
+            int length = old.buckets.length();
+            Table<V> larger = new Table<>(length * 2);
+            Forward<V> forward = new Forward<>(larger);
+            for (int index = 0; index < length; index++) {
+                while (true) {
+                    Node<V> head = old.buckets.get(index);
+                    Node<V> low = null;
+                    Node<V> high = null;
+                    for (Node<V> node = head; node != null; node = node.next) {
+                        if (larger.indexOf(node.key) == index) {
+                            low = new Node<>(node.key, node.value, low);
+                        } else {
+                            high = new Node<>(node.key, node.value, high);
+                        }
+                    }
+                    larger.buckets.set(index, low);
+                    larger.buckets.set(index + length, high);
+                    if (old.buckets.compareAndSet(index, head, forward)) {
+                        break;
+                    }
+                }
+            }
+            table = larger;
+        } finally {
+            resizing.set(false);
+        }
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential IDs do not cluster.
+     *
+     * @param key the key
+     * @return the mixed hash
+     */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Power-of-two array of buckets, each holding the head of a chain of nodes.
+     *
+     * @param <V> the type of the values
+     */
+    private static final class Table<V> {
+
+        /** Heads of the bucket chains */
+        private final AtomicReferenceArray<Node<V>> buckets;
+
+        /**
+         * Constructs a new Table of empty buckets.
+         *
+         * @param capacity the number of buckets, a power of two
+         */
+        private Table(int capacity) {
+            buckets = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * Gets the bucket of a key.
+         *
+         * @param key the key
+         * @return the index of its bucket
+         */
+        private int indexOf(int key) {
+            return mix(key) & (buckets.length() - 1);
+        }
+
+        /**
+         * Gets the number of entries above which the table is replaced by a larger one.
+         *
+         * @return three quarters of the number of buckets
+         */
+        private int threshold() {
+            return buckets.length() - (buckets.length() >>> 2);
+        }
+    }
+
+    /**
+     * Immutable entry of a bucket chain.
+     *
+     * @param <V> the type of the values
+     */
+    private static class Node<V> {
+
+        /** Key of the entry */
+        private final int key;
+
+        /** Value of the entry */
+        private final V value;
+
+        /** Next node of the chain, null at its end */
+        private final Node<V> next;
+
+        /**
+         * Constructs a new Node.
+         *
+         * @param key the key of the entry
+         * @param value the value of the entry
+         * @param next the next node of the chain
+         */
+        private Node(int key, V value, Node<V> next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Marker left in a bucket whose entries were moved to a larger table.
+     *
+     * @param <V> the type of the values
+     */
+    private static final class Forward<V> extends Node<V> {
+
+        /** Table the entries were moved to */
+        private final Table<V> target;
+
+        /**
+         * Constructs a new Forward.
+         *
+         * @param target the table the entries were moved to
+         */
+        private Forward(Table<V> target) {
+            super(0, null, null);
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Registry of the polling lifecycle of every live event.
+ * Each registered event is an explicit state machine:
+ * <pre>
+ *   SCHEDULING --&gt; LIVE --&gt; CANCELLING --&gt; STOPPED
+ *        |                        ^
+ *        +------------------------+
+ * </pre>
+ * Every transition is a compare-and-set on the state of the event, and an event is only registered
+ * through {@link ConcurrentIntObjectMap#putIfAbsent}, so concurrent live and not-live requests for the
+ * same event can never schedule two polling tasks, nor leave a task running after the event went not live.
+ * Registrations are keyed by the primitive event ID in a lock-free {@link ConcurrentIntObjectMap}, so
+ * looking an event up never boxes its ID and the registry stays lock-free.
+ * <p>
+ * A not-live request arriving while the polling task is still being scheduled moves the event to
+ * CANCELLING; the scheduling thread then cancels the task it just created. A live request arriving
+ * while the event is being cancelled waits for the cancellation to finish and registers it again.
+ */
+public class EventLifecycleRegistry {
+
+    /**
+     * Lifecycle states of a registered event.
+     */
+    public enum State {
+        /** The polling task of the event is being created */
+        SCHEDULING,
+        /** The polling task of the event is scheduled */
+        LIVE,
+        /** The polling task of the event is being cancelled */
+        CANCELLING,
+        /** The event is not polled */
+        STOPPED
+    }
+
+    /** Registrations by event ID */
+    private final ConcurrentIntObjectMap<Registration> registrations = new ConcurrentIntObjectMap<>();
+
+    /**
+     * Registers a live event and starts its polling task, unless the event is already polled.
+     * The starter receives the liveness of this registration, which turns false as soon as the event
+     * goes not live and stays false even if the event goes live again later with a new registration.
+     *
+     * @param eventId the ID of the event
+     * @param starter schedules the polling task of the event and returns its future
+     * @return true if the polling task was started, false if the event was already polled
+     * @throws RuntimeException if the starter fails, in which case the event is left unregistered
+     */
+    public boolean startPolling(int eventId, Function<BooleanSupplier, ScheduledFuture<?>> starter) {
+        Registration registration = new Registration();
+        while (true) {
+            Registration current = registrations.putIfAbsent(eventId, registration);
+            if (current == null) {
+                break;
+            }
+            State state = current.state.get();
+            if (state == State.SCHEDULING || state == State.LIVE) {
+                return false;
+            }
+            // The previous registration is going away, help remove it once stopped and try again
+            if (state == State.STOPPED) {
+                registrations.remove(eventId, current);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+
+        ScheduledFuture<?> future;
+        try {
+            future = starter.apply(registration::isActive);
+        } catch (RuntimeException e) {
+            registration.state.set(State.STOPPED);
+            registrations.remove(eventId, registration);
+            throw e;
+        }
+        registration.future = future;
+        if (!registration.state.compareAndSet(State.SCHEDULING, State.LIVE)) {
+            // A not-live request came in while scheduling, so it is up to this thread to cancel
+            future.cancel(true);
+            registration.state.set(State.STOPPED);
+            registrations.remove(eventId, registration);
+        }
+        return true;
+    }
+
+    /**
+     * Cancels the polling task of an event and unregisters it.
+     *
+     * @param eventId the ID of the event
+     * @return true if this call stopped the event, false if it was not polled or already being stopped
+     */
+    public boolean stopPolling(int eventId) {
+        Registration registration = registrations.get(eventId);
+        if (registration == null) {
+            return false;
+        }
+        while (true) {
+            State state = registration.state.get();
+            if (state == State.SCHEDULING) {
+                if (registration.state.compareAndSet(State.SCHEDULING, State.CANCELLING)) {
+                    // The scheduling thread sees the failed transition to LIVE and cancels the task
+                    return true;
+                }
+            } else if (state == State.LIVE) {
+                if (registration.state.compareAndSet(State.LIVE, State.CANCELLING)) {
+                    registration.future.cancel(true);
+                    registration.state.set(State.STOPPED);
+                    registrations.remove(eventId, registration);
+                    return true;
+                }
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Gets the lifecycle state of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the state of the event, STOPPED if it is not registered
+     */
+    public State getState(int eventId) {
+        Registration registration = registrations.get(eventId);
+        return registration == null ? State.STOPPED : registration.state.get();
+    }
+
+    /**
+     * Checks whether an event is live, i.e. its polling task is scheduled or being scheduled.
+     *
+     * @param eventId the ID of the event
+     * @return true if the event is live, false otherwise
+     */
+    public boolean isLive(int eventId) {
+        Registration registration = registrations.get(eventId);
+        return registration != null && registration.isActive();
+    }
+
+    /**
+     * Gets the future of the polling task of a live event.
+     *
+     * @param eventId the ID of the event
+     * @return the future, null if the event is not in the LIVE state
+     */
+    public ScheduledFuture<?> getFuture(int eventId) {
+        Registration registration = registrations.get(eventId);
+        return registration != null && registration.state.get() == State.LIVE ? registration.future : null;
+    }
+
+    /**
+     * Counts the live events.
+     *
+     * @return the number of events that are scheduled or being scheduled
+     */
+    public int getLiveCount() {
+        return registrations.count(Registration::isActive);
+    }
+
+    /**
+     * Gets a snapshot of the IDs of the live events.
+     *
+     * @return the IDs of the events that are scheduled or being scheduled
+     */
+    public Set<Integer> getLiveEventIds() {
+        Set<Integer> liveEventIds = new HashSet<>();
+        registrations.forEach((registration, eventId) -> {
+            if (registration.isActive()) {
+                liveEventIds.add(eventId);
+            }
+        });
+        return liveEventIds;
+    }
+
+    /**
+     * Polling registration of one event.
+     */
+    private static final class Registration {
+
+        /** Lifecycle state of the registration */
+        private final AtomicReference<State> state = new AtomicReference<>(State.SCHEDULING);
+
+        /** Future of the polling task, set before the transition to LIVE */
+        private volatile ScheduledFuture<?> future;
+
+        /**
+         * Checks whether the registration still stands for a live event.
+         *
+         * @return true while the registration is SCHEDULING or LIVE
+         */
+        private boolean isActive() {
+            State current = state.get();
+            return current == State.SCHEDULING || current == State.LIVE;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Hashed timing wheel for scheduling a very large number of periodic polling tasks.
+ * Tasks are hashed into a ring of buckets by their deadline tick, so scheduling and cancelling
+ * are O(1) regardless of how many tasks are live, and all tasks due in the same tick are
+ * expired together in one pass over their bucket.
+ * <p>
+ * A single timer thread does the timing only. Due tasks are handed to the executor they were scheduled
+ * with, or the wheel's default one, and a periodic task never runs concurrently with itself: a run counts
+ * as in progress until it returned on that executor, and a tick firing meanwhile is skipped. Deadlines are computed from the wheel start time, so the
+ * wheel does not drift and stays accurate to one tick. A periodic task whose deadlines passed while
+ * the timer thread was held up skips to its next deadline instead of catching up.
+ */
+public class HashedTimingWheel {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    /** State of a timeout that is scheduled or running */
+    private static final int PENDING = 0;
+
+    /** State of a one-shot timeout whose run returned */
+    private static final int COMPLETED = 1;
+
+    /** State of a cancelled timeout */
+    private static final int CANCELLED = 2;
+
+    /** Updater for the state of a timeout */
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    /** Updater for the running flag of a timeout */
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> RUNNING =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "running");
+
+    /** Duration of one tick in nanoseconds */
+    private final long tickNanos;
+
+    /** Bucket ring, its length is a power of two */
+    private final Bucket[] wheel;
+
+    /** Mask to map a tick to its bucket */
+    private final int mask;
+
+    /** Executor running the expired tasks scheduled without an executor of their own */
+    private final Executor taskExecutor;
+
+    /** Timeouts scheduled by other threads, moved into their buckets by the timer thread */
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+    /** Timeouts cancelled by other threads, unlinked from their buckets by the timer thread */
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+    /** Timer thread driving the wheel */
+    private final Thread timerThread;
+
+    /** Reference time all deadlines are relative to */
+    private final long startTime;
+
+    /** Flag indicating whether the wheel accepts and expires timeouts */
+    private volatile boolean running = true;
+
+    /** Number of ticks processed so far, only accessed by the timer thread */
+    private long tick;
+
+    /**
+     * Constructs and starts a new timing wheel.
+     *
+     * @param tickDuration duration of one tick
+     * @param unit time unit of the tick duration
+     * @param wheelSize number of buckets, rounded up to the next power of two
+     * @param taskExecutor executor running the expired tasks scheduled without an executor of their own
+     */
+    public HashedTimingWheel(long tickDuration, TimeUnit unit, int wheelSize, Executor taskExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30: " + wheelSize);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.taskExecutor = taskExecutor;
+        this.startTime = System.nanoTime();
+        this.timerThread = new Thread(this::runTimer, "score-timing-wheel");
+        this.timerThread.setDaemon(true);
+        this.timerThread.start();
+    }
+
+    /**
+     * Schedules a task to run periodically at a fixed rate, first after the initial delay.
+     *
+     * @param task the task to run
+     * @param initialDelay delay before the first run
+     * @param period period between the start of successive runs
+     * @param unit time unit of the delay and period
+     * @return a future that can be used to cancel the task
+     * @throws RejectedExecutionException if the wheel has been stopped
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return scheduleAtFixedRate(task, initialDelay, period, unit, taskExecutor);
+    }
+
+    /**
+     * Schedules a task to run periodically at a fixed rate on the given executor, first after the initial delay.
+     * A tick firing while the previous run has not returned on the executor yet is skipped.
+     *
+     * @param task the task to run
+     * @param initialDelay delay before the first run
+     * @param period period between the start of successive runs
+     * @param unit time unit of the delay and period
+     * @param executor executor running the task
+     * @return a future that can be used to cancel the task
+     * @throws RejectedExecutionException if the wheel has been stopped
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit,
+                                                  Executor executor) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        return newTimeout(task, initialDelay, unit.toNanos(period), unit, executor);
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task the task to run
+     * @param delay delay before the run
+     * @param unit time unit of the delay
+     * @return a future that can be used to cancel the task
+     * @throws RejectedExecutionException if the wheel has been stopped
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return schedule(task, delay, unit, taskExecutor);
+    }
+
+    /**
+     * Schedules a task to run once on the given executor after the given delay.
+     * The returned future is done once the run returned, failed or was rejected, or once it was cancelled.
+     *
+     * @param task the task to run
+     * @param delay delay before the run
+     * @param unit time unit of the delay
+     * @param executor executor running the task
+     * @return a future that can be used to cancel the task or wait for its run
+     * @throws RejectedExecutionException if the wheel has been stopped
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        return newTimeout(task, delay, 0, unit, executor);
+    }
+
+    /**
+     * Creates a timeout and queues it for the timer thread.
+     *
+     * @param task the task to run
+     * @param delay delay before the first run
+     * @param periodNanos period between runs in nanoseconds, 0 for a one-shot task
+     * @param unit time unit of the delay
+     * @param executor executor running the task
+     * @return the timeout
+     */
+    private WheelTimeout newTimeout(Runnable task, long delay, long periodNanos, TimeUnit unit, Executor executor) {
+        if (!running) {
+            throw new RejectedExecutionException("Timing wheel has been stopped");
+        }
+        long deadline = System.nanoTime() - startTime + unit.toNanos(Math.max(delay, 0));
+        WheelTimeout timeout = new WheelTimeout(task, deadline, periodNanos, executor);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the timer thread. Scheduled tasks will not run anymore.
+     */
+    public void stop() {
+        running = false;
+        timerThread.interrupt();
+    }
+
+    /**
+     * Main loop of the timer thread: waits for each tick, applies the pending cancellations and
+     * schedules, then expires every due timeout of the tick's bucket.
+     */
+    private void runTimer() {
+        while (running) {
+            long tickDeadline = (tick + 1) * tickNanos;
+            long sleepNanos = tickDeadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                    continue;
+                }
+            }
+            processCancelledTimeouts();
+            transferPendingTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Unlinks every cancelled timeout from its bucket in O(1).
+     */
+    private void processCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Moves the newly scheduled timeouts into the bucket of their deadline tick.
+     */
+    private void transferPendingTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            // Timeouts already overdue are expired in the current tick
+            long targetTick = Math.max(deadlineTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Expires the timeouts of a bucket that are due in the current round.
+     * Periodic timeouts are queued again with their next fixed-rate deadline, one-shot timeouts are dropped.
+     *
+     * @param bucket the bucket of the current tick
+     */
+    private void expireTimeouts(Bucket bucket) {
+        WheelTimeout timeout = bucket.head;
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                if (!timeout.isCancelled()) {
+                    dispatch(timeout);
+                    if (timeout.periodNanos > 0) {
+                        timeout.deadline = nextDeadline(timeout);
+                        pendingTimeouts.add(timeout);
+                    }
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Computes the next fixed-rate deadline of a periodic timeout. When the timer thread fell behind by
+     * more than a period, the missed deadlines are skipped and the next one in the future is taken, so the
+     * task does not fire once per tick while the wheel catches up.
+     *
+     * @param timeout the expired periodic timeout
+     * @return the next deadline, relative to the start time
+     */
+    private long nextDeadline(WheelTimeout timeout) {
+        long deadline = timeout.deadline + timeout.periodNanos;
+        long now = System.nanoTime() - startTime;
+        if (deadline <= now) {
+            long missed = (now - deadline) / timeout.periodNanos + 1;
+            LOGGER.debug("Skipping {} missed ticks of a periodic task", missed);
+            deadline += missed * timeout.periodNanos;
+        }
+        return deadline;
+    }
+
+    /**
+     * Hands an expired timeout's task to its executor, skipping the tick if the previous run
+     * of the same task is still in progress.
+     *
+     * @param timeout the expired timeout
+     */
+    private void dispatch(WheelTimeout timeout) {
+        if (!timeout.tryStartRun()) {
+            LOGGER.debug("Skipping tick, previous run still in progress");
+            return;
+        }
+        try {
+            timeout.executor.execute(timeout);
+        } catch (RejectedExecutionException e) {
+            timeout.endRun(e);
+            LOGGER.warn("Task executor rejected timing wheel task: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed to one slot of the wheel.
+     * Only accessed by the timer thread.
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    /**
+     * Periodic or one-shot timeout returned to callers as a {@link ScheduledFuture}.
+     * A one-shot timeout completes once its run returned, failed or was rejected; a periodic one only
+     * when it is cancelled. Its state and running flag are updated through field updaters so that
+     * scheduling and cancelling allocate nothing beyond the timeout itself.
+     */
+    private final class WheelTimeout implements ScheduledFuture<Void>, Runnable {
+
+        private final Runnable task;
+
+        /** Period between runs in nanoseconds, 0 for a one-shot timeout */
+        private final long periodNanos;
+
+        /** Executor running the task */
+        private final Executor executor;
+
+        /** {@link #PENDING}, {@link #COMPLETED} or {@link #CANCELLED} */
+        private volatile int state;
+
+        /** Failure of the run of a one-shot timeout, null if it returned normally */
+        private volatile Throwable failure;
+
+        /** 1 while a run of the task is in progress */
+        private volatile int running;
+
+        /** Next deadline relative to the wheel start time */
+        private volatile long deadline;
+
+        private long remainingRounds;
+
+        private Bucket bucket;
+
+        private WheelTimeout prev;
+
+        private WheelTimeout next;
+
+        WheelTimeout(Runnable task, long deadline, long periodNanos, Executor executor) {
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+            this.executor = executor;
+        }
+
+        boolean tryStartRun() {
+            return RUNNING.compareAndSet(this, 0, 1);
+        }
+
+        /**
+         * Ends a run, and completes a one-shot timeout with its outcome unless it was cancelled meanwhile.
+         *
+         * @param runFailure the failure of the run, null if it returned normally
+         */
+        void endRun(Throwable runFailure) {
+            running = 0;
+            if (periodNanos == 0) {
+                failure = runFailure;
+                if (STATE.compareAndSet(this, PENDING, COMPLETED)) {
+                    synchronized (this) {
+                        notifyAll();
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Throwable runFailure = null;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                runFailure = e;
+                LOGGER.error("Timing wheel task failed", e);
+            } finally {
+                endRun(runFailure);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            cancelledTimeouts.add(this);
+            synchronized (this) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != PENDING;
+        }
+
+        @Override
+        public synchronized Void get() throws InterruptedException, ExecutionException {
+            while (!isDone()) {
+                wait();
+            }
+            return outcome();
+        }
+
+        @Override
+        public synchronized Void get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long remainingNanos = unit.toNanos(timeout);
+            long waitDeadline = System.nanoTime() + remainingNanos;
+            while (!isDone()) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                remainingNanos = waitDeadline - System.nanoTime();
+            }
+            return outcome();
+        }
+
+        /**
+         * Reports the outcome of a done timeout.
+         *
+         * @return null if the run returned normally
+         * @throws CancellationException if the timeout was cancelled
+         * @throws ExecutionException if the run failed or was rejected by its executor
+         */
+        private Void outcome() throws ExecutionException {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
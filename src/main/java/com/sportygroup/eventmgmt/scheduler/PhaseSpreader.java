@@ -0,0 +1,32 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spreads the first runs of newly scheduled polling tasks across their period.
+ * Phases follow the golden ratio sequence, which places every new phase in the largest gap left by
+ * the previous ones. Any number of events going live together is therefore spread almost evenly over
+ * the period instead of all polling the upstream in the same instant.
+ * <p>
+ * The first task still starts after a full period, as an unspread schedule would, and every later one
+ * starts earlier by its phase.
+ */
+public class PhaseSpreader {
+
+    /** Fractional part of the golden ratio */
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+
+    /** Number of initial delays handed out so far */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Gets the delay before the first run of the next task.
+     *
+     * @param periodMs the period of the task in milliseconds
+     * @return the delay in milliseconds, between 0 exclusive and the period inclusive
+     */
+    public long nextInitialDelayMs(long periodMs) {
+        double phase = (sequence.getAndIncrement() * GOLDEN_RATIO_FRACTION) % 1d;
+        return periodMs - (long) (phase * periodMs);
+    }
+}
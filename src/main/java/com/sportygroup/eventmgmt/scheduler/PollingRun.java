@@ -0,0 +1,16 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+/**
+ * Polling task run by an {@link AdaptivePollingTask}, told when each run was due so that it can stamp
+ * what it fetches with its schedule.
+ */
+@FunctionalInterface
+public interface PollingRun {
+
+    /**
+     * Performs one run of the polling task.
+     *
+     * @param scheduledAtMs time the run was due, in epoch milliseconds
+     */
+    void run(long scheduledAtMs);
+}
@@ -0,0 +1,151 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tells whether the polling scheduler is overloaded, from how late the recent polling runs started.
+ * The lag of every run is averaged over consecutive windows, and the scheduler counts as overloaded while
+ * the mean lag of the last completed window exceeds the threshold. Averaging keeps a single late run, such
+ * as one behind a GC pause, from flipping the state; a window without runs counts as no lag.
+ * <p>
+ * While overloaded, new live events are to be rejected so that the events already live keep their cadence.
+ * Rejections are counted here and reported when the scheduler leaves the overloaded state, which is logged
+ * at WARN when entered and at INFO when left.
+ */
+public class SchedulerLoadMonitor {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerLoadMonitor.class);
+
+    /** Mean lag in nanoseconds above which the scheduler is overloaded */
+    private final long maxLagNanos;
+
+    /** Duration of a window in nanoseconds */
+    private final long windowNanos;
+
+    /** Sum of the lags recorded in the current window, in nanoseconds */
+    private final LongAdder lagSum = new LongAdder();
+
+    /** Number of lags recorded in the current window */
+    private final LongAdder samples = new LongAdder();
+
+    /** Live events rejected since the scheduler became overloaded */
+    private final LongAdder rejected = new LongAdder();
+
+    /** {@link System#nanoTime()} at which the current window started */
+    private final AtomicLong windowStartNanos = new AtomicLong(System.nanoTime());
+
+    /** Mean lag of the last completed window in nanoseconds */
+    private volatile long meanLagNanos;
+
+    /** Flag indicating whether the mean lag of the last completed window exceeded the threshold */
+    private volatile boolean overloaded;
+
+    /**
+     * Constructs a new SchedulerLoadMonitor.
+     *
+     * @param maxLagMs mean lag in milliseconds above which the scheduler is overloaded
+     * @param windowMs duration in milliseconds of the windows the lag is averaged over
+     * @throws IllegalArgumentException if the threshold or the window is not positive
+     */
+    public SchedulerLoadMonitor(long maxLagMs, long windowMs) {
+        if (maxLagMs <= 0 || windowMs <= 0) {
+            throw new IllegalArgumentException("Lag threshold and window must be positive: " + maxLagMs + ", " + windowMs);
+        }
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMs);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    /**
+     * Records how late a polling run started.
+     *
+     * @param lagNanos time in nanoseconds between the run being due and starting, clamped to zero if it
+     *        started early
+     */
+    public void recordLag(long lagNanos) {
+        rollIfDue(System.nanoTime());
+        lagSum.add(Math.max(0, lagNanos));
+        samples.increment();
+    }
+
+    /**
+     * Tells whether the scheduler is overloaded.
+     *
+     * @return true if the mean lag of the last completed window exceeded the threshold
+     */
+    public boolean isOverloaded() {
+        rollIfDue(System.nanoTime());
+        return overloaded;
+    }
+
+    /**
+     * Gets the mean lag of the last completed window.
+     *
+     * @return the mean lag in milliseconds
+     */
+    public long getLagMs() {
+        rollIfDue(System.nanoTime());
+        return TimeUnit.NANOSECONDS.toMillis(meanLagNanos);
+    }
+
+    /**
+     * Gets the lag threshold.
+     *
+     * @return the mean lag in milliseconds above which the scheduler is overloaded
+     */
+    public long getMaxLagMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos);
+    }
+
+    /**
+     * Gets how long a rejected request should wait before it is retried: one window, after which the
+     * overloaded state is decided again.
+     *
+     * @return the delay in whole seconds, at least 1
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(windowNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Counts a live event rejected because the scheduler is overloaded.
+     */
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    /**
+     * Completes the current window if it has elapsed, deciding the overloaded state from its mean lag.
+     * Only the thread winning the race for the window completes it; lags recorded by other threads while
+     * it does may be counted in the next window instead.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    private void rollIfDue(long now) {
+        long start = windowStartNanos.get();
+        if (now - start < windowNanos || !windowStartNanos.compareAndSet(start, now)) {
+            return;
+        }
+        long count = samples.sumThenReset();
+        long sum = lagSum.sumThenReset();
+        long mean = count == 0 ? 0 : sum / count;
+        meanLagNanos = mean;
+        boolean over = mean > maxLagNanos;
+        if (over == overloaded) {
+            return;
+        }
+        overloaded = over;
+        if (over) {
+            LOGGER.warn("Polling scheduler overloaded: mean lag {} ms exceeds {} ms, rejecting new live events",
+                    TimeUnit.NANOSECONDS.toMillis(mean), getMaxLagMs());
+        } else {
+            LOGGER.info("Polling scheduler recovered: mean lag {} ms, accepting new live events again after rejecting {}",
+                    TimeUnit.NANOSECONDS.toMillis(mean), rejected.sumThenReset());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor running its tasks one at a time, in the order they were submitted, on an underlying executor.
+ * One is created per live event in virtual execution mode, where every tick would otherwise get a virtual
+ * thread of its own: a poll or retry submitted while another run of the event is in progress is queued
+ * and run right after it on the same thread, so the runs of an event never overlap. Nothing is dropped,
+ * so a poll that schedules the next one when it returns always runs.
+ */
+public class SerialExecutor implements Executor {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerialExecutor.class);
+
+    /** Executor providing the thread that runs the queued tasks */
+    private final Executor executor;
+
+    /** Tasks waiting to run */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /** Number of tasks submitted and not run yet, including the running one */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Constructs a new SerialExecutor.
+     *
+     * @param executor the executor providing the thread that runs the queued tasks
+     */
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs a task after the tasks submitted before it. The first task submitted while none is
+     * pending hands a drain of the queue to the underlying executor.
+     *
+     * @param task the task to run
+     * @throws RejectedExecutionException if the underlying executor rejected the drain
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (pending.getAndIncrement() > 0) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Only happens on shutdown, when the queued tasks will not run anyway
+            tasks.clear();
+            pending.set(0);
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the queued tasks until none is pending.
+     */
+    private void drain() {
+        do {
+            Runnable task = tasks.poll();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Serial task failed", e);
+            }
+        } while (pending.decrementAndGet() > 0);
+    }
+}
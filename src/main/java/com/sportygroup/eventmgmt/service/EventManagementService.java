@@ -1,6 +1,10 @@
 package com.sportygroup.eventmgmt.service;
 
 import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing sports events.
@@ -18,4 +22,23 @@ public interface EventManagementService {
      */
     void updateEventStatus(Event event);
 
+    /**
+     * Updates the status of several events in one pass.
+     * Every event is validated and applied on its own, so an invalid event does not prevent
+     * the others from being updated.
+     *
+     * @param events the events with updated status information, consumed once in order
+     * @return the outcome of every event, in the order of the events
+     */
+    List<EventStatusResult> updateEventStatuses(Iterable<Event> events);
+
+    /**
+     * Updates the status of several events in one pass, handing over the outcome of every event
+     * as soon as it is known instead of collecting them.
+     *
+     * @param events the events with updated status information, consumed once in order
+     * @param results receives the outcome of every event, in the order of the events
+     */
+    void updateEventStatuses(Iterable<Event> events, Consumer<EventStatusResult> results);
+
 }
@@ -1,26 +1,66 @@
 package com.sportygroup.eventmgmt.service.impl;
 
+import com.sportygroup.eventmgmt.cluster.ClusterMembership;
+import com.sportygroup.eventmgmt.cluster.ConsistentHashRing;
+import com.sportygroup.eventmgmt.config.ExecutionMode;
+import com.sportygroup.eventmgmt.config.PipelineMode;
+import com.sportygroup.eventmgmt.config.PollingMode;
+import com.sportygroup.eventmgmt.config.SchedulerType;
+import com.sportygroup.eventmgmt.config.VirtualThreads;
+import com.sportygroup.eventmgmt.journal.EventJournal;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
 import com.sportygroup.eventmgmt.model.Event;
-import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.model.EventPriority;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.processor.AdaptivePollingInterval;
+import com.sportygroup.eventmgmt.processor.AsyncEventScoreProcessor;
+import com.sportygroup.eventmgmt.processor.EventScoreBatchProcessor;
 import com.sportygroup.eventmgmt.processor.EventScoreProcessor;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import com.sportygroup.eventmgmt.processor.RetryScheduler;
+import com.sportygroup.eventmgmt.processor.ScoreChangeDetector;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.scheduler.AdaptivePollingTask;
+import com.sportygroup.eventmgmt.scheduler.CoalescingPollingTask;
+import com.sportygroup.eventmgmt.scheduler.EventLifecycleRegistry;
+import com.sportygroup.eventmgmt.scheduler.HashedTimingWheel;
+import com.sportygroup.eventmgmt.scheduler.PhaseSpreader;
+import com.sportygroup.eventmgmt.scheduler.PollingRun;
+import com.sportygroup.eventmgmt.scheduler.SchedulerLoadMonitor;
+import com.sportygroup.eventmgmt.scheduler.SerialExecutor;
 import com.sportygroup.eventmgmt.service.EventManagementService;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreakers;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpServerErrorException;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 /**
  * Implementation of the EventManagementService interface.
@@ -33,61 +73,790 @@ public class EventManagementServiceImpl implements EventManagementService {
     /** Logger instance for this class */
     private static final Logger LOGGER = LoggerFactory.getLogger(EventManagementServiceImpl.class);
 
-    /** REST template for making API calls */
+    /** Rounding tolerance when adding up the budget shares of the priorities */
+    private static final double BUDGET_SHARE_TOLERANCE = 1e-9;
+
+    /** Source of event scores from the external API */
     @Autowired
-    private RestTemplate restTemplate;
+    private ScoreSource scoreSource;
     
-    /** Kafka template for publishing event scores */
+    /** Publishing stage sending event scores to Kafka */
+    @Autowired
+    private ScorePublisher scorePublisher;
+
+    /** Circuit breakers of the upstream score APIs */
+    @Autowired
+    private UpstreamCircuitBreakers circuitBreakers;
+
+    /** Budget of upstream requests per second, globally and per upstream */
+    @Autowired
+    private UpstreamRequestBudget requestBudget;
+
+    /** Last published scores, used to only publish changed scores */
+    @Autowired
+    private ScoreChangeDetector changeDetector;
+
+    /** Latest fetched scores, served to readers without calling the upstream */
+    @Autowired
+    private LatestScoreCache scoreCache;
+
+    /** Durable journal of the live and not-live transitions, replayed on startup */
+    @Autowired
+    private EventJournal eventJournal;
+
+    /** Membership of this instance in the cluster, deciding which live events it polls */
+    @Autowired
+    private ClusterMembership clusterMembership;
+
+    /** Meters of the polling pipeline */
     @Autowired
-    private KafkaTemplate<Integer, EventScore> kafkaTemplate;
+    private PollingMetrics pollingMetrics;
 
     /** URL of the external API to fetch event scores */
     @Value("${api.event-score.url}")
     private String apiUrl;
+
+    /** URL of the external bulk API to fetch the scores of several events at once */
+    @Value("${api.event-score.bulk-url:}")
+    private String bulkApiUrl;
+
+    /** Polling strategy: one task per event, or one bulk task for all live events */
+    @Value("${eventmgmt.polling.mode:single}")
+    private PollingMode pollingMode = PollingMode.SINGLE;
+
+    /** Maximum number of events fetched in a single bulk request */
+    @Value("${eventmgmt.polling.batch-size:100}")
+    private int batchSize = 100;
+
+    /** Polling interval a live event starts with unless its payload carries a hint, in milliseconds */
+    @Value("${eventmgmt.polling.interval-ms:10000}")
+    private long pollIntervalMs = 10000;
+
+    /** Lower bound of the adaptive per-event polling interval in milliseconds */
+    @Value("${eventmgmt.polling.min-interval-ms:2000}")
+    private long minPollIntervalMs = 2000;
+
+    /** Upper bound of the adaptive per-event polling interval in milliseconds */
+    @Value("${eventmgmt.polling.max-interval-ms:60000}")
+    private long maxPollIntervalMs = 60000;
+
+    /** Per-event pipeline: blocking fetch-then-send, or a non-blocking completion chain */
+    @Value("${eventmgmt.pipeline.mode:blocking}")
+    private PipelineMode pipelineMode = PipelineMode.BLOCKING;
+
+    /** Threads running the polling ticks: the scheduler pool itself, or virtual threads */
+    @Value("${eventmgmt.execution.mode:platform}")
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+
+    /** Timer firing the polling ticks: the executor delay queue, or a hashed timing wheel */
+    @Value("${eventmgmt.scheduler.type:executor}")
+    private SchedulerType schedulerType = SchedulerType.EXECUTOR;
+
+    /** Tick duration of the timing wheel in milliseconds */
+    @Value("${eventmgmt.scheduler.tick-ms:100}")
+    private long wheelTickMs = 100;
+
+    /** Number of buckets of the timing wheel */
+    @Value("${eventmgmt.scheduler.wheel-size:512}")
+    private int wheelSize = 512;
+
+    /** Mean scheduler lag in milliseconds above which new live events are rejected, 0 to never reject them */
+    @Value("${eventmgmt.overload.max-scheduler-lag-ms:5000}")
+    private long maxSchedulerLagMs = 5000;
+
+    /** Window in milliseconds the scheduler lag is averaged over before it is compared to the threshold */
+    @Value("${eventmgmt.overload.lag-window-ms:5000}")
+    private long lagWindowMs = 5000;
+
+    /** Scheduler threads of the high priority lane */
+    @Value("${eventmgmt.priority.high.threads:4}")
+    private int highPriorityThreads = 4;
+
+    /** Polling interval a high priority event starts with unless its payload carries a hint, in milliseconds */
+    @Value("${eventmgmt.priority.high.interval-ms:2000}")
+    private long highPriorityIntervalMs = 2000;
+
+    /** Lower bound of the adaptive polling interval of high priority events in milliseconds */
+    @Value("${eventmgmt.priority.high.min-interval-ms:1000}")
+    private long highPriorityMinIntervalMs = 1000;
+
+    /** Upper bound of the adaptive polling interval of high priority events in milliseconds */
+    @Value("${eventmgmt.priority.high.max-interval-ms:5000}")
+    private long highPriorityMaxIntervalMs = 5000;
+
+    /** Share of the upstream request budget reserved for high priority events, 0 to reserve none */
+    @Value("${eventmgmt.priority.high.budget-share:0.3}")
+    private double highPriorityBudgetShare = 0.3;
+
+    /** Share of the upstream request budget reserved for normal priority events, 0 to reserve none */
+    @Value("${eventmgmt.priority.normal.budget-share:0.5}")
+    private double normalPriorityBudgetShare = 0.5;
+
+    /** Scheduler threads of the low priority lane */
+    @Value("${eventmgmt.priority.low.threads:2}")
+    private int lowPriorityThreads = 2;
+
+    /** Polling interval a low priority event starts with unless its payload carries a hint, in milliseconds */
+    @Value("${eventmgmt.priority.low.interval-ms:30000}")
+    private long lowPriorityIntervalMs = 30000;
+
+    /** Lower bound of the adaptive polling interval of low priority events in milliseconds */
+    @Value("${eventmgmt.priority.low.min-interval-ms:10000}")
+    private long lowPriorityMinIntervalMs = 10000;
+
+    /** Upper bound of the adaptive polling interval of low priority events in milliseconds */
+    @Value("${eventmgmt.priority.low.max-interval-ms:120000}")
+    private long lowPriorityMaxIntervalMs = 120000;
+
+    /** Share of the upstream request budget reserved for low priority events, 0 to reserve none */
+    @Value("${eventmgmt.priority.low.budget-share:0.2}")
+    private double lowPriorityBudgetShare = 0.2;
     
-    /** Thread pool executor for scheduling periodic tasks */
+    /** Thread pool executor for scheduling periodic tasks, the lane of the normal priority events */
     private final ScheduledThreadPoolExecutor scheduleExecutionService = new ScheduledThreadPoolExecutor(10);
+
+    /** Scheduler lane of the high priority events, sized on start */
+    private final ScheduledThreadPoolExecutor highPriorityExecutionService = new ScheduledThreadPoolExecutor(4);
+
+    /** Scheduler lane of the low priority events, sized on start */
+    private final ScheduledThreadPoolExecutor lowPriorityExecutionService = new ScheduledThreadPoolExecutor(2);
+
+    /** Upstream request budget of every priority with a reserved share, filled on start */
+    private final Map<EventPriority, UpstreamRequestBudget> priorityBudgets = new EnumMap<>(EventPriority.class);
+
+    /** Executor the scheduler hands each tick to in virtual execution mode, null in platform mode */
+    private ExecutorService tickExecutor;
+
+    /** Timing wheel firing the polling ticks when selected, null when the executor schedules them */
+    private HashedTimingWheel timingWheel;
+
+    /** Scheduler lag monitors of the lanes, deciding whether new live events are admitted, empty to admit all */
+    private final Map<EventPriority, SchedulerLoadMonitor> loadMonitors = new EnumMap<>(EventPriority.class);
     
-    /** Map to track scheduled tasks by event ID */
-    private final Map<Integer, ScheduledFuture> eventFutures = new ConcurrentHashMap<>();
+    /** Spreads the first polls of new live events across their interval */
+    private final PhaseSpreader phaseSpreader = new PhaseSpreader();
+
+    /** Polling lifecycle of every live event, updated atomically per event */
+    private final EventLifecycleRegistry eventRegistry = new EventLifecycleRegistry();
+
+    /** Set of live event IDs polled by the bulk processor in batch polling mode */
+    private final Set<Integer> liveEventIds = ConcurrentHashMap.newKeySet();
+
+    /** Live events known to the cluster by event ID, polled here or not, tracked in cluster mode only */
+    private final Map<Integer, Event> clusterEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Prepares the polling executors for the configured modes.
+     * In virtual execution mode a virtual-thread-per-task executor is created for the polling ticks.
+     * When batch polling is enabled, the bulk score processor is started: a single task polls all
+     * live events once per period, so live events are only tracked in {@link #liveEventIds}
+     * instead of being scheduled individually.
+     * In cluster mode the polling is rebalanced whenever the cluster members change.
+     * The priority lanes are sized and given their shares of the upstream request budget. Unless disabled,
+     * the scheduler lag of every lane is monitored so that new live events can be rejected under overload.
+     * The live events and the polling schedulers are registered with the metrics.
+     * Finally the live events recorded in the journal are rescheduled. This runs while the application
+     * context is created, so the events are polled again before the web server accepts requests.
+     *
+     * @throws IllegalStateException if virtual execution mode is selected in a build without the java21 profile
+     * @throws IllegalArgumentException if the budget shares of the priorities are invalid or exceed 1 in total
+     */
+    @PostConstruct
+    public void start() {
+        if (executionMode == ExecutionMode.VIRTUAL && tickExecutor == null) {
+            tickExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            LOGGER.info("Score polling ticks will run on virtual threads");
+        }
+        if (schedulerType == SchedulerType.TIMING_WHEEL && timingWheel == null) {
+            // Every tick is scheduled with the executor of its lane, so the timer thread only hands it over
+            timingWheel = new HashedTimingWheel(wheelTickMs, TimeUnit.MILLISECONDS, wheelSize, scheduleExecutionService);
+            LOGGER.info("Score polling ticks are fired by a timing wheel with {} ms ticks", wheelTickMs);
+        }
+        highPriorityExecutionService.setCorePoolSize(highPriorityThreads);
+        lowPriorityExecutionService.setCorePoolSize(lowPriorityThreads);
+        reserveBudgetShares();
+        if (maxSchedulerLagMs > 0 && loadMonitors.isEmpty()) {
+            for (EventPriority priority : EventPriority.values()) {
+                SchedulerLoadMonitor loadMonitor = new SchedulerLoadMonitor(maxSchedulerLagMs, lagWindowMs);
+                loadMonitors.put(priority, loadMonitor);
+                pollingMetrics.registerSchedulerOverloaded(priority, loadMonitor::isOverloaded);
+            }
+        }
+        if (pollingMode == PollingMode.BATCH) {
+            LOGGER.info("Starting batch score polling with batch size {}", batchSize);
+            EventScoreBatchProcessor batchProcessor = new EventScoreBatchProcessor(scorePublisher, scoreSource,
+                    liveEventIds, batchSize, this::scheduleRetry, circuitBreakers.forUrl(bulkApiUrl), requestBudget, changeDetector, scoreCache,
+                    pollingMetrics);
+            schedulePolling(batchProcessor);
+        }
+        if (clusterMembership.isEnabled()) {
+            clusterMembership.addListener(this::rebalance);
+        }
+        pollingMetrics.registerLiveEvents(() -> pollingMode == PollingMode.BATCH ? liveEventIds.size() : eventRegistry.getLiveCount());
+        pollingMetrics.registerExecutor(scheduleExecutionService, "polling");
+        pollingMetrics.registerExecutor(highPriorityExecutionService, "polling-high");
+        pollingMetrics.registerExecutor(lowPriorityExecutionService, "polling-low");
+        recoverLiveEvents();
+    }
+
+    /**
+     * Reserves the shares of the upstream request budget for the events of every priority.
+     * A priority with a share always gets its reservation and borrows what the budget has left beyond it,
+     * so a tier without events leaves its reservation to the others. The priorities without a share draw on
+     * what the budget has left. All priorities together stay within the budget.
+     *
+     * @throws IllegalArgumentException if a share is not within [0, 1], or if the shares exceed 1 in total
+     */
+    private void reserveBudgetShares() {
+        if (!priorityBudgets.isEmpty()) {
+            return;
+        }
+        Map<EventPriority, Double> shares = new EnumMap<>(EventPriority.class);
+        shares.put(EventPriority.HIGH, highPriorityBudgetShare);
+        shares.put(EventPriority.NORMAL, normalPriorityBudgetShare);
+        shares.put(EventPriority.LOW, lowPriorityBudgetShare);
+        double reserved = 0;
+        for (Map.Entry<EventPriority, Double> share : shares.entrySet()) {
+            if (!(share.getValue() >= 0 && share.getValue() <= 1)) {
+                throw new IllegalArgumentException("Budget share of " + share.getKey() + " priority must be within [0, 1]: " + share.getValue());
+            }
+            reserved += share.getValue();
+        }
+        if (reserved > 1 + BUDGET_SHARE_TOLERANCE) {
+            throw new IllegalArgumentException("Budget shares of the priorities add up to more than 1: " + shares);
+        }
+        for (Map.Entry<EventPriority, Double> share : shares.entrySet()) {
+            if (share.getValue() > 0) {
+                priorityBudgets.put(share.getKey(), requestBudget.share(share.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Reschedules the live events recorded in the journal by the previous run of the application.
+     * Their first polls are spread across their intervals like those of events going live together.
+     */
+    private void recoverLiveEvents() {
+        long start = System.nanoTime();
+        List<Event> liveEvents = eventJournal.getLiveEvents();
+        for (Event event : liveEvents) {
+            applyEventStatus(event);
+        }
+        if (!liveEvents.isEmpty()) {
+            LOGGER.info("Recovered {} live events from the journal in {} ms", liveEvents.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
 
     /**
      * Updates the status of an event and manages its score processing schedule.
-     * If the event is set to live, it schedules a periodic task to fetch and publish scores.
+     * If the event is set to live, it schedules a task to fetch and publish scores on an adaptive interval.
      * If the event is set to not live, it cancels any existing scheduled tasks.
      *
      * @param event the event with updated status information
      * @throws HttpClientErrorException if the event is null or has an invalid ID
+     * @throws HttpServerErrorException with status 503 if the event would start polling while the
+     *         scheduler is overloaded
      */
     @Override
     public void updateEventStatus(Event event) {
 
         // Validate the event before processing
         validate(event);
+        admit(event);
 
         LOGGER.info("Processing event status update for event_id: {} live: {}", event.isLive(), event.getEventId());
 
+        applyEventStatus(event);
+    }
+
+    /**
+     * Updates the status of several events in one pass.
+     * Each event is validated and applied as in {@link #updateEventStatus(Event)}, but the batch is
+     * logged once instead of once per event. Invalid events are reported with error code E1001,
+     * live events rejected while the scheduler is overloaded with E1004, unexpected failures with E1002.
+     *
+     * @param events the events with updated status information
+     * @return the outcome of every event, in the order of the events
+     */
+    @Override
+    public List<EventStatusResult> updateEventStatuses(Iterable<Event> events) {
+        List<EventStatusResult> results = new ArrayList<>();
+        updateEventStatuses(events, results::add);
+        return results;
+    }
+
+    /**
+     * Updates the status of several events in one pass, as {@link #updateEventStatuses(Iterable)} does,
+     * handing over the outcome of every event before the next one is taken.
+     *
+     * @param events the events with updated status information
+     * @param results receives the outcome of every event, in the order of the events
+     */
+    @Override
+    public void updateEventStatuses(Iterable<Event> events, Consumer<EventStatusResult> results) {
+        int processed = 0;
+        int rejected = 0;
+        for (Event event : events) {
+            int eventId = event == null ? 0 : event.getEventId();
+            boolean live = event != null && event.isLive();
+            EventStatusResult result;
+            try {
+                validate(event);
+                admit(event);
+                applyEventStatus(event);
+                result = new EventStatusResult(eventId, live, true, null, null);
+            } catch (HttpClientErrorException e) {
+                rejected++;
+                result = new EventStatusResult(eventId, live, false, "E1001", e.getMessage());
+            } catch (HttpServerErrorException e) {
+                rejected++;
+                result = new EventStatusResult(eventId, live, false, "E1004", e.getMessage());
+            } catch (RuntimeException e) {
+                rejected++;
+                LOGGER.error("Error while updating event status for event_id: {}", eventId, e);
+                result = new EventStatusResult(eventId, live, false, "E1002", "Error while updating event status. Please try again later");
+            }
+            processed++;
+            // Outside the try, so a failing consumer is not mistaken for a failed update
+            results.accept(result);
+        }
+        LOGGER.info("Processed {} event status updates, {} rejected", processed, rejected);
+    }
+
+    /**
+     * Applies the status of a validated event to its score processing schedule.
+     * Accepted transitions are recorded in the journal; repeated live or not-live requests are not.
+     * In cluster mode every live event is tracked, so that it can be taken over when the members change,
+     * but only the events owned by this instance are polled.
+     *
+     * @param event the validated event
+     */
+    private void applyEventStatus(Event event) {
+        if(!clusterMembership.isEnabled()) {
+            if(applyLocalStatus(event)) {
+                eventJournal.record(event);
+            }
+            return;
+        }
+        int eventId = event.getEventId();
+        boolean changed = event.isLive() ? clusterEvents.put(eventId, event) == null : clusterEvents.remove(eventId) != null;
+        if(!event.isLive() || clusterMembership.isOwner(eventId)) {
+            applyLocalStatus(event);
+        } else {
+            LOGGER.info("Event_id: {} is owned by cluster node {}, not polled here", eventId, clusterMembership.getRing().ownerOf(eventId));
+        }
+        if(changed) {
+            eventJournal.record(event);
+        }
+    }
+
+    /**
+     * Starts or stops the polling of an event on this instance.
+     *
+     * @param event the validated event
+     * @return true if the polling of the event was started or stopped, false if it already was
+     */
+    private boolean applyLocalStatus(Event event) {
+        if(pollingMode == PollingMode.BATCH) {
+            return updateBatchMembership(event);
+        } else if(event.isLive()) {
+            if(eventRegistry.startPolling(event.getEventId(), live -> scheduleEventPolling(event, live))) {
+                LOGGER.debug("Scheduled the event score processor for event_id: {}", event.getEventId());
+                return true;
+            }
+            LOGGER.info("Event score processor is already scheduled for event_id: {}", event.getEventId());
+        } else if(eventRegistry.stopPolling(event.getEventId())) {
+            // The scheduled task was cancelled as the event is no longer live
+            LOGGER.info("Cancelled the scheduled tasks for event_id: {}", event.getEventId());
+            changeDetector.clear(event.getEventId());
+            scoreCache.evict(event.getEventId());
+            return true;
+        } else {
+            LOGGER.info("No scheduled tasks found for event_id: {}", event.getEventId());
+        }
+        return false;
+    }
+
+    /**
+     * Moves the polling of the tracked live events to their owners on a new cluster ring.
+     * Consistent hashing only changes the owner of the events in the ring segments a member gained or
+     * lost, so all other events keep polling undisturbed.
+     *
+     * @param ring the new ring of the cluster
+     */
+    private void rebalance(ConsistentHashRing ring) {
+        int started = 0;
+        int stopped = 0;
+        for (Event event : clusterEvents.values()) {
+            int eventId = event.getEventId();
+            boolean owned = clusterMembership.getNodeId().equals(ring.ownerOf(eventId));
+            boolean polled = pollingMode == PollingMode.BATCH ? liveEventIds.contains(eventId) : eventRegistry.isLive(eventId);
+            if(owned && !polled && applyLocalStatus(event)) {
+                started++;
+                if(!clusterEvents.containsKey(eventId)) {
+                    // The event went not live while it was being taken over
+                    applyLocalStatus(notLive(eventId));
+                }
+            } else if(!owned && polled && applyLocalStatus(notLive(eventId))) {
+                stopped++;
+            }
+        }
+        LOGGER.info("Rebalanced live events on cluster members {}: {} taken over, {} handed off", ring.getMembers(), started, stopped);
+    }
+
+    /**
+     * Creates the not-live status of an event.
+     *
+     * @param eventId the ID of the event
+     * @return the not-live event
+     */
+    private static Event notLive(int eventId) {
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setLive(false);
+        return event;
+    }
+
+    /**
+     * Stops all score polling when the application shuts down.
+     */
+    @PreDestroy
+    public void stop() {
+        if (timingWheel != null) {
+            timingWheel.stop();
+        }
+        scheduleExecutionService.shutdownNow();
+        highPriorityExecutionService.shutdownNow();
+        lowPriorityExecutionService.shutdownNow();
+        if (tickExecutor != null) {
+            tickExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Schedules a polling task on the configured timer, in the normal priority lane.
+     * The timing wheel hashes the task into a bucket in O(1) and hands it to the lane when due.
+     * Otherwise the task is queued in the executor's delay queue. Either way it is wrapped so that ticks
+     * missed while a run overran its period are coalesced into the latest one instead of firing back to back,
+     * and so that the runs the wheel hands to the lane never overlap. The wrapper resyncs to the schedule
+     * after a stall, so it keeps polling when the wheel skips the missed ticks itself.
+     *
+     * @param task the polling task
+     * @return the future used to cancel the task
+     */
+    private ScheduledFuture<?> schedulePolling(Runnable task) {
+        CoalescingPollingTask coalescingTask = new CoalescingPollingTask(task, 10, 10, TimeUnit.SECONDS,
+                lagNanos -> recordSchedulerLag(EventPriority.NORMAL, lagNanos), pollingMetrics::recordCoalescedTicks);
+        if (timingWheel != null) {
+            return timingWheel.scheduleAtFixedRate(coalescingTask, 10, 10, TimeUnit.SECONDS, wheelExecutorOf(EventPriority.NORMAL));
+        }
+        return scheduleExecutionService.scheduleAtFixedRate(onTickExecutor(coalescingTask),
+                10,  // initial delay in seconds
+                10,  // period in seconds
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Records how late a polling run of a live event started, and the ticks it coalesced: a run starting
+     * a whole interval or more late stands in for every tick missed meanwhile.
+     *
+     * @param priority priority of the event
+     * @param lagNanos time in nanoseconds between the run being due and starting
+     * @param intervalMs polling interval of the event in milliseconds
+     */
+    private void recordEventLag(EventPriority priority, long lagNanos, long intervalMs) {
+        recordSchedulerLag(priority, lagNanos);
+        long missedTicks = TimeUnit.NANOSECONDS.toMillis(lagNanos) / intervalMs;
+        if (missedTicks > 0) {
+            pollingMetrics.recordCoalescedTicks(missedTicks);
+        }
+    }
+
+    /**
+     * Records how late a polling run started, in the metrics and for the overload decision of its lane.
+     *
+     * @param priority priority of the lane the run started in
+     * @param lagNanos time in nanoseconds between the run being due and starting
+     */
+    private void recordSchedulerLag(EventPriority priority, long lagNanos) {
+        pollingMetrics.recordSchedulerLag(lagNanos);
+        SchedulerLoadMonitor loadMonitor = loadMonitors.get(priority);
+        if (loadMonitor != null) {
+            loadMonitor.recordLag(lagNanos);
+        }
+    }
+
+    /**
+     * Schedules the polling of a live event with an adaptive interval, in the lane of its priority.
+     * The event starts with its interval hint, or the default of its priority, and each poll schedules the
+     * next one after the interval adapted to the scores fetched so far, within the bounds of its priority.
+     * The first poll is offset within the interval, so events going live together do not poll the upstream in
+     * the same burst. How late every poll starts is recorded as scheduler lag. A poll starting an interval or
+     * more late is still run once, and the next one follows a full interval later, so the ticks missed
+     * meanwhile are coalesced rather than caught up.
+     *
+     * @param event the live event
+     * @param live tells whether the event is still live
+     * @return the future used to cancel the polling of the event
+     */
+    private ScheduledFuture<?> scheduleEventPolling(Event event, BooleanSupplier live) {
+        EventPriority priority = event.getPriority();
+        long initialIntervalMs = event.getPollIntervalMs() != null ? event.getPollIntervalMs() : intervalMsOf(priority);
+        long minIntervalMs = minIntervalMsOf(priority);
+        AdaptivePollingInterval pollingInterval = new AdaptivePollingInterval(initialIntervalMs, minIntervalMs,
+                Math.max(minIntervalMs, maxIntervalMsOf(priority)));
+        // In virtual mode every run would get a thread of its own, so the runs of the event are serialized
+        Executor eventExecutor = tickExecutor != null ? new SerialExecutor(tickExecutor) : null;
+        PollingRun processor = newEventProcessor(event.getEventId(), priority, eventExecutor, pollingInterval, live);
+        return new AdaptivePollingTask(processor, pollingInterval::getIntervalMs,
+                (task, delayMs) -> scheduleOnce(priority, eventExecutor, task, delayMs),
+                lagNanos -> recordEventLag(priority, lagNanos, pollingInterval.getIntervalMs()))
+                .start(phaseSpreader.nextInitialDelayMs(pollingInterval.getIntervalMs()));
+    }
+
+    /**
+     * Creates the polling task of a live event for the configured pipeline mode.
+     * Retries of either processor are dropped once the event is no longer live, and the asynchronous
+     * processor also discards responses arriving after that.
+     *
+     * @param eventId the ID of the event
+     * @param priority the priority of the event, selecting its lane and share of the request budget
+     * @param eventExecutor the executor running the retries of the event, null to run them on the lane
+     * @param pollingInterval the adaptive polling interval of the event
+     * @param live tells whether the event is still live
+     * @return the polling task
+     */
+    private PollingRun newEventProcessor(int eventId, EventPriority priority, Executor eventExecutor,
+                                         AdaptivePollingInterval pollingInterval, BooleanSupplier live) {
+        RetryScheduler retryScheduler = (retry, delayMs) -> scheduleEventRetry(eventId, priority, eventExecutor, live, retry, delayMs);
+        UpstreamRequestBudget budget = priorityBudgets.getOrDefault(priority, requestBudget);
+        if (pipelineMode == PipelineMode.ASYNC) {
+            return new AsyncEventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler,
+                    circuitBreakers.forUrl(apiUrl), budget, changeDetector, scoreCache, live, pollingInterval, pollingMetrics);
+        }
+        return new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler,
+                circuitBreakers.forUrl(apiUrl), budget, changeDetector, scoreCache, live, pollingInterval, pollingMetrics);
+    }
+
+    /**
+     * Gets the polling interval the events of a priority start with.
+     *
+     * @param priority the priority
+     * @return the initial interval in milliseconds
+     */
+    private long intervalMsOf(EventPriority priority) {
+        return switch (priority) {
+            case HIGH -> highPriorityIntervalMs;
+            case NORMAL -> pollIntervalMs;
+            case LOW -> lowPriorityIntervalMs;
+        };
+    }
+
+    /**
+     * Gets the lower bound of the adaptive polling interval of the events of a priority.
+     *
+     * @param priority the priority
+     * @return the minimum interval in milliseconds
+     */
+    private long minIntervalMsOf(EventPriority priority) {
+        return switch (priority) {
+            case HIGH -> highPriorityMinIntervalMs;
+            case NORMAL -> minPollIntervalMs;
+            case LOW -> lowPriorityMinIntervalMs;
+        };
+    }
+
+    /**
+     * Gets the upper bound of the adaptive polling interval of the events of a priority.
+     *
+     * @param priority the priority
+     * @return the maximum interval in milliseconds
+     */
+    private long maxIntervalMsOf(EventPriority priority) {
+        return switch (priority) {
+            case HIGH -> highPriorityMaxIntervalMs;
+            case NORMAL -> maxPollIntervalMs;
+            case LOW -> lowPriorityMaxIntervalMs;
+        };
+    }
+
+    /**
+     * Gets the scheduler lane of the events of a priority.
+     *
+     * @param priority the priority
+     * @return the executor of the lane
+     */
+    private ScheduledThreadPoolExecutor laneOf(EventPriority priority) {
+        return switch (priority) {
+            case HIGH -> highPriorityExecutionService;
+            case NORMAL -> scheduleExecutionService;
+            case LOW -> lowPriorityExecutionService;
+        };
+    }
+
+    /**
+     * Schedules a one-shot polling run on the configured timer, to run in the lane of a priority or on the
+     * executor of its event.
+     *
+     * @param priority the priority of the polled event
+     * @param eventExecutor the executor running the runs of the event, null to run them on the lane
+     * @param task the polling run
+     * @param delayMs delay in milliseconds before the run
+     * @return the future of the run
+     */
+    private ScheduledFuture<?> scheduleOnce(EventPriority priority, Executor eventExecutor, Runnable task, long delayMs) {
+        if (timingWheel != null) {
+            Executor executor = eventExecutor != null ? eventExecutor : laneOf(priority);
+            return timingWheel.schedule(task, delayMs, TimeUnit.MILLISECONDS, executor);
+        }
+        return laneOf(priority).schedule(onExecutor(eventExecutor, task), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules a retry attempt of an event's score fetch in the lane of its priority, dropping it if the
+     * event is no longer live by then.
+     *
+     * @param eventId the ID of the event
+     * @param priority the priority of the event
+     * @param eventExecutor the executor running the runs of the event, null to run them on the lane
+     * @param live tells whether the event is still live
+     * @param retry the retry attempt
+     * @param delayMs delay in milliseconds before the attempt
+     */
+    private void scheduleEventRetry(int eventId, EventPriority priority, Executor eventExecutor, BooleanSupplier live,
+                                    Runnable retry, long delayMs) {
+        scheduleRetry(laneOf(priority), eventExecutor, () -> {
+            if (live.getAsBoolean()) {
+                retry.run();
+            } else {
+                LOGGER.debug("Dropping retry for event_id: {} which is no longer live", eventId);
+            }
+        }, delayMs);
+    }
+
+    /**
+     * Schedules a one-shot retry attempt on the normal priority lane, run on the configured tick executor.
+     *
+     * @param retry the retry attempt
+     * @param delayMs delay in milliseconds before the attempt
+     */
+    private void scheduleRetry(Runnable retry, long delayMs) {
+        scheduleRetry(scheduleExecutionService, tickExecutor, retry, delayMs);
+    }
+
+    /**
+     * Schedules a one-shot retry attempt on a lane, running it on the given executor.
+     * Retries never block a polling thread while waiting for their backoff.
+     *
+     * @param lane the scheduler lane
+     * @param executor the executor running the attempt, null to run it on the lane
+     * @param retry the retry attempt
+     * @param delayMs delay in milliseconds before the attempt
+     */
+    private void scheduleRetry(ScheduledThreadPoolExecutor lane, Executor executor, Runnable retry, long delayMs) {
+        try {
+            lane.schedule(onExecutor(executor, retry), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Retry rejected, score polling is shutting down");
+        }
+    }
+
+    /**
+     * Wraps a polling task so that it runs on the configured tick executor.
+     * In platform mode the task runs directly on the scheduler thread. In virtual mode the scheduler
+     * thread only hands the tick over, so blocking I/O in the task never delays the other events.
+     * Cancelling the scheduled future stops further ticks; a tick already handed over runs to completion.
+     *
+     * @param task the polling task
+     * @return the runnable to schedule
+     */
+    private Runnable onTickExecutor(Runnable task) {
+        return onExecutor(tickExecutor, task);
+    }
+
+    /**
+     * Wraps a polling task so that the scheduler thread hands it over to an executor.
+     *
+     * @param executor the executor running the task, null to run it on the scheduler thread
+     * @param task the polling task
+     * @return the runnable to schedule
+     */
+    private Runnable onExecutor(Executor executor, Runnable task) {
+        if (executor == null) {
+            return task;
+        }
+        return () -> executor.execute(task);
+    }
+
+    /**
+     * Gets the executor running the polling tasks the timing wheel fires in the lane of a priority: the
+     * lane itself, or the configured tick executor in virtual mode. The wheel runs every task on it and
+     * skips the ticks firing before the previous run returned there, so the runs of an event never overlap.
+     *
+     * @param priority the priority of the lane
+     * @return the executor to schedule the task with on the timing wheel
+     */
+    private Executor wheelExecutorOf(EventPriority priority) {
+        return tickExecutor != null ? tickExecutor : laneOf(priority);
+    }
+
+    /**
+     * Adds or removes an event from the set polled by the bulk processor.
+     *
+     * @param event the event with updated status information
+     * @return true if the event was added or removed, false if it already was
+     */
+    private boolean updateBatchMembership(Event event) {
         if(event.isLive()) {
-            if(!eventFutures.containsKey(event.getEventId())) {
-                // Schedule a new periodic task for the event
-                LOGGER.debug("Scheduling the event score processor for event_id: {}", event.getEventId());
-                EventScoreProcessor eventScoreProcessor = new EventScoreProcessor(kafkaTemplate, restTemplate, apiUrl, event.getEventId());
-                ScheduledFuture future = scheduleExecutionService.scheduleAtFixedRate(eventScoreProcessor,
-                        10,  // initial delay in seconds
-                        10,  // period in seconds
-                        TimeUnit.SECONDS);
-                eventFutures.put(event.getEventId(), future);
+            if(liveEventIds.add(event.getEventId())) {
+                LOGGER.debug("Added event_id: {} to batch score polling", event.getEventId());
+                return true;
             } else {
-                LOGGER.info("Event score processor is already scheduled for event_id: {}", event.getEventId());
+                LOGGER.info("Event is already polled in batch for event_id: {}", event.getEventId());
             }
-        } else if(eventFutures.containsKey(event.getEventId())) {
-            // Cancel the scheduled task if the event is no longer live
-            LOGGER.info("Cancelling the scheduled tasks for event_id: {}", event.getEventId());
-            eventFutures.get(event.getEventId()).cancel(true);
-            eventFutures.remove(event.getEventId());
+        } else if(liveEventIds.remove(event.getEventId())) {
+            LOGGER.info("Removed event_id: {} from batch score polling", event.getEventId());
+            changeDetector.clear(event.getEventId());
+            scoreCache.evict(event.getEventId());
+            return true;
         } else {
-            LOGGER.info("No scheduled tasks found for event_id: {}", event.getEventId());
+            LOGGER.info("No batch polling found for event_id: {}", event.getEventId());
+        }
+        return false;
+    }
+
+    /**
+     * Rejects a live event that would start polling on this instance while the lane of its priority is
+     * overloaded. Adding events to a lane that already starts its runs late only makes every event of the
+     * lane later, so new ones are turned away until the lag recovers; the other lanes keep admitting events.
+     * In batch mode every event is polled by the single bulk task on the normal lane, so the lag of that
+     * lane decides for all priorities. Not-live events, events already polled and, in cluster mode, events
+     * owned by another instance add no polling here and are always admitted.
+     *
+     * @param event the validated event
+     * @throws HttpServerErrorException with status 503 and a {@code Retry-After} header if the event is
+     *         rejected
+     */
+    private void admit(Event event) {
+        EventPriority lane = pollingMode == PollingMode.BATCH ? EventPriority.NORMAL : event.getPriority();
+        SchedulerLoadMonitor loadMonitor = event.isLive() ? loadMonitors.get(lane) : null;
+        if (loadMonitor == null || !loadMonitor.isOverloaded()) {
+            return;
+        }
+        int eventId = event.getEventId();
+        boolean polled = pollingMode == PollingMode.BATCH ? liveEventIds.contains(eventId) : eventRegistry.isLive(eventId);
+        if (polled || (clusterMembership.isEnabled() && !clusterMembership.isOwner(eventId))) {
+            return;
         }
+        loadMonitor.recordRejected();
+        pollingMetrics.recordRejectedLiveEvent();
+        LOGGER.debug("Rejected live event_id: {}, scheduler lag {} ms", eventId, loadMonitor.getLagMs());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(loadMonitor.getRetryAfterSeconds()));
+        String message = "Score polling is overloaded: scheduler lag of " + loadMonitor.getLagMs() + " ms exceeds "
+                + loadMonitor.getMaxLagMs() + " ms, live event rejected";
+        throw new HttpServerErrorException(message, SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE.getReasonPhrase(), headers, null, StandardCharsets.UTF_8);
     }
 
     /**
@@ -103,5 +872,8 @@ public class EventManagementServiceImpl implements EventManagementService {
         if(event.getEventId() <= 0) {
             throw new HttpClientErrorException("Invalid event_id request received", BAD_REQUEST, BAD_REQUEST.getReasonPhrase(), null, null, StandardCharsets.UTF_8);
         }
+        if(event.getPollIntervalMs() != null && event.getPollIntervalMs() <= 0) {
+            throw new HttpClientErrorException("Invalid poll_interval_ms request received", BAD_REQUEST, BAD_REQUEST.getReasonPhrase(), null, null, StandardCharsets.UTF_8);
+        }
     }
 }
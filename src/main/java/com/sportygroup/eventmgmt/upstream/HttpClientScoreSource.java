@@ -0,0 +1,203 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.util.UriTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Score source using the JDK {@link HttpClient}.
+ * The client keeps a pool of keep-alive connections per upstream and negotiates HTTP/2 where the
+ * upstream supports it. Every request carries its own deadline, so a hung upstream socket can no
+ * longer block a polling thread indefinitely.
+ * <p>
+ * {@link #fetchScoreAsync(int)} sends the request without blocking and decodes the response on the
+ * client's executor, so a few threads can drive a large number of concurrent requests.
+ * <p>
+ * {@link #prepareFetch(int)} expands the URI template and builds the immutable request of an event once,
+ * so polling it only sends that request and decodes the response with the shared readers.
+ */
+public class HttpClientScoreSource implements ScoreSource {
+
+    /** HTTP client shared by all requests */
+    private final HttpClient httpClient;
+
+    /** Reader decoding a single event score */
+    private final ObjectReader scoreReader;
+
+    /** Reader decoding a list of event scores */
+    private final ObjectReader scoresReader;
+
+    /** URL template of the score API */
+    private final UriTemplate apiUrl;
+
+    /** URL template of the bulk score API */
+    private final UriTemplate bulkApiUrl;
+
+    /** Deadline of each request */
+    private final Duration requestTimeout;
+
+    /**
+     * Constructs a new HttpClientScoreSource.
+     *
+     * @param httpClient HTTP client shared by all requests
+     * @param objectMapper object mapper decoding the responses
+     * @param apiUrl URL template of the score API, with an {@code {eventId}} variable
+     * @param bulkApiUrl URL template of the bulk score API, with an {@code {eventIds}} variable
+     * @param requestTimeout deadline of each request
+     */
+    public HttpClientScoreSource(HttpClient httpClient, ObjectMapper objectMapper, String apiUrl, String bulkApiUrl, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.scoreReader = objectMapper.readerFor(EventScore.class);
+        this.scoresReader = objectMapper.readerFor(EventScore[].class);
+        this.apiUrl = new UriTemplate(apiUrl);
+        this.bulkApiUrl = new UriTemplate(bulkApiUrl);
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public EventScore fetchScore(int eventId) {
+        return prepareFetch(eventId).fetch();
+    }
+
+    @Override
+    public CompletableFuture<EventScore> fetchScoreAsync(int eventId) {
+        return prepareFetch(eventId).fetchAsync();
+    }
+
+    @Override
+    public ScoreFetch prepareFetch(int eventId) {
+        URI uri = apiUrl.expand(eventId);
+        HttpRequest request = request(uri);
+        return new ScoreFetch() {
+            @Override
+            public EventScore fetch() {
+                return decodeScore(eventId, get(uri, request));
+            }
+
+            @Override
+            public CompletableFuture<EventScore> fetchAsync() {
+                return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .handle((response, ex) -> {
+                            if (ex != null) {
+                                throw new CompletionException(transportFailure(uri, ex));
+                            }
+                            return decodeScore(eventId, body(uri, response));
+                        });
+            }
+        };
+    }
+
+    @Override
+    public List<EventScore> fetchScores(List<Integer> eventIds) {
+        URI uri = bulkApiUrl.expand(ScoreSource.joinIds(eventIds));
+        byte[] body = get(uri, request(uri));
+        try {
+            EventScore[] eventScores = scoresReader.readValue(body);
+            return eventScores == null ? List.of() : Arrays.asList(eventScores);
+        } catch (IOException e) {
+            throw new RestClientException("Unable to decode scores of events " + eventIds, e);
+        }
+    }
+
+    /**
+     * Sends a GET request and returns the response body of a successful response.
+     *
+     * @param uri the URI to get
+     * @param request the GET request of the URI
+     * @return the response body
+     * @throws ResourceAccessException on I/O errors and timeouts
+     * @throws RestClientResponseException on non-2xx responses
+     */
+    private byte[] get(URI uri, HttpRequest request) {
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted during GET request for \"" + uri + "\"");
+        }
+        return body(uri, response);
+    }
+
+    /**
+     * Builds a GET request with the request deadline.
+     *
+     * @param uri the URI to get
+     * @return the request
+     */
+    private HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .GET()
+                .build();
+    }
+
+    /**
+     * Returns the body of a successful response.
+     *
+     * @param uri the requested URI
+     * @param response the response
+     * @return the response body
+     * @throws RestClientResponseException on non-2xx responses
+     */
+    private static byte[] body(URI uri, HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new RestClientResponseException("GET request for \"" + uri + "\" returned " + status,
+                    HttpStatusCode.valueOf(status), "", null, response.body(), StandardCharsets.UTF_8);
+        }
+        return response.body();
+    }
+
+    /**
+     * Decodes a single event score.
+     *
+     * @param eventId the ID of the event
+     * @param body the response body
+     * @return the event score
+     * @throws RestClientException if the body cannot be decoded
+     */
+    private EventScore decodeScore(int eventId, byte[] body) {
+        try {
+            return scoreReader.readValue(body);
+        } catch (IOException e) {
+            throw new RestClientException("Unable to decode score of event id " + eventId, e);
+        }
+    }
+
+    /**
+     * Maps the failure of an asynchronous request onto the RestClientException hierarchy.
+     *
+     * @param uri the requested URI
+     * @param failure the failure of the request future
+     * @return the exception to complete the score future with
+     */
+    private static RestClientException transportFailure(URI uri, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof IOException ioException) {
+            return new ResourceAccessException("I/O error on GET request for \"" + uri + "\": " + cause.getMessage(), ioException);
+        }
+        return new RestClientException("GET request for \"" + uri + "\" failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Score source recording the latency and the failures of every request of the source it wraps,
+ * including the non-blocking ones, which are timed until their future completes.
+ */
+public class MeteredScoreSource implements ScoreSource {
+
+    /** Source performing the requests */
+    private final ScoreSource delegate;
+
+    /** Meters the requests are recorded in */
+    private final PollingMetrics metrics;
+
+    /**
+     * Constructs a new MeteredScoreSource.
+     *
+     * @param delegate source performing the requests
+     * @param metrics meters the requests are recorded in
+     */
+    public MeteredScoreSource(ScoreSource delegate, PollingMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public EventScore fetchScore(int eventId) {
+        return metered(delegate.prepareFetch(eventId)).fetch();
+    }
+
+    @Override
+    public CompletableFuture<EventScore> fetchScoreAsync(int eventId) {
+        return metered(delegate.prepareFetch(eventId)).fetchAsync();
+    }
+
+    @Override
+    public ScoreFetch prepareFetch(int eventId) {
+        return metered(delegate.prepareFetch(eventId));
+    }
+
+    @Override
+    public List<EventScore> fetchScores(List<Integer> eventIds) {
+        long start = System.nanoTime();
+        try {
+            List<EventScore> eventScores = delegate.fetchScores(eventIds);
+            metrics.recordFetch(true, start, null);
+            return eventScores;
+        } catch (RuntimeException e) {
+            metrics.recordFetch(true, start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps the prepared fetch of an event so that every request it sends is recorded.
+     *
+     * @param fetch the prepared fetch of the delegate
+     * @return the metered fetch
+     */
+    private ScoreFetch metered(ScoreFetch fetch) {
+        return new ScoreFetch() {
+            @Override
+            public EventScore fetch() {
+                long start = System.nanoTime();
+                try {
+                    EventScore eventScore = fetch.fetch();
+                    metrics.recordFetch(false, start, null);
+                    return eventScore;
+                } catch (RuntimeException e) {
+                    metrics.recordFetch(false, start, e);
+                    throw e;
+                }
+            }
+
+            @Override
+            public CompletableFuture<EventScore> fetchAsync() {
+                long start = System.nanoTime();
+                CompletableFuture<EventScore> future;
+                try {
+                    future = fetch.fetchAsync();
+                } catch (RuntimeException e) {
+                    metrics.recordFetch(false, start, e);
+                    throw e;
+                }
+                return future.whenComplete((eventScore, ex) -> metrics.recordFetch(false, start,
+                        ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+            }
+        };
+    }
+}
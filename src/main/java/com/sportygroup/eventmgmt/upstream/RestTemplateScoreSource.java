@@ -0,0 +1,47 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Blocking score source using a RestTemplate.
+ * Kept as a fallback for upstreams the JDK HTTP client cannot talk to.
+ */
+public class RestTemplateScoreSource implements ScoreSource {
+
+    /** REST template for making API calls */
+    private final RestTemplate restTemplate;
+
+    /** URL of the external API to fetch event scores */
+    private final String apiUrl;
+
+    /** URL of the external bulk API to fetch the scores of several events at once */
+    private final String bulkApiUrl;
+
+    /**
+     * Constructs a new RestTemplateScoreSource.
+     *
+     * @param restTemplate REST template for making API calls
+     * @param apiUrl URL template of the score API, with an {@code {eventId}} variable
+     * @param bulkApiUrl URL template of the bulk score API, with an {@code {eventIds}} variable
+     */
+    public RestTemplateScoreSource(RestTemplate restTemplate, String apiUrl, String bulkApiUrl) {
+        this.restTemplate = restTemplate;
+        this.apiUrl = apiUrl;
+        this.bulkApiUrl = bulkApiUrl;
+    }
+
+    @Override
+    public EventScore fetchScore(int eventId) {
+        return restTemplate.getForObject(apiUrl, EventScore.class, eventId);
+    }
+
+    @Override
+    public List<EventScore> fetchScores(List<Integer> eventIds) {
+        EventScore[] eventScores = restTemplate.getForObject(bulkApiUrl, EventScore[].class, ScoreSource.joinIds(eventIds));
+        return eventScores == null ? List.of() : Arrays.asList(eventScores);
+    }
+}
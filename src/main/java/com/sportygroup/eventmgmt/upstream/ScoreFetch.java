@@ -0,0 +1,29 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fetch of the score of one event, prepared by {@link ScoreSource#prepareFetch(int)} on the first poll of
+ * the event and repeated by every later poll. Whatever only depends on the event, such as its request
+ * URI, is built once instead of on every poll.
+ */
+public interface ScoreFetch {
+
+    /**
+     * Fetches the current score of the event.
+     *
+     * @return the event score
+     * @throws org.springframework.web.client.RestClientException if the score could not be fetched
+     */
+    EventScore fetch();
+
+    /**
+     * Fetches the current score of the event without blocking the calling thread.
+     *
+     * @return a future completed with the event score, or exceptionally with a
+     *         {@link org.springframework.web.client.RestClientException} if the score could not be fetched
+     */
+    CompletableFuture<EventScore> fetchAsync();
+}
@@ -0,0 +1,86 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of event scores, backed by the external score API.
+ * Implementations report transport failures, timeouts and error responses as
+ * {@link org.springframework.web.client.RestClientException} so that callers can retry them.
+ */
+public interface ScoreSource {
+
+    /**
+     * Fetches the current score of one event.
+     *
+     * @param eventId the ID of the event
+     * @return the event score
+     * @throws org.springframework.web.client.RestClientException if the score could not be fetched
+     */
+    EventScore fetchScore(int eventId);
+
+    /**
+     * Fetches the current score of one event without blocking the calling thread.
+     * The default implementation performs the blocking fetch on the calling thread and returns an
+     * already completed future; implementations with a non-blocking client override it.
+     *
+     * @param eventId the ID of the event
+     * @return a future completed with the event score, or exceptionally with a
+     *         {@link org.springframework.web.client.RestClientException} if the score could not be fetched
+     */
+    default CompletableFuture<EventScore> fetchScoreAsync(int eventId) {
+        try {
+            return CompletableFuture.completedFuture(fetchScore(eventId));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Prepares the fetch of the score of one event, repeated by every poll of the event.
+     * The default implementation fetches through {@link #fetchScore(int)} and {@link #fetchScoreAsync(int)};
+     * implementations override it to build the request of the event only once.
+     *
+     * @param eventId the ID of the event
+     * @return the fetch of the event score
+     */
+    default ScoreFetch prepareFetch(int eventId) {
+        return new ScoreFetch() {
+            @Override
+            public EventScore fetch() {
+                return fetchScore(eventId);
+            }
+
+            @Override
+            public CompletableFuture<EventScore> fetchAsync() {
+                return fetchScoreAsync(eventId);
+            }
+        };
+    }
+
+    /**
+     * Fetches the current scores of several events in a single request.
+     *
+     * @param eventIds the IDs of the events
+     * @return the event scores returned by the upstream, possibly fewer than requested
+     * @throws org.springframework.web.client.RestClientException if the scores could not be fetched
+     */
+    List<EventScore> fetchScores(List<Integer> eventIds);
+
+    /**
+     * Joins event IDs into the comma separated form expected by the bulk API.
+     *
+     * @param eventIds the event IDs to join
+     * @return the comma separated IDs
+     */
+    static String joinIds(List<Integer> eventIds) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Integer eventId : eventIds) {
+            joiner.add(String.valueOf(eventId));
+        }
+        return joiner.toString();
+    }
+}
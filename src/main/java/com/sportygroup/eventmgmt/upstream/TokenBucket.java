@@ -0,0 +1,93 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the rate of upstream requests.
+ * The bucket refills continuously at the configured rate and holds at most one second worth of
+ * tokens, so short bursts are absorbed while the sustained rate never exceeds the limit.
+ * Acquiring never blocks: a caller finding the bucket empty skips its request.
+ */
+public class TokenBucket {
+
+    /** Number of nanoseconds in one second */
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /** Tokens added per nanosecond */
+    private final double tokensPerNano;
+
+    /** Maximum number of tokens held */
+    private final double capacity;
+
+    /** Source of the current time in nanoseconds */
+    private final LongSupplier nanoTime;
+
+    /** Tokens currently available */
+    private double tokens;
+
+    /** Time in nanoseconds of the last refill */
+    private long lastRefillNanos;
+
+    /**
+     * Constructs a new full token bucket.
+     *
+     * @param permitsPerSecond sustained number of requests allowed per second
+     */
+    public TokenBucket(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new full token bucket with the given time source.
+     *
+     * @param permitsPerSecond sustained number of requests allowed per second
+     * @param nanoTime source of the current time in nanoseconds
+     */
+    public TokenBucket(double permitsPerSecond, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Permits per second must be positive: " + permitsPerSecond);
+        }
+        this.tokensPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1d, permitsPerSecond);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return true if a token was taken, false if the bucket is empty
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1d) {
+            return false;
+        }
+        tokens -= 1d;
+        return true;
+    }
+
+    /**
+     * Takes a token even if the bucket is empty, for a request already allowed by another bucket.
+     * The bucket goes into debt, down to minus its capacity, and the requests it allows itself
+     * wait until the debt is paid back at the configured rate.
+     */
+    public synchronized void take() {
+        refill();
+        tokens = Math.max(-capacity, tokens - 1d);
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire()} that was not used.
+     */
+    public synchronized void release() {
+        tokens = Math.min(capacity, tokens + 1d);
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
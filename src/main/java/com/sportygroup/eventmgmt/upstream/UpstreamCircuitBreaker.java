@@ -0,0 +1,163 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+
+/**
+ * Circuit breaker guarding calls to one upstream score API.
+ * After a number of consecutive failures the breaker opens and polling of that upstream stops.
+ * While open, a single probe request is let through once per open duration; a successful probe
+ * closes the breaker again, a failed one keeps it open for another open duration.
+ */
+public class UpstreamCircuitBreaker {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpstreamCircuitBreaker.class);
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        /** Requests flow normally */
+        CLOSED,
+        /** Polling is paused until the next probe */
+        OPEN,
+        /** A probe request is in flight to detect recovery */
+        HALF_OPEN
+    }
+
+    /** Name of the guarded upstream */
+    private final String upstream;
+
+    /** Number of consecutive failures that opens the breaker */
+    private final int failureThreshold;
+
+    /** Time in milliseconds the breaker stays open between probes */
+    private final long openDurationMs;
+
+    /** Clock used to time the probes */
+    private final Clock clock;
+
+    /** Current state of the breaker */
+    private volatile State state = State.CLOSED;
+
+    /** Number of consecutive failures since the last success */
+    private int consecutiveFailures;
+
+    /** Time in milliseconds at which the next probe may be sent */
+    private long nextProbeAtMillis;
+
+    /**
+     * Constructs a new closed circuit breaker.
+     *
+     * @param upstream name of the guarded upstream
+     * @param failureThreshold number of consecutive failures that opens the breaker
+     * @param openDurationMs time in milliseconds the breaker stays open between probes
+     */
+    public UpstreamCircuitBreaker(String upstream, int failureThreshold, long openDurationMs) {
+        this(upstream, failureThreshold, openDurationMs, Clock.systemUTC());
+    }
+
+    /**
+     * Constructs a new closed circuit breaker with the given clock.
+     *
+     * @param upstream name of the guarded upstream
+     * @param failureThreshold number of consecutive failures that opens the breaker
+     * @param openDurationMs time in milliseconds the breaker stays open between probes
+     * @param clock clock used to time the probes
+     */
+    public UpstreamCircuitBreaker(String upstream, int failureThreshold, long openDurationMs, Clock clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be positive: " + failureThreshold);
+        }
+        this.upstream = upstream;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Checks whether a request to the upstream may be sent now.
+     * Always true while closed. While open, only one probe is allowed per open duration.
+     *
+     * @return true if the request may be sent, false if polling is paused
+     */
+    public boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            long now = clock.millis();
+            if (now < nextProbeAtMillis) {
+                return false;
+            }
+            // Let a single probe through; a probe that never reports back is replaced after another open duration
+            state = State.HALF_OPEN;
+            nextProbeAtMillis = now + openDurationMs;
+            LOGGER.info("Circuit breaker for upstream {} is half open, sending probe", upstream);
+            return true;
+        }
+    }
+
+    /**
+     * Records a successful upstream call and closes the breaker.
+     */
+    public void recordSuccess() {
+        if (state == State.CLOSED && consecutiveFailures == 0) {
+            return;
+        }
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                LOGGER.info("Circuit breaker for upstream {} closed, resuming polling", upstream);
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * Records a failed upstream call. Opens the breaker when the failure threshold is reached,
+     * or immediately when a probe fails.
+     */
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            nextProbeAtMillis = clock.millis() + openDurationMs;
+            LOGGER.warn("Circuit breaker for upstream {} opened after {} consecutive failures, pausing polling for {} ms",
+                    upstream, consecutiveFailures, openDurationMs);
+        }
+    }
+
+    /**
+     * Gets the name of the guarded upstream.
+     *
+     * @return the upstream name
+     */
+    public String getUpstream() {
+        return upstream;
+    }
+
+    /**
+     * Gets the current state of the breaker.
+     *
+     * @return the breaker state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the number of consecutive failures since the last success.
+     *
+     * @return the consecutive failure count
+     */
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+}
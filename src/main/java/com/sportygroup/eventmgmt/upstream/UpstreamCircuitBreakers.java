@@ -0,0 +1,65 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of circuit breakers, one per upstream score API.
+ * Upstreams are identified by the host and port of their URL, so the single-event and bulk
+ * endpoints of the same provider share a breaker.
+ */
+@Component
+public class UpstreamCircuitBreakers {
+
+    /** Number of consecutive failures that opens a breaker */
+    @Value("${eventmgmt.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold = 5;
+
+    /** Time in milliseconds a breaker stays open between probes */
+    @Value("${eventmgmt.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs = 30000;
+
+    /** Circuit breakers by upstream */
+    private final Map<String, UpstreamCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the circuit breaker of the upstream serving the given URL, creating it on first use.
+     *
+     * @param url the upstream URL, may be a URI template
+     * @return the circuit breaker of the upstream
+     */
+    public UpstreamCircuitBreaker forUrl(String url) {
+        return circuitBreakers.computeIfAbsent(upstreamOf(url),
+                upstream -> new UpstreamCircuitBreaker(upstream, failureThreshold, openDurationMs));
+    }
+
+    /**
+     * Gets all circuit breakers created so far.
+     *
+     * @return the circuit breakers
+     */
+    public Collection<UpstreamCircuitBreaker> getAll() {
+        return new ArrayList<>(circuitBreakers.values());
+    }
+
+    /**
+     * Derives the upstream name from a URL.
+     *
+     * @param url the upstream URL, may be a URI template
+     * @return the host and port of the URL, or the URL itself if it has no host
+     */
+    static String upstreamOf(String url) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+        if (uri.getHost() == null) {
+            return url;
+        }
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+}
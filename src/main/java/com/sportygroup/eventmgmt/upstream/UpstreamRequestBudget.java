@@ -0,0 +1,192 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Budget of upstream score API requests per second.
+ * Every request takes a token from a global bucket shared by all upstreams and from the bucket of
+ * its own upstream, so neither the total request rate nor the rate towards a single host exceeds
+ * its limit. A request without a token is skipped and counted as throttled.
+ * <p>
+ * Throttled requests mean that live events are polled less often than scheduled. This lag is
+ * counted per upstream and logged as a warning at most once per {@link #LAG_WARNING_INTERVAL_MS}.
+ * <p>
+ * A {@link #share(double) share} of the budget reserves a fraction of both rates in buckets of its own, so
+ * that the requests of one share never take the reserved tokens of another. The requests a share allows
+ * are charged to the budget it was taken from as well, and a share whose own buckets are empty borrows
+ * the tokens that budget has left. Unused reservations are therefore not lost, while the budget and its
+ * shares together stay within the limits of the budget. Throttled requests of a share are counted and
+ * reported by the budget it was taken from.
+ */
+@Component
+public class UpstreamRequestBudget {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(UpstreamRequestBudget.class);
+
+    /** Minimum time in milliseconds between two lag warnings */
+    static final long LAG_WARNING_INTERVAL_MS = 10000;
+
+    /** Request rate allowed across all upstreams, 0 for unlimited */
+    private final double requestsPerSecond;
+
+    /** Global request bucket, null if the global rate is unlimited */
+    private final TokenBucket globalBucket;
+
+    /** Request rate allowed per upstream, 0 for unlimited */
+    private final double perUpstreamRequestsPerSecond;
+
+    /** Request buckets by upstream */
+    private final Map<String, TokenBucket> upstreamBuckets = new ConcurrentHashMap<>();
+
+    /** Throttled request counters by upstream */
+    private final Map<String, LongAdder> throttledRequests = new ConcurrentHashMap<>();
+
+    /** Budget this one is a share of, null if it is not a share */
+    private final UpstreamRequestBudget parent;
+
+    /** Time in nanoseconds of the last lag warning */
+    private final AtomicLong lastLagWarningNanos = new AtomicLong(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(LAG_WARNING_INTERVAL_MS));
+
+    /**
+     * Constructs a new UpstreamRequestBudget.
+     *
+     * @param requestsPerSecond request rate allowed across all upstreams, 0 for unlimited
+     * @param perUpstreamRequestsPerSecond request rate allowed per upstream, 0 for unlimited
+     */
+    public UpstreamRequestBudget(@Value("${eventmgmt.upstream.max-requests-per-second:1000}") double requestsPerSecond,
+                                 @Value("${eventmgmt.upstream.max-requests-per-second-per-host:500}") double perUpstreamRequestsPerSecond) {
+        this(requestsPerSecond, perUpstreamRequestsPerSecond, null);
+    }
+
+    private UpstreamRequestBudget(double requestsPerSecond, double perUpstreamRequestsPerSecond, UpstreamRequestBudget parent) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.globalBucket = requestsPerSecond > 0 ? new TokenBucket(requestsPerSecond) : null;
+        this.perUpstreamRequestsPerSecond = perUpstreamRequestsPerSecond;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a share of this budget, with its own buckets reserving the given fraction of both rates.
+     * Shares of one budget whose fractions add up to at most 1 always get their reservations, while
+     * none of them can exhaust the others. Beyond its reservation, a share borrows from this budget.
+     * Unlimited rates stay unlimited.
+     *
+     * @param fraction the fraction of the rates, greater than 0 and at most 1
+     * @return the share of the budget
+     * @throws IllegalArgumentException if the fraction is not within (0, 1]
+     */
+    public UpstreamRequestBudget share(double fraction) {
+        if (!(fraction > 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Budget share must be within (0, 1]: " + fraction);
+        }
+        return new UpstreamRequestBudget(requestsPerSecond * fraction, perUpstreamRequestsPerSecond * fraction, this);
+    }
+
+    /**
+     * Takes a request permit for the given upstream.
+     * A share takes it from its own buckets and charges it to the budget it was taken from, or else borrows
+     * it there.
+     *
+     * @param upstream the upstream the request is sent to
+     * @return true if the request may be sent, false if it has to be skipped
+     */
+    public boolean tryAcquire(String upstream) {
+        if (take(upstream)) {
+            if (parent != null) {
+                parent.charge(upstream);
+            }
+            return true;
+        }
+        if (parent != null) {
+            return parent.tryAcquire(upstream);
+        }
+        throttled(upstream);
+        return false;
+    }
+
+    /**
+     * Takes a token from the global bucket and from the bucket of the upstream, or from neither.
+     *
+     * @param upstream the upstream the request is sent to
+     * @return true if both tokens were taken
+     */
+    private boolean take(String upstream) {
+        TokenBucket upstreamBucket = upstreamBucket(upstream);
+        if (upstreamBucket != null && !upstreamBucket.tryAcquire()) {
+            return false;
+        }
+        if (globalBucket != null && !globalBucket.tryAcquire()) {
+            if (upstreamBucket != null) {
+                upstreamBucket.release();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Charges a request allowed by a share of this budget, even if this budget has no token left for it.
+     *
+     * @param upstream the upstream the request is sent to
+     */
+    private void charge(String upstream) {
+        TokenBucket upstreamBucket = upstreamBucket(upstream);
+        if (upstreamBucket != null) {
+            upstreamBucket.take();
+        }
+        if (globalBucket != null) {
+            globalBucket.take();
+        }
+        if (parent != null) {
+            parent.charge(upstream);
+        }
+    }
+
+    /**
+     * Gets the bucket of an upstream, created on its first request.
+     *
+     * @param upstream the upstream
+     * @return the bucket, null if the rate per upstream is unlimited
+     */
+    private TokenBucket upstreamBucket(String upstream) {
+        return perUpstreamRequestsPerSecond > 0
+                ? upstreamBuckets.computeIfAbsent(upstream, key -> new TokenBucket(perUpstreamRequestsPerSecond))
+                : null;
+    }
+
+    /**
+     * Gets the number of requests to an upstream skipped for lack of budget.
+     *
+     * @param upstream the upstream
+     * @return the number of throttled requests
+     */
+    public long getThrottledRequests(String upstream) {
+        LongAdder counter = throttledRequests.get(upstream);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private void throttled(String upstream) {
+        if (parent != null) {
+            parent.throttled(upstream);
+            return;
+        }
+        LongAdder counter = throttledRequests.computeIfAbsent(upstream, key -> new LongAdder());
+        counter.increment();
+        long now = System.nanoTime();
+        long last = lastLagWarningNanos.get();
+        if (now - last >= TimeUnit.MILLISECONDS.toNanos(LAG_WARNING_INTERVAL_MS) && lastLagWarningNanos.compareAndSet(last, now)) {
+            LOGGER.warn("Upstream request budget cannot keep up with the live events, polls of {} are lagging: {} requests throttled so far",
+                    upstream, counter.sum());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sportygroup.eventmgmt.config;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual thread executors, in the default Java 17 build that has none.
+ * The {@code java21} Maven profile compiles the Java 21 variant of this class from {@code src/main/java21}
+ * instead, which creates the executors directly. Build and run with that profile to use the virtual thread
+ * execution mode.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Checks whether this build supports virtual threads.
+     *
+     * @return false, the Java 17 build has no virtual threads
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return never, as the Java 17 build has no virtual threads
+     * @throws IllegalStateException always
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        throw new IllegalStateException("Virtual thread execution mode requires Java 21: build with the java21 Maven "
+                + "profile, this build targets Java 17");
+    }
+}
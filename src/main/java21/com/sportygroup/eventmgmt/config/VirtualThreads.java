@@ -0,0 +1,33 @@
+package com.sportygroup.eventmgmt.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual thread executors, in the Java 21 build.
+ * Compiled by the {@code java21} Maven profile in place of the Java 17 variant in {@code src/main/java17},
+ * which has no virtual threads.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Checks whether this build supports virtual threads.
+     *
+     * @return true, the Java 21 build always does
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return a virtual-thread-per-task executor
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -3,7 +3,7 @@ package com.sportygroup.eventmgmt;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "eventmgmt.journal.path=target/test-data/live-events.journal")
 class EventmgmtApplicationTests {
 
 	@Test
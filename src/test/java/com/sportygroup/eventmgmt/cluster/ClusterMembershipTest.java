@@ -0,0 +1,113 @@
+package com.sportygroup.eventmgmt.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterMembershipTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<ClusterMembership> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ClusterMembership::stop);
+    }
+
+    @Test
+    void testIsOwner_Disabled_ShouldOwnEveryEvent() {
+        ClusterMembership membership = new ClusterMembership(false, "", "", "", 128, 5000);
+        membership.start();
+
+        assertFalse(membership.isEnabled());
+        assertTrue(membership.isOwner(1));
+        assertTrue(membership.isOwner(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testConstructor_EnabledWithoutNodeId_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusterMembership(true, " ", "a,b", "", 128, 5000));
+    }
+
+    @Test
+    void testIsOwner_StaticMembers_ShouldPartitionEventsAcrossNodes() {
+        String members = "node-a,node-b,node-c";
+        List<ClusterMembership> cluster = List.of(
+                node("node-a", members, ""), node("node-b", members, ""), node("node-c", members, ""));
+
+        for (int eventId = 1; eventId <= 10_000; eventId++) {
+            int id = eventId;
+            assertEquals(1, cluster.stream().filter(node -> node.isOwner(id)).count(), "Owners of event " + eventId);
+        }
+    }
+
+    @Test
+    void testRefresh_SharedMembersFile_ShouldRebalanceEveryNode() throws Exception {
+        Path membersFile = dir.resolve("members");
+        Files.write(membersFile, List.of("# cluster members", "node-a", "node-b", "", "node-c"));
+        ClusterMembership nodeA = node("node-a", "", membersFile.toString());
+        ClusterMembership nodeC = node("node-c", "", membersFile.toString());
+        assertEquals(List.of("node-a", "node-b", "node-c"), nodeA.getRing().getMembers());
+        CountDownLatch rebalanced = new CountDownLatch(2);
+        List<ConsistentHashRing> rings = new CopyOnWriteArrayList<>();
+        nodeA.addListener(ring -> {
+            rings.add(ring);
+            rebalanced.countDown();
+        });
+        nodeC.addListener(ring -> rebalanced.countDown());
+
+        // node-b leaves the cluster
+        Files.write(membersFile, List.of("node-a", "node-c"));
+
+        assertTrue(rebalanced.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("node-a", "node-c"), rings.get(0).getMembers());
+        for (int eventId = 1; eventId <= 10_000; eventId++) {
+            assertTrue(nodeA.isOwner(eventId) ^ nodeC.isOwner(eventId), "Owners of event " + eventId);
+        }
+    }
+
+    @Test
+    void testRefresh_UnreadableFile_ShouldKeepMembers() throws IOException {
+        Path membersFile = dir.resolve("members");
+        Files.write(membersFile, List.of("node-a", "node-b"));
+        ClusterMembership membership = node("node-a", "", membersFile.toString());
+
+        Files.delete(membersFile);
+        membership.refresh();
+
+        assertEquals(List.of("node-a", "node-b"), membership.getRing().getMembers());
+    }
+
+    @Test
+    void testUpdateMembers_Unchanged_ShouldNotNotify() {
+        ClusterMembership membership = node("node-a", "node-a,node-b", "");
+        List<ConsistentHashRing> rings = new ArrayList<>();
+        membership.addListener(rings::add);
+
+        assertFalse(membership.updateMembers(List.of("node-b", "node-a")));
+        assertTrue(membership.updateMembers(List.of("node-a")));
+
+        assertEquals(1, rings.size());
+        assertTrue(membership.isOwner(42));
+    }
+
+    private ClusterMembership node(String nodeId, String members, String membersFile) {
+        ClusterMembership membership = new ClusterMembership(true, nodeId, members, membersFile, 128, 50);
+        membership.start();
+        nodes.add(membership);
+        return membership;
+    }
+}
@@ -0,0 +1,81 @@
+package com.sportygroup.eventmgmt.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int EVENTS = 100_000;
+
+    @Test
+    void testOwnerOf_ShouldSpreadEventsEvenlyAcrossMembers() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int eventId = 1; eventId <= EVENTS; eventId++) {
+            counts.merge(ring.ownerOf(eventId), 1, Integer::sum);
+        }
+
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            // Each member owns a quarter of the events, within 20%
+            assertTrue(Math.abs(count - EVENTS / 4) < EVENTS / 20, "Unbalanced ring: " + counts);
+        }
+    }
+
+    @Test
+    void testOwnerOf_MemberJoins_ShouldOnlyMoveEventsToNewMember() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+
+        int moved = 0;
+        for (int eventId = 1; eventId <= EVENTS; eventId++) {
+            String owner = after.ownerOf(eventId);
+            if (!owner.equals(before.ownerOf(eventId))) {
+                assertEquals("node-d", owner);
+                moved++;
+            }
+        }
+        // About one event in four moves to the new member
+        assertTrue(moved > EVENTS / 5 && moved < EVENTS * 3 / 10, "Moved " + moved);
+    }
+
+    @Test
+    void testOwnerOf_MemberLeaves_ShouldOnlyMoveItsEvents() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-c"), 128);
+
+        for (int eventId = 1; eventId <= EVENTS; eventId++) {
+            String owner = before.ownerOf(eventId);
+            if (!owner.equals("node-b")) {
+                assertEquals(owner, after.ownerOf(eventId));
+            }
+        }
+    }
+
+    @Test
+    void testOwnerOf_SameMembersInAnyOrder_ShouldAgree() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 64);
+        ConsistentHashRing other = new ConsistentHashRing(List.of(" node-c", "node-a", "node-b", "node-a", ""), 64);
+
+        assertEquals(List.of("node-a", "node-b", "node-c"), other.getMembers());
+        for (int eventId = 1; eventId <= 10_000; eventId++) {
+            assertEquals(ring.ownerOf(eventId), other.ownerOf(eventId));
+        }
+    }
+
+    @Test
+    void testOwnerOf_NoMembers_ShouldReturnNull() {
+        assertNull(new ConsistentHashRing(List.of(), 128).ownerOf(1));
+    }
+
+    @Test
+    void testConstructor_NonPositiveVirtualNodes_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of("node-a"), 0));
+    }
+}
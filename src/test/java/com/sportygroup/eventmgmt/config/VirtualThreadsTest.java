@@ -0,0 +1,26 @@
+package com.sportygroup.eventmgmt.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsTest {
+
+    @Test
+    void testNewVirtualThreadPerTaskExecutor_ShouldMatchBuildSupport() throws Exception {
+        if (VirtualThreads.isSupported()) {
+            ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            Future<String> threadName = executor.submit(() -> Thread.currentThread().toString());
+            assertTrue(threadName.get(5, TimeUnit.SECONDS).startsWith("VirtualThread"));
+            executor.shutdownNow();
+        } else {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    VirtualThreads::newVirtualThreadPerTaskExecutor);
+            assertTrue(exception.getMessage().contains("Java 21"));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.sportygroup.eventmgmt.consumer;
+
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.service.EventManagementService;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "eventmgmt.control.enabled=true",
+        "eventmgmt.control.retry-backoff-ms=10",
+        "eventmgmt.journal.path="
+})
+@EmbeddedKafka(partitions = 1, topics = EventStatusListenerTest.TOPIC)
+class EventStatusListenerTest {
+
+    static final String TOPIC = "event-status-control";
+
+    private static final String GROUP = "eventmgmt";
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @MockitoBean
+    private EventManagementService eventManagementService;
+
+    /** Status changes applied by the service, in order */
+    private final List<Event> applied = new CopyOnWriteArrayList<>();
+
+    /** Event ID whose next change fails unexpectedly, once */
+    private volatile int failingEventId;
+
+    /** Event ID whose live changes are rejected as overloaded (E1004) while the overload lasts */
+    private volatile int overloadedEventId;
+
+    /** Flag indicating whether score polling is overloaded */
+    private final AtomicBoolean overloaded = new AtomicBoolean();
+
+    @Autowired
+    private EventStatusListener listener;
+
+    private Producer<Integer, String> producer;
+
+    @BeforeEach
+    void setup() {
+        AtomicBoolean failed = new AtomicBoolean();
+        overloaded.set(true);
+        when(eventManagementService.updateEventStatuses(any())).thenAnswer(invocation -> {
+            List<EventStatusResult> results = new ArrayList<>();
+            for (Event event : invocation.<Iterable<Event>>getArgument(0)) {
+                if (event == null) {
+                    results.add(new EventStatusResult(0, false, false, "E1001", "Null event request received"));
+                } else if (event.getEventId() == overloadedEventId && event.isLive() && overloaded.get()) {
+                    results.add(new EventStatusResult(event.getEventId(), event.isLive(), false, "E1004", "Score polling is overloaded"));
+                } else if (event.getEventId() == failingEventId && failed.compareAndSet(false, true)) {
+                    results.add(new EventStatusResult(event.getEventId(), event.isLive(), false, "E1002", "Error while updating event status"));
+                } else {
+                    applied.add(event);
+                    results.add(new EventStatusResult(event.getEventId(), event.isLive(), true, null, null));
+                }
+            }
+            return results;
+        });
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producer = new KafkaProducer<>(producerProps, new IntegerSerializer(), new StringSerializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        producer.close();
+    }
+
+    @Test
+    void testOnStatusChanges_ShouldApplyChangesInOrderAndCommitOffsets() throws Exception {
+        send(101, "{\"eventId\":101,\"live\":true}");
+        send(102, "{\"live\":true,\"pollIntervalMs\":3000}");
+        send(103, "not json");
+        long end = send(101, "{\"eventId\":101,\"live\":false}");
+
+        awaitCommitted(end + 1);
+
+        List<Event> events = applied.stream().filter(event -> event.getEventId() >= 101 && event.getEventId() <= 103).toList();
+        assertEquals(3, events.size());
+        assertEquals(101, events.get(0).getEventId());
+        assertTrue(events.get(0).isLive());
+        // The event ID of a change without one in its payload comes from the record key
+        assertEquals(102, events.get(1).getEventId());
+        assertEquals(3000L, events.get(1).getPollIntervalMs());
+        assertEquals(101, events.get(2).getEventId());
+        assertFalse(events.get(2).isLive());
+    }
+
+    @Test
+    void testOnStatusChanges_FailedChange_ShouldBeRedeliveredBeforeCommit() throws Exception {
+        failingEventId = 201;
+        send(200, "{\"eventId\":200,\"live\":true}");
+        send(201, "{\"eventId\":201,\"live\":true}");
+        long end = send(202, "{\"eventId\":202,\"live\":true}");
+
+        awaitCommitted(end + 1);
+
+        List<Integer> eventIds = applied.stream().map(Event::getEventId).filter(id -> id >= 200 && id <= 202).toList();
+        assertEquals(1, eventIds.stream().filter(id -> id == 200).count());
+        assertTrue(eventIds.contains(201));
+        assertTrue(eventIds.indexOf(201) < eventIds.lastIndexOf(202));
+    }
+
+    @Test
+    void testOnStatusChanges_OverloadRejected_ShouldBeDeferredWithoutBlockingLaterChanges() throws Exception {
+        overloadedEventId = 301;
+        send(300, "{\"eventId\":300,\"live\":true}");
+        send(301, "{\"eventId\":301,\"live\":true}");
+        long end = send(302, "{\"eventId\":302,\"live\":true}");
+
+        // The changes behind the rejected one are applied and committed while it is deferred
+        awaitCommitted(end + 1);
+        List<Integer> eventIds = applied.stream().map(Event::getEventId).filter(id -> id >= 300 && id <= 302).toList();
+        assertEquals(List.of(300, 302), eventIds);
+        assertEquals(1, listener.getDeferredCount());
+
+        // Once the overload is over, the deferred change is applied rather than dropped
+        overloaded.set(false);
+        awaitApplied(301, true);
+        assertEquals(0, listener.getDeferredCount());
+    }
+
+    @Test
+    void testOnStatusChanges_DeferredLiveEventFollowedByNotLive_ShouldNotBeAppliedAfterIt() throws Exception {
+        overloadedEventId = 401;
+        send(401, "{\"eventId\":401,\"live\":true}");
+        long end = send(401, "{\"eventId\":401,\"live\":false}");
+
+        awaitCommitted(end + 1);
+        overloaded.set(false);
+        long marker = send(402, "{\"eventId\":402,\"live\":true}");
+        awaitCommitted(marker + 1);
+        Thread.sleep(200);
+
+        // The not-live change replaced the deferred live one, so the event is never set live
+        List<Event> events = applied.stream().filter(event -> event.getEventId() == 401).toList();
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).isLive());
+        assertEquals(0, listener.getDeferredCount());
+    }
+
+    private long send(int eventId, String payload) throws Exception {
+        return producer.send(new ProducerRecord<>(TOPIC, eventId, payload)).get().offset();
+    }
+
+    private void awaitApplied(int eventId, boolean live) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (applied.stream().anyMatch(event -> event.getEventId() == eventId && event.isLive() == live)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Status change of event " + eventId + " was not applied");
+    }
+
+    private void awaitCommitted(long offset) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            OffsetAndMetadata committed = KafkaTestUtils.getCurrentOffset(broker.getBrokersAsString(), GROUP, TOPIC, 0);
+            if (committed != null && committed.offset() >= offset) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Offset " + offset + " was not committed");
+    }
+}
@@ -1,19 +1,38 @@
 package com.sportygroup.eventmgmt.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.model.LatestScore;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import com.sportygroup.eventmgmt.publisher.ScoreStreamBroadcaster;
 import com.sportygroup.eventmgmt.service.EventManagementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,6 +46,14 @@ class EventControllerTest {
     @Mock
     private EventManagementService eventManagementService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private LatestScoreCache scoreCache;
+
+    @Mock
+    private ScoreStreamBroadcaster scoreStreamBroadcaster;
 
     @Test
     void testUpdateEventStatus_Success() {
@@ -68,6 +95,28 @@ class EventControllerTest {
         verifyNoMoreInteractions(eventManagementService);
     }
 
+    @Test
+    void testUpdateEventStatus_Overloaded_ShouldReturnServiceUnavailableWithRetryAfter() {
+        Event event = new Event();
+        event.setEventId(789);
+        event.setLive(true);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "5");
+        HttpServerErrorException exception = new HttpServerErrorException(
+                "Score polling is overloaded", HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                headers, null, StandardCharsets.UTF_8
+        );
+        doThrow(exception).when(eventManagementService).updateEventStatus(event);
+
+        ResponseEntity<?> response = eventController.updateEventStatus(event);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        Map<?, ?> errorBody = (Map<?, ?>) response.getBody();
+        assertEquals("E1004", errorBody.get("errorCode"));
+        assertEquals("Score polling is overloaded", errorBody.get("error"));
+    }
+
     @Test
     void testUpdateEventStatus_InternalServerError() {
         Event event = new Event();
@@ -89,4 +138,158 @@ class EventControllerTest {
         verifyNoMoreInteractions(eventManagementService);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testUpdateEventStatuses_ShouldReturnPerEventResults() {
+        Event live = new Event();
+        live.setEventId(1);
+        live.setLive(true);
+        Event invalid = new Event();
+        List<Event> events = List.of(live, invalid);
+        List<EventStatusResult> results = List.of(
+                new EventStatusResult(1, true, true, null, null),
+                new EventStatusResult(0, false, false, "E1001", "Invalid event_id request received"));
+        when(eventManagementService.updateEventStatuses(events)).thenReturn(results);
+
+        ResponseEntity<?> response = eventController.updateEventStatuses(events);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(results, response.getBody());
+        verify(eventManagementService).updateEventStatuses(events);
+        verifyNoMoreInteractions(eventManagementService);
+    }
+
+    @Test
+    void testStreamEventStatuses_ShouldApplyEachLineAndStreamNdjsonResults() throws IOException {
+        List<Integer> appliedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterable<Event> events = invocation.getArgument(0);
+            Consumer<EventStatusResult> results = invocation.getArgument(1);
+            for (Event event : events) {
+                appliedIds.add(event.getEventId());
+                results.accept(new EventStatusResult(event.getEventId(), event.isLive(), true, null, null));
+            }
+            return null;
+        }).when(eventManagementService).updateEventStatuses(any(), any());
+        String body = "{\"eventId\":1,\"live\":true}\n{\"eventId\":2,\"live\":false}\n";
+
+        ResponseEntity<StreamingResponseBody> response = eventController.streamEventStatuses(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(1, 2), appliedIds);
+        assertEquals("{\"eventId\":1,\"live\":true,\"updated\":true}\n{\"eventId\":2,\"live\":false,\"updated\":true}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testStreamEventStatuses_MalformedLine_ShouldReportItInBandAndApplyTheOtherLines() throws IOException {
+        List<Integer> appliedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterable<Event> events = invocation.getArgument(0);
+            Consumer<EventStatusResult> results = invocation.getArgument(1);
+            for (Event event : events) {
+                appliedIds.add(event.getEventId());
+                results.accept(new EventStatusResult(event.getEventId(), event.isLive(), true, null, null));
+            }
+            return null;
+        }).when(eventManagementService).updateEventStatuses(any(), any());
+        String body = "{\"eventId\":1,\"live\":true}\n{\"eventId\":\n\n{\"eventId\":3,\"live\":true}\n";
+
+        ResponseEntity<StreamingResponseBody> response = eventController.streamEventStatuses(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(1, 3), appliedIds);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"eventId\":1,\"live\":true,\"updated\":true}", lines[0]);
+        Map<?, ?> malformed = objectMapper.readValue(lines[1], Map.class);
+        assertEquals("E1001", malformed.get("errorCode"));
+        assertTrue(((String) malformed.get("error")).contains("line 2"));
+        assertEquals("{\"eventId\":3,\"live\":true,\"updated\":true}", lines[2]);
+    }
+
+    @Test
+    void testStreamEventStatuses_ShouldWriteEachResultBeforeWaitingForTheNextLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<String> writtenBeforeSecondLine = new ArrayList<>();
+        byte[] first = "{\"eventId\":1,\"live\":true}\n".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "{\"eventId\":2,\"live\":true}\n".getBytes(StandardCharsets.UTF_8);
+        // A body whose second line only arrives once the first one was consumed
+        InputStream body = new SequenceInputStream(new ByteArrayInputStream(first), new InputStream() {
+            private ByteArrayInputStream rest;
+
+            @Override
+            public int read() {
+                return delegate().read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return delegate().read(b, off, len);
+            }
+
+            private ByteArrayInputStream delegate() {
+                if (rest == null) {
+                    writtenBeforeSecondLine.add(output.toString(StandardCharsets.UTF_8));
+                    rest = new ByteArrayInputStream(second);
+                }
+                return rest;
+            }
+        });
+        doAnswer(invocation -> {
+            Iterable<Event> events = invocation.getArgument(0);
+            Consumer<EventStatusResult> results = invocation.getArgument(1);
+            for (Event event : events) {
+                results.accept(new EventStatusResult(event.getEventId(), event.isLive(), true, null, null));
+            }
+            return null;
+        }).when(eventManagementService).updateEventStatuses(any(), any());
+
+        eventController.streamEventStatuses(body).getBody().writeTo(output);
+
+        assertEquals(List.of("{\"eventId\":1,\"live\":true,\"updated\":true}\n"), writtenBeforeSecondLine);
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("{\"eventId\":2,\"live\":true,\"updated\":true}\n"));
+    }
+
+    @Test
+    void testGetLatestScore_Cached_ShouldReturnScoreWithFetchTime() {
+        LatestScore latestScore = new LatestScore(123, 2.5f, Instant.ofEpochMilli(1_000));
+        when(scoreCache.get(123)).thenReturn(latestScore);
+
+        ResponseEntity<?> response = eventController.getLatestScore(123);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(latestScore, response.getBody());
+        verifyNoInteractions(eventManagementService);
+    }
+
+    @Test
+    void testGetLatestScore_NotCached_ShouldReturnNotFound() {
+        ResponseEntity<?> response = eventController.getLatestScore(123);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertEquals("E1003", body.get("errorCode"));
+        assertTrue(((String) body.get("error")).contains("123"));
+    }
+
+    @Test
+    void testGetLatestScores_ShouldReturnCachedScores() {
+        List<LatestScore> latestScores = List.of(new LatestScore(1, 1f, Instant.ofEpochMilli(1_000)));
+        when(scoreCache.getAll(List.of(1, 2))).thenReturn(latestScores);
+
+        assertSame(latestScores, eventController.getLatestScores(List.of(1, 2)));
+    }
+
+    @Test
+    void testStreamScores_ShouldSubscribeToEvent() {
+        SseEmitter emitter = new SseEmitter();
+        when(scoreStreamBroadcaster.subscribe(123)).thenReturn(emitter);
+
+        assertSame(emitter, eventController.streamScores(123));
+        verifyNoInteractions(eventManagementService);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,4 +37,19 @@ class EventScoreControllerTest {
         }
     }
 
+    @Test
+    void testGetEventScores_ShouldReturnOneScorePerRequestedEvent() {
+        EventScoreController controller = new EventScoreController();
+
+        List<EventScore> scores = controller.getEventScores(List.of(3, 1, 2));
+
+        assertEquals(3, scores.size());
+        assertEquals(3, scores.get(0).getEventId());
+        assertEquals(1, scores.get(1).getEventId());
+        assertEquals(2, scores.get(2).getEventId());
+        for (EventScore score : scores) {
+            assertTrue(score.getScore() >= 0 && score.getScore() <= 1000.0f);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.sportygroup.eventmgmt.controller;
+
+import com.sportygroup.eventmgmt.model.UpstreamStatus;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreakers;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamControllerTest {
+
+    @InjectMocks
+    private UpstreamController upstreamController;
+
+    @Mock
+    private UpstreamCircuitBreakers circuitBreakers;
+
+    @Mock
+    private UpstreamRequestBudget requestBudget;
+
+    @Test
+    void testGetUpstreamStatuses_ShouldReportPausedUpstreams() {
+        UpstreamCircuitBreaker healthy = new UpstreamCircuitBreaker("healthy:8080", 1, 30000);
+        UpstreamCircuitBreaker failing = new UpstreamCircuitBreaker("failing:8080", 1, 30000);
+        failing.recordFailure();
+        when(circuitBreakers.getAll()).thenReturn(List.of(healthy, failing));
+        when(requestBudget.getThrottledRequests("healthy:8080")).thenReturn(12L);
+
+        List<UpstreamStatus> statuses = upstreamController.getUpstreamStatuses();
+
+        assertEquals(2, statuses.size());
+        assertEquals("healthy:8080", statuses.get(0).getUpstream());
+        assertEquals("CLOSED", statuses.get(0).getCircuitBreakerState());
+        assertFalse(statuses.get(0).isPollingPaused());
+        assertEquals(12L, statuses.get(0).getThrottledRequests());
+        assertEquals("failing:8080", statuses.get(1).getUpstream());
+        assertEquals("OPEN", statuses.get(1).getCircuitBreakerState());
+        assertEquals(1, statuses.get(1).getConsecutiveFailures());
+        assertTrue(statuses.get(1).isPollingPaused());
+    }
+}
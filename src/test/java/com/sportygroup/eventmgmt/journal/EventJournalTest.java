@@ -0,0 +1,202 @@
+package com.sportygroup.eventmgmt.journal;
+
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventPriority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testOpen_ShouldReplayTransitionsOfPreviousRun() {
+        EventJournal journal = open(1024);
+        journal.record(event(1, true, null));
+        journal.record(event(2, true, 3000L));
+        journal.record(event(3, true, null));
+        journal.record(event(1, false, null));
+        journal.close();
+
+        List<Event> live = open(1024).getLiveEvents();
+
+        assertEquals(2, live.size());
+        assertEquals(2, live.get(0).getEventId());
+        assertTrue(live.get(0).isLive());
+        assertEquals(3000L, live.get(0).getPollIntervalMs());
+        assertEquals(3, live.get(1).getEventId());
+        assertNull(live.get(1).getPollIntervalMs());
+    }
+
+    @Test
+    void testOpen_ShouldReplayPriorities() {
+        EventJournal journal = open(1024);
+        Event featured = event(1, true, 2000L);
+        featured.setPriority(EventPriority.HIGH);
+        Event minor = event(2, true, null);
+        minor.setPriority(EventPriority.LOW);
+        journal.record(featured);
+        journal.record(minor);
+        journal.record(event(3, true, null));
+        // A priority change of a live event is recorded as well
+        minor.setPriority(EventPriority.NORMAL);
+        journal.record(minor);
+        journal.close();
+
+        List<Event> live = open(1024).getLiveEvents();
+
+        assertEquals(EventPriority.HIGH, live.get(0).getPriority());
+        assertEquals(2000L, live.get(0).getPollIntervalMs());
+        assertEquals(EventPriority.NORMAL, live.get(1).getPriority());
+        assertEquals(EventPriority.NORMAL, live.get(2).getPriority());
+    }
+
+    @Test
+    void testRecord_WithoutClose_ShouldBeReplayedAfterCrash() {
+        EventJournal crashed = open(1024);
+        crashed.record(event(7, true, null));
+
+        assertEquals(List.of(7), ids(open(1024)));
+    }
+
+    @Test
+    void testRecord_RepeatedTransition_ShouldNotBeWrittenAgain() throws IOException {
+        EventJournal journal = open(1024);
+        journal.record(event(1, true, null));
+        journal.record(event(1, true, null));
+        journal.record(event(2, false, null));
+        journal.close();
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(journalFile()));
+        content.position(EventJournal.HEADER_SIZE + EventJournal.RECORD_SIZE);
+        assertEquals(0, content.getInt());
+    }
+
+    @Test
+    void testRecord_FullJournal_ShouldCompactToLiveEvents() throws IOException {
+        long capacity = EventJournal.HEADER_SIZE + 8 * EventJournal.RECORD_SIZE;
+        EventJournal journal = open(capacity);
+        // Far more transitions than fit in the file, with two events left live
+        for (int i = 0; i < 1000; i++) {
+            journal.record(event(100, i % 2 == 0, null));
+        }
+        journal.record(event(1, true, null));
+        journal.record(event(2, true, null));
+        journal.close();
+
+        assertEquals(capacity, Files.size(journalFile()));
+        assertEquals(List.of(1, 2), ids(open(capacity)));
+    }
+
+    @Test
+    void testRecord_PastHighWaterMark_ShouldCompactInBackground() throws Exception {
+        EventJournal journal = open(EventJournal.HEADER_SIZE + 8 * EventJournal.RECORD_SIZE);
+        journal.record(event(1, true, null));
+        // Six records take the file past three quarters of its eight record capacity
+        for (int i = 0; i < 5; i++) {
+            journal.record(event(100, i % 2 == 0, null));
+        }
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (recordCount() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, recordCount());
+        journal.record(event(2, true, null));
+        assertEquals(List.of(1, 100, 2), ids(open(1024)));
+    }
+
+    @Test
+    void testRecord_ManyLiveEvents_ShouldGrowJournal() throws IOException {
+        long capacity = EventJournal.HEADER_SIZE + 4 * EventJournal.RECORD_SIZE;
+        EventJournal journal = open(capacity);
+        for (int id = 1; id <= 100; id++) {
+            journal.record(event(id, true, null));
+        }
+        journal.close();
+
+        assertTrue(Files.size(journalFile()) >= EventJournal.HEADER_SIZE + 200L * EventJournal.RECORD_SIZE);
+        assertEquals(100, open(capacity).getLiveEvents().size());
+    }
+
+    @Test
+    void testOpen_TornRecord_ShouldBeIgnored() throws IOException {
+        EventJournal journal = open(1024);
+        journal.record(event(1, true, null));
+        journal.close();
+        // A record whose body was written but not its event ID
+        try (FileChannel channel = FileChannel.open(journalFile(), StandardOpenOption.WRITE)) {
+            ByteBuffer body = ByteBuffer.allocate(EventJournal.RECORD_SIZE - 4).put((byte) 0).putLong(-1).flip();
+            channel.write(body, EventJournal.HEADER_SIZE + EventJournal.RECORD_SIZE + 4);
+        }
+
+        assertEquals(List.of(1), ids(open(1024)));
+    }
+
+    @Test
+    void testOpen_UnknownFormat_ShouldStartEmpty() throws IOException {
+        Files.write(journalFile(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        EventJournal journal = open(1024);
+        assertTrue(journal.getLiveEvents().isEmpty());
+        journal.record(event(5, true, null));
+        journal.close();
+
+        assertEquals(List.of(5), ids(open(1024)));
+    }
+
+    @Test
+    void testDisabled_ShouldNotWriteAnything() {
+        EventJournal journal = new EventJournal("", 1024);
+        journal.open();
+        journal.record(event(1, true, null));
+
+        assertFalse(journal.isEnabled());
+        assertTrue(journal.getLiveEvents().isEmpty());
+    }
+
+    private EventJournal open(long capacity) {
+        EventJournal journal = new EventJournal(journalFile().toString(), capacity);
+        journal.open();
+        return journal;
+    }
+
+    private Path journalFile() {
+        return dir.resolve("live-events.journal");
+    }
+
+    private int recordCount() throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(journalFile()));
+        content.position(EventJournal.HEADER_SIZE);
+        int records = 0;
+        while (content.remaining() >= EventJournal.RECORD_SIZE && content.getInt() != 0) {
+            content.position(content.position() + EventJournal.RECORD_SIZE - 4);
+            records++;
+        }
+        return records;
+    }
+
+    private List<Integer> ids(EventJournal journal) {
+        return journal.getLiveEvents().stream().map(Event::getEventId).toList();
+    }
+
+    private Event event(int eventId, boolean live, Long pollIntervalMs) {
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setLive(live);
+        event.setPollIntervalMs(pollIntervalMs);
+        return event;
+    }
+}
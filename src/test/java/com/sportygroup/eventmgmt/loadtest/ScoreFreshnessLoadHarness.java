@@ -0,0 +1,280 @@
+package com.sportygroup.eventmgmt.loadtest;
+
+import ch.qos.logback.classic.Level;
+import com.sportygroup.eventmgmt.EventmgmtApplication;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.EventScoreDeserializer;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test measuring how fresh the published scores are with a given number of live events.
+ * <p>
+ * The harness starts an embedded Kafka broker and a {@link StubScoreUpstream}, then for every event count
+ * starts the application, sets the events live through {@code PUT /events/batch}, and consumes
+ * {@code event-score-processor} for the test duration. Polling runs on a fixed interval (the adaptive
+ * bounds are pinned to it), so poll {@code k} of an event is due at its first poll plus {@code k}
+ * intervals. The freshness gap of a record is the time the broker appended it minus the time its poll
+ * was due, covering scheduling slip, upstream latency, retries and publishing. Polls due in the test
+ * window without a record are reported as missed, e.g. skipped by the request budget or dropped.
+ * <p>
+ * Run with {@code ./mvnw -Pload-test verify "-Dload-test.args=--events=1000,10000 --duration-s=60"}.
+ * Options: {@code --events}, {@code --duration-s}, {@code --interval-ms}, {@code --upstream-latency-ms},
+ * {@code --upstream-error-rate}, {@code --partitions}; any other {@code --name=value} is passed to the
+ * application, e.g. {@code --eventmgmt.pipeline.mode=async}.
+ */
+public class ScoreFreshnessLoadHarness {
+
+    /** Logger instance for this class */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreFreshnessLoadHarness.class);
+
+    /** Events set live per batch request */
+    private static final int BATCH_SIZE = 1000;
+
+    /** Time in milliseconds the consumer keeps reading after the test window for records still in flight */
+    private static final long DRAIN_MS = 5000;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final EmbeddedKafkaBroker broker;
+
+    private final StubScoreUpstream upstream;
+
+    private final long durationMs;
+
+    private final long intervalMs;
+
+    private final Map<String, Object> appProperties;
+
+    private ScoreFreshnessLoadHarness(EmbeddedKafkaBroker broker, StubScoreUpstream upstream, long durationMs,
+                                      long intervalMs, Map<String, Object> appProperties) {
+        this.broker = broker;
+        this.upstream = upstream;
+        this.durationMs = durationMs;
+        this.intervalMs = intervalMs;
+        this.appProperties = appProperties;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Without TCP_NODELAY the JDK HTTP server's split header and body writes stall on delayed ACKs
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        Map<String, String> options = parseOptions(args);
+        List<Integer> eventCounts = Arrays.stream(options.remove("events").split(",")).map(String::trim).map(Integer::parseInt).toList();
+        long durationMs = Long.parseLong(options.remove("duration-s")) * 1000;
+        long intervalMs = Long.parseLong(options.remove("interval-ms"));
+        long latencyMs = Long.parseLong(options.remove("upstream-latency-ms"));
+        double errorRate = Double.parseDouble(options.remove("upstream-error-rate"));
+        int partitions = Integer.parseInt(options.remove("partitions"));
+
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaKraftBroker(1, partitions, ScorePublisher.TOPIC_NAME)
+                .brokerProperty("log.message.timestamp.type", "LogAppendTime");
+        broker.afterPropertiesSet();
+        StubScoreUpstream upstream = new StubScoreUpstream(latencyMs, errorRate);
+
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        appProperties.put("server.port", "0");
+        appProperties.put("logging.level.root", "WARN");
+        appProperties.put("spring.kafka.bootstrap-servers", broker.getBrokersAsString());
+        appProperties.put("api.event-score.url", upstream.getUrl());
+        appProperties.put("eventmgmt.polling.interval-ms", intervalMs);
+        appProperties.put("eventmgmt.polling.min-interval-ms", intervalMs);
+        appProperties.put("eventmgmt.polling.max-interval-ms", intervalMs);
+        // Measure what the node can poll, not the configured budget, unless asked to
+        appProperties.put("eventmgmt.upstream.max-requests-per-second", 0);
+        appProperties.put("eventmgmt.upstream.max-requests-per-second-per-host", 0);
+        appProperties.put("eventmgmt.journal.path", "");
+        appProperties.putAll(options);
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%11s %10s %10s %8s %8s %8s %8s %9s %8s",
+                "live events", "polls due", "published", "missed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        try {
+            ScoreFreshnessLoadHarness harness = new ScoreFreshnessLoadHarness(broker, upstream, durationMs, intervalMs, appProperties);
+            for (int events : eventCounts) {
+                report.add(harness.run(events));
+            }
+        } finally {
+            upstream.stop();
+            broker.destroy();
+        }
+        System.out.printf("%nScore freshness, %d s per run, %d ms interval, %d ms upstream latency, %.1f%% upstream errors%n",
+                durationMs / 1000, intervalMs, latencyMs, errorRate * 100);
+        report.forEach(System.out::println);
+    }
+
+    /**
+     * Runs the load test with a number of live events on a fresh application.
+     *
+     * @param events the number of live events
+     * @return the report line of the run
+     */
+    private String run(int events) throws Exception {
+        upstream.reset();
+        try (KafkaConsumer<Integer, EventScore> consumer = newConsumer()) {
+            // As command line arguments, since default properties would lose to application.properties
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(EventmgmtApplication.class)
+                    .run(appProperties.entrySet().stream().map(property -> "--" + property.getKey() + "=" + property.getValue()).toArray(String[]::new));
+            GapRecorder gaps = new GapRecorder();
+            long end;
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                setLive(port, events);
+                end = System.currentTimeMillis() + durationMs;
+                LOGGER.warn("{} events live, measuring for {} s", events, durationMs / 1000);
+                while (System.currentTimeMillis() < end + DRAIN_MS) {
+                    for (ConsumerRecord<Integer, EventScore> record : consumer.poll(Duration.ofMillis(100))) {
+                        record(record, end, gaps);
+                    }
+                }
+            } finally {
+                context.close();
+            }
+            return report(events, polledDue(end), gaps.sorted());
+        }
+    }
+
+    private KafkaConsumer<Integer, EventScore> newConsumer() {
+        Map<String, Object> props = Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        KafkaConsumer<Integer, EventScore> consumer = new KafkaConsumer<>(props, new IntegerDeserializer(), new EventScoreDeserializer());
+        List<TopicPartition> partitions = consumer.partitionsFor(ScorePublisher.TOPIC_NAME).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        // Resolve the end offsets now, so that only records of this run are read
+        partitions.forEach(consumer::position);
+        return consumer;
+    }
+
+    private void setLive(int port, int events) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/event-mgmt/events/batch");
+        for (int first = 1; first <= events; first += BATCH_SIZE) {
+            StringBuilder body = new StringBuilder("[");
+            for (int eventId = first; eventId < first + BATCH_SIZE && eventId <= events; eventId++) {
+                body.append(eventId == first ? "" : ",").append("{\"eventId\":").append(eventId).append(",\"live\":true}");
+            }
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Setting events live failed: " + response.statusCode() + " " + response.body());
+            }
+        }
+    }
+
+    /**
+     * Records the freshness gap of a consumed score, if its poll was due within the test window.
+     * The score is the time since the first poll of the event, which tells the poll it belongs to.
+     */
+    private void record(ConsumerRecord<Integer, EventScore> record, long end, GapRecorder gaps) {
+        Long firstPoll = upstream.getFirstPolls().get(record.key());
+        if (firstPoll == null) {
+            return;
+        }
+        long sinceFirstPoll = (long) record.value().getScore();
+        long due = firstPoll + sinceFirstPoll / intervalMs * intervalMs;
+        if (due < end) {
+            gaps.add(record.timestamp() - due);
+        }
+    }
+
+    /**
+     * Counts the polls due within the test window, from the first poll of every event.
+     */
+    private long polledDue(long end) {
+        long due = 0;
+        for (long firstPoll : upstream.getFirstPolls().values()) {
+            if (firstPoll < end) {
+                due += (end - 1 - firstPoll) / intervalMs + 1;
+            }
+        }
+        return due;
+    }
+
+    private static String report(int events, long due, long[] gaps) {
+        return String.format("%11d %10d %10d %8d %8d %8d %8d %9d %8d", events, due, gaps.length, Math.max(0, due - gaps.length),
+                percentile(gaps, 0.5), percentile(gaps, 0.9), percentile(gaps, 0.99), percentile(gaps, 0.999),
+                gaps.length == 0 ? 0 : gaps[gaps.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("events", "1000,10000,50000");
+        options.put("duration-s", "60");
+        options.put("interval-ms", "10000");
+        options.put("upstream-latency-ms", "20");
+        options.put("upstream-error-rate", "0");
+        options.put("partitions", "8");
+        for (String arg : args) {
+            // Maven passes all options as one argument
+            for (String option : arg.trim().split("\\s+")) {
+                if (option.isEmpty()) {
+                    continue;
+                }
+                int separator = option.indexOf('=');
+                if (!option.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Expected --name=value: " + option);
+                }
+                options.put(option.substring(2, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Growable array of freshness gaps in milliseconds.
+     */
+    private static final class GapRecorder {
+
+        private long[] gaps = new long[1024];
+
+        private int size;
+
+        private void add(long gap) {
+            if (size == gaps.length) {
+                gaps = Arrays.copyOf(gaps, size * 2);
+            }
+            gaps[size++] = gap;
+        }
+
+        private long[] sorted() {
+            long[] sorted = Arrays.copyOf(gaps, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.sportygroup.eventmgmt.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process score upstream for the load test, serving {@code GET /event-score/{eventId}}.
+ * Responses are delayed by a fixed latency without holding a thread, and fail with a 500 at a given rate.
+ * <p>
+ * The score of a response is the time in milliseconds since the first request of the event, so every
+ * poll publishes a new score and the consumer can tell which poll a record belongs to.
+ */
+class StubScoreUpstream {
+
+    /** Path of the single-score endpoint */
+    private static final String PATH = "/event-score/";
+
+    /** HTTP server of the upstream */
+    private final HttpServer server;
+
+    /** Threads handling the requests */
+    private final ExecutorService handlers = Executors.newFixedThreadPool(8);
+
+    /** Timer sending the delayed responses */
+    private final ScheduledExecutorService responder = Executors.newScheduledThreadPool(4);
+
+    /** Response latency in milliseconds */
+    private final long latencyMs;
+
+    /** Fraction of requests failing with a 500 */
+    private final double errorRate;
+
+    /** Time of the first request of every event, in epoch milliseconds */
+    private final Map<Integer, Long> firstPolls = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a new StubScoreUpstream on a free port.
+     *
+     * @param latencyMs response latency in milliseconds
+     * @param errorRate fraction of requests failing with a 500
+     * @throws IOException if the server cannot be started
+     */
+    StubScoreUpstream(long latencyMs, double errorRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 4096);
+        server.setExecutor(handlers);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    /**
+     * Gets the URL template of the single-score endpoint.
+     *
+     * @return the URL with an {@code {eventId}} placeholder
+     */
+    String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH + "{eventId}";
+    }
+
+    /**
+     * Gets the time of the first request of every event polled so far.
+     *
+     * @return epoch milliseconds by event ID
+     */
+    Map<Integer, Long> getFirstPolls() {
+        return firstPolls;
+    }
+
+    /**
+     * Forgets the polled events, before the next run.
+     */
+    void reset() {
+        firstPolls.clear();
+    }
+
+    /**
+     * Stops the upstream.
+     */
+    void stop() {
+        server.stop(0);
+        handlers.shutdownNow();
+        responder.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        long now = System.currentTimeMillis();
+        int eventId = Integer.parseInt(exchange.getRequestURI().getPath().substring(PATH.length()));
+        long firstPoll = firstPolls.computeIfAbsent(eventId, id -> now);
+        boolean failed = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        String body = failed ? "{\"message\":\"stub failure\"}" : "{\"eventId\":" + eventId + ",\"score\":" + (now - firstPoll) + "}";
+        if (latencyMs > 0) {
+            responder.schedule(() -> respond(exchange, failed ? 500 : 200, body), latencyMs, TimeUnit.MILLISECONDS);
+        } else {
+            respond(exchange, failed ? 500 : 200, body);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            // The client gave up on the request
+        }
+    }
+}
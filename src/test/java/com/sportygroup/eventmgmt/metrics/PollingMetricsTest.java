@@ -0,0 +1,101 @@
+package com.sportygroup.eventmgmt.metrics;
+
+import com.sportygroup.eventmgmt.model.EventPriority;
+import com.sportygroup.eventmgmt.model.EventScore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PollingMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final PollingMetrics metrics = new PollingMetrics(registry);
+
+    @Test
+    void testRecordFetch_ShouldTagOperationAndOutcomeAndCountErrorsByType() {
+        long start = System.nanoTime();
+        metrics.recordFetch(false, start, null);
+        metrics.recordFetch(false, start, new RestClientException("Timeout"));
+        metrics.recordFetch(true, start, new IllegalStateException("Bad payload"));
+
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "failure").timer().count());
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "bulk", "outcome", "failure").timer().count());
+        assertEquals(1.0, registry.get("eventmgmt.upstream.errors").tags("operation", "single", "type", "temporary").counter().count());
+        assertEquals(1.0, registry.get("eventmgmt.upstream.errors").tags("operation", "bulk", "type", "unrecoverable").counter().count());
+        assertEquals(0.0, registry.get("eventmgmt.upstream.errors").tags("operation", "single", "type", "unrecoverable").counter().count());
+    }
+
+    @Test
+    void testRecordSchedulerLag_EarlyRun_ShouldRecordZero() {
+        metrics.recordSchedulerLag(TimeUnit.MILLISECONDS.toNanos(-5));
+        metrics.recordSchedulerLag(TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertEquals(2, registry.get("eventmgmt.scheduler.lag").timer().count());
+        assertEquals(30.0, registry.get("eventmgmt.scheduler.lag").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void testRecordShedLoad_ShouldCountByReason() {
+        AtomicInteger lag = new AtomicInteger();
+        metrics.registerSchedulerOverloaded(EventPriority.HIGH, () -> lag.get() > 100);
+        metrics.recordCoalescedTicks(3);
+        metrics.recordRejectedLiveEvent();
+        lag.set(150);
+
+        assertEquals(3.0, registry.get("eventmgmt.polling.shed").tag("reason", "coalesced").counter().count());
+        assertEquals(1.0, registry.get("eventmgmt.polling.shed").tag("reason", "rejected").counter().count());
+        assertEquals(1.0, registry.get("eventmgmt.scheduler.overloaded").tag("priority", "high").gauge().value());
+    }
+
+    @Test
+    void testRecordRetries_ShouldCountTicksByRetries() {
+        metrics.recordRetries(0);
+        metrics.recordRetries(0);
+        metrics.recordRetries(2);
+
+        assertEquals(3, registry.get("eventmgmt.polling.retries").summary().count());
+        assertEquals(2.0, registry.get("eventmgmt.polling.retries").summary().totalAmount());
+    }
+
+    @Test
+    void testRecordPublishLag_ShouldSkipUnsetTimestamps() {
+        EventScore fetched = new EventScore(1, 1.0f);
+        fetched.setScheduledAt(1000);
+        fetched.setFetchedAt(1300);
+        fetched.setPublishedAt(1400);
+        EventScore unstamped = new EventScore(2, 2.0f);
+        unstamped.setPublishedAt(1400);
+
+        metrics.recordPublishLag(fetched);
+        metrics.recordPublishLag(unstamped);
+
+        assertEquals(1, registry.get("eventmgmt.score.fetch-to-publish").timer().count());
+        assertEquals(100.0, registry.get("eventmgmt.score.fetch-to-publish").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get("eventmgmt.score.schedule-to-publish").timer().count());
+        assertEquals(400.0, registry.get("eventmgmt.score.schedule-to-publish").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testRegisterGaugesAndExecutor_ShouldReadCurrentValues() {
+        AtomicInteger liveEvents = new AtomicInteger();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
+        metrics.registerLiveEvents(liveEvents::get);
+        metrics.registerExecutor(executor, "polling");
+
+        liveEvents.set(3);
+        executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+        assertEquals(3.0, registry.get("eventmgmt.events.live").gauge().value());
+        assertEquals(1.0, registry.get("executor.queued").tag("name", "polling").gauge().value());
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package com.sportygroup.eventmgmt.processor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePollingIntervalTest {
+
+    @Test
+    void testInitialInterval_ShouldBeClampedToBounds() {
+        assertEquals(2000, new AdaptivePollingInterval(500, 2000, 60000).getIntervalMs());
+        assertEquals(60000, new AdaptivePollingInterval(120000, 2000, 60000).getIntervalMs());
+        assertEquals(10000, new AdaptivePollingInterval(10000, 2000, 60000).getIntervalMs());
+    }
+
+    @Test
+    void testRecordScore_ChangingScores_ShouldHalveIntervalDownToMinimum() {
+        AdaptivePollingInterval interval = new AdaptivePollingInterval(10000, 2000, 60000);
+
+        interval.recordScore(1.0f);
+        assertEquals(10000, interval.getIntervalMs());
+        interval.recordScore(2.0f);
+        assertEquals(5000, interval.getIntervalMs());
+        interval.recordScore(3.0f);
+        assertEquals(2500, interval.getIntervalMs());
+        interval.recordScore(4.0f);
+        assertEquals(2000, interval.getIntervalMs());
+    }
+
+    @Test
+    void testRecordScore_UnchangedScores_ShouldGrowIntervalUpToMaximum() {
+        AdaptivePollingInterval interval = new AdaptivePollingInterval(10000, 2000, 20000);
+        interval.recordScore(1.0f);
+
+        for (int i = 1; i < AdaptivePollingInterval.UNCHANGED_POLLS_BEFORE_BACKOFF; i++) {
+            interval.recordScore(1.0f);
+            assertEquals(10000, interval.getIntervalMs());
+        }
+        interval.recordScore(1.0f);
+        assertEquals(15000, interval.getIntervalMs());
+        interval.recordScore(1.0f);
+        assertEquals(20000, interval.getIntervalMs());
+        interval.recordScore(1.0f);
+        assertEquals(20000, interval.getIntervalMs());
+    }
+
+    @Test
+    void testRecordScore_ChangeAfterQuietPeriod_ShouldResetBackoff() {
+        AdaptivePollingInterval interval = new AdaptivePollingInterval(8000, 1000, 60000);
+        interval.recordScore(1.0f);
+        for (int i = 0; i < AdaptivePollingInterval.UNCHANGED_POLLS_BEFORE_BACKOFF; i++) {
+            interval.recordScore(1.0f);
+        }
+        assertEquals(12000, interval.getIntervalMs());
+
+        interval.recordScore(2.0f);
+        assertEquals(6000, interval.getIntervalMs());
+        interval.recordScore(2.0f);
+        assertEquals(6000, interval.getIntervalMs());
+    }
+
+    @Test
+    void testConstructor_InvalidBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingInterval(1000, 0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingInterval(1000, 2000, 1000));
+    }
+}
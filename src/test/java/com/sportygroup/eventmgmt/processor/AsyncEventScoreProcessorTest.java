@@ -0,0 +1,234 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncEventScoreProcessorTest {
+
+    @Mock
+    private KafkaTemplate<Integer, EventScore> kafkaTemplate;
+
+    @Mock
+    private ScoreSource scoreSource;
+
+    private ScorePublisher scorePublisher;
+
+    private final Integer eventId = 42;
+
+    /** Retry delays requested by the processor; retries run immediately to keep the tests synchronous */
+    private final List<Long> retryDelays = new ArrayList<>();
+
+    private final RetryScheduler retryScheduler = (retry, delayMs) -> {
+        retryDelays.add(delayMs);
+        retry.run();
+    };
+
+    private final UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker("api.example.com", 10, 30000);
+
+    private final UpstreamRequestBudget requestBudget = new UpstreamRequestBudget(0, 0);
+
+    private final ScoreChangeDetector changeDetector = new ScoreChangeDetector(0);
+
+    private final LatestScoreCache scoreCache = new LatestScoreCache(100, 0);
+
+    private final AtomicBoolean live = new AtomicBoolean(true);
+
+    private final AdaptivePollingInterval pollingInterval = new AdaptivePollingInterval(10000, 2000, 60000);
+
+    private final PollingMetrics metrics = new PollingMetrics(new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(scoreSource.prepareFetch(anyInt())).thenCallRealMethod();
+        when(kafkaTemplate.send(anyString(), anyInt(), any(EventScore.class))).thenReturn(CompletableFuture.completedFuture(null));
+        scorePublisher = new ScorePublisher(kafkaTemplate, 10, 100, metrics);
+    }
+
+    @Test
+    void testRun_ShouldReturnBeforeFetchCompletesAndPublishOnCompletion() {
+        CompletableFuture<EventScore> response = new CompletableFuture<>();
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(response);
+
+        newProcessor().run();
+
+        verifyNoInteractions(kafkaTemplate);
+
+        EventScore eventScore = new EventScore(eventId, 3.5f);
+        response.complete(eventScore);
+
+        verify(kafkaTemplate).send("event-score-processor", eventId, eventScore);
+        assertEquals(3.5f, scoreCache.get(eventId).getScore());
+    }
+
+    @Test
+    void testRun_FailedFetch_ShouldRetryWithBackoffAndThenSucceed() {
+        EventScore eventScore = new EventScore(eventId, 1.0f);
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(
+                CompletableFuture.failedFuture(new ResourceAccessException("timeout")),
+                CompletableFuture.completedFuture(eventScore));
+
+        newProcessor().run();
+
+        verify(scoreSource, times(2)).fetchScoreAsync(eventId);
+        verify(kafkaTemplate).send("event-score-processor", eventId, eventScore);
+        assertEquals(1, retryDelays.size());
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testRun_RetriedFetch_ShouldStampTimeTickWasDue() {
+        EventScore eventScore = new EventScore(eventId, 1.0f);
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(
+                CompletableFuture.failedFuture(new ResourceAccessException("timeout")),
+                CompletableFuture.completedFuture(eventScore));
+        long before = System.currentTimeMillis();
+
+        newProcessor().run(1000L);
+
+        assertEquals(1000L, eventScore.getScheduledAt());
+        assertTrue(eventScore.getFetchedAt() >= before);
+        assertTrue(eventScore.getPublishedAt() >= eventScore.getFetchedAt());
+        assertTrue(eventScore.getSequence() > 0);
+    }
+
+    @Test
+    void testRun_AlwaysFailing_ShouldStopAfterMaxRetries() {
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("down")));
+
+        newProcessor().run();
+
+        verify(scoreSource, times(3)).fetchScoreAsync(eventId);
+        assertEquals(2, retryDelays.size());
+        verifyNoInteractions(kafkaTemplate);
+        assertEquals(3, circuitBreaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void testRun_NonRestClientFailure_ShouldNotRetry() {
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("bug")));
+
+        newProcessor().run();
+
+        verify(scoreSource, times(1)).fetchScoreAsync(eventId);
+        assertTrue(retryDelays.isEmpty());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRun_EventNotLiveWhenResponseArrives_ShouldDiscardScore() {
+        CompletableFuture<EventScore> response = new CompletableFuture<>();
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(response);
+
+        newProcessor().run();
+        live.set(false);
+        response.complete(new EventScore(eventId, 2.0f));
+
+        verifyNoInteractions(kafkaTemplate);
+        assertEquals(0, changeDetector.size());
+        assertNull(scoreCache.get(eventId));
+    }
+
+    @Test
+    void testRun_UnchangedScore_ShouldPublishOnlyOnce() {
+        when(scoreSource.fetchScoreAsync(eventId)).thenReturn(CompletableFuture.completedFuture(new EventScore(eventId, 2.0f)));
+        AsyncEventScoreProcessor processor = newProcessor();
+
+        processor.run();
+        processor.run();
+
+        verify(kafkaTemplate, times(1)).send(eq("event-score-processor"), eq(eventId), any(EventScore.class));
+    }
+
+    @Test
+    void testRun_CircuitOpen_ShouldNotFetch() {
+        UpstreamCircuitBreaker openBreaker = new UpstreamCircuitBreaker("api.example.com", 1, 30000);
+        openBreaker.recordFailure();
+
+        new AsyncEventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, openBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics).run();
+
+        verifyNoInteractions(scoreSource, kafkaTemplate);
+    }
+
+    @Test
+    void testRun_RequestBudgetExhausted_ShouldNotFetch() {
+        UpstreamRequestBudget exhaustedBudget = new UpstreamRequestBudget(1, 0);
+        exhaustedBudget.tryAcquire("api.example.com");
+
+        new AsyncEventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, exhaustedBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics).run();
+
+        verifyNoInteractions(scoreSource, kafkaTemplate);
+        assertEquals(1, exhaustedBudget.getThrottledRequests("api.example.com"));
+    }
+
+    @Test
+    void testRun_ManyConcurrentPolls_ShouldNotHoldAThreadPerPoll() {
+        int events = 20_000;
+        List<CompletableFuture<EventScore>> responses = new ArrayList<>(events);
+        ScoreSource pendingSource = mock(ScoreSource.class);
+        when(pendingSource.prepareFetch(anyInt())).thenCallRealMethod();
+        when(pendingSource.fetchScoreAsync(anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<EventScore> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        ScorePublisher unboundedPublisher = new ScorePublisher(kafkaTemplate, events, 100, metrics);
+
+        // All polls are started by the test thread alone and stay in flight together
+        for (int id = 1; id <= events; id++) {
+            new AsyncEventScoreProcessor(unboundedPublisher, pendingSource, id, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics).run();
+        }
+        assertEquals(events, responses.size());
+        verifyNoInteractions(kafkaTemplate);
+
+        for (int i = 0; i < events; i++) {
+            responses.get(i).complete(new EventScore(i + 1, 1.0f));
+        }
+        verify(kafkaTemplate, times(events)).send(eq("event-score-processor"), anyInt(), any(EventScore.class));
+    }
+
+    @Test
+    void testRun_InFlightCapReachedWhenResponseArrives_ShouldDropWithoutBlocking() {
+        CompletableFuture<EventScore> first = new CompletableFuture<>();
+        CompletableFuture<EventScore> second = new CompletableFuture<>();
+        when(scoreSource.fetchScoreAsync(1)).thenReturn(first);
+        when(scoreSource.fetchScoreAsync(2)).thenReturn(second);
+        when(kafkaTemplate.send(anyString(), anyInt(), any(EventScore.class))).thenReturn(new CompletableFuture<>());
+        ScorePublisher slowPublisher = new ScorePublisher(kafkaTemplate, 1, 5000, metrics);
+        new AsyncEventScoreProcessor(slowPublisher, scoreSource, 1, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics).run();
+        new AsyncEventScoreProcessor(slowPublisher, scoreSource, 2, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics).run();
+        first.complete(new EventScore(1, 1.0f));
+
+        long start = System.nanoTime();
+        second.complete(new EventScore(2, 2.0f));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, slowPublisher.getDroppedRecords());
+        // The dropped score is forgotten, so the next tick publishes it again
+        assertTrue(changeDetector.shouldPublish(2, 2.0f));
+    }
+
+    private AsyncEventScoreProcessor newProcessor() {
+        return new AsyncEventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+    }
+}
@@ -0,0 +1,184 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.RestTemplateScoreSource;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class EventScoreBatchProcessorTest {
+
+    @Mock
+    private KafkaTemplate<Integer, EventScore> kafkaTemplate;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private ScorePublisher scorePublisher;
+
+    private ScoreSource scoreSource;
+
+    private final String bulkApiUrl = "http://api.example.com/event?ids={eventIds}";
+
+    /** Runs retries immediately to keep the tests synchronous */
+    private final RetryScheduler retryScheduler = (retry, delayMs) -> retry.run();
+
+    private final UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker("api.example.com", 10, 30000);
+
+    private final UpstreamRequestBudget requestBudget = new UpstreamRequestBudget(0, 0);
+
+    private final ScoreChangeDetector changeDetector = new ScoreChangeDetector(0);
+
+    private final LatestScoreCache scoreCache = new LatestScoreCache(100, 0);
+
+    private final PollingMetrics metrics = new PollingMetrics(new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(kafkaTemplate.send(anyString(), anyInt(), any(EventScore.class))).thenReturn(CompletableFuture.completedFuture(null));
+        scorePublisher = new ScorePublisher(kafkaTemplate, 10, 100, metrics);
+        scoreSource = new RestTemplateScoreSource(restTemplate, bulkApiUrl, bulkApiUrl);
+    }
+
+    @Test
+    void testRun_GroupsLiveEventsIntoBatchesAndFansOutRecords() {
+        Set<Integer> liveEventIds = new LinkedHashSet<>(List.of(1, 2, 3));
+        EventScore score1 = new EventScore(1, 1.5f);
+        EventScore score2 = new EventScore(2, 2.5f);
+        EventScore score3 = new EventScore(3, 3.5f);
+
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "1,2")).thenReturn(new EventScore[]{score1, score2});
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "3")).thenReturn(new EventScore[]{score3});
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 2, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verify(restTemplate).getForObject(bulkApiUrl, EventScore[].class, "1,2");
+        verify(restTemplate).getForObject(bulkApiUrl, EventScore[].class, "3");
+        verify(kafkaTemplate).send("event-score-processor", 1, score1);
+        verify(kafkaTemplate).send("event-score-processor", 2, score2);
+        verify(kafkaTemplate).send("event-score-processor", 3, score3);
+        verifyNoMoreInteractions(restTemplate, kafkaTemplate);
+    }
+
+    @Test
+    void testRun_NoLiveEvents_ShouldNotCallApi() {
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, Set.of(), 10, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verifyNoInteractions(restTemplate, kafkaTemplate);
+    }
+
+    @Test
+    void testRun_RequestBudgetExhausted_ShouldSkipRemainingBatches() {
+        Set<Integer> liveEventIds = new LinkedHashSet<>(List.of(1, 2));
+        EventScore score1 = new EventScore(1, 1.5f);
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "1")).thenReturn(new EventScore[]{score1});
+        UpstreamRequestBudget oneRequestBudget = new UpstreamRequestBudget(1, 0);
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 1, retryScheduler, circuitBreaker, oneRequestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verify(restTemplate).getForObject(bulkApiUrl, EventScore[].class, "1");
+        verify(kafkaTemplate).send("event-score-processor", 1, score1);
+        verifyNoMoreInteractions(restTemplate, kafkaTemplate);
+        assertEquals(1, oneRequestBudget.getThrottledRequests("api.example.com"));
+    }
+
+    @Test
+    void testRun_FailedBatchShouldNotBlockOtherBatches() {
+        Set<Integer> liveEventIds = new LinkedHashSet<>(Arrays.asList(7, 8));
+        EventScore score8 = new EventScore(8, 8.5f);
+
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "7"))
+                .thenThrow(new NullPointerException("Unexpected null"));
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "8")).thenReturn(new EventScore[]{score8});
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 1, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verify(kafkaTemplate).send("event-score-processor", 8, score8);
+        verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRun_TemporaryFailureShouldRetryBatch() {
+        Set<Integer> liveEventIds = Set.of(5);
+        EventScore score5 = new EventScore(5, 5.5f);
+
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "5"))
+                .thenThrow(new RestClientException("Service down"))
+                .thenReturn(new EventScore[]{score5});
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 10, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verify(restTemplate, times(2)).getForObject(bulkApiUrl, EventScore[].class, "5");
+        verify(kafkaTemplate).send("event-score-processor", 5, score5);
+    }
+
+    @Test
+    void testRun_UnchangedScoresShouldNotBeRepublished() {
+        Set<Integer> liveEventIds = new LinkedHashSet<>(List.of(1, 2));
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "1,2"))
+                .thenReturn(new EventScore[]{new EventScore(1, 1.5f), new EventScore(2, 2.5f)})
+                .thenReturn(new EventScore[]{new EventScore(1, 1.5f), new EventScore(2, 3.5f)});
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 10, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+        processor.run();
+
+        verify(kafkaTemplate, times(3)).send(eq("event-score-processor"), anyInt(), any(EventScore.class));
+        // Every returned score is cached, published or not
+        assertEquals(1.5f, scoreCache.get(1).getScore());
+        assertEquals(3.5f, scoreCache.get(2).getScore());
+    }
+
+    @Test
+    void testRun_EventNotLiveWhenBatchArrives_ShouldDiscardItsScore() {
+        Set<Integer> liveEventIds = new LinkedHashSet<>(List.of(1, 2));
+        EventScore score1 = new EventScore(1, 1.5f);
+        when(restTemplate.getForObject(bulkApiUrl, EventScore[].class, "1,2")).thenAnswer(invocation -> {
+            // Event 2 goes not live while the batch is in flight
+            liveEventIds.remove(2);
+            return new EventScore[]{score1, new EventScore(2, 2.5f)};
+        });
+
+        EventScoreBatchProcessor processor = new EventScoreBatchProcessor(scorePublisher, scoreSource, liveEventIds, 10, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics);
+        processor.run();
+
+        verify(kafkaTemplate).send("event-score-processor", 1, score1);
+        verifyNoMoreInteractions(kafkaTemplate);
+        assertNotNull(scoreCache.get(1));
+        assertNull(scoreCache.get(2));
+    }
+
+    @Test
+    void testConstructor_InvalidBatchSize_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new EventScoreBatchProcessor(scorePublisher, scoreSource, Set.of(), 0, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, metrics));
+    }
+}
@@ -0,0 +1,149 @@
+package com.sportygroup.eventmgmt.processor;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.HttpClientScoreSource;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one polling tick of {@link EventScoreProcessor#run()}: fetch, change detection, cache update
+ * and Kafka send. The upstream is either an in-memory stub, isolating the processing cost, or an
+ * in-process HTTP server reached through the production {@link HttpClientScoreSource}. Kafka is a
+ * {@link MockProducer} that acknowledges immediately but still serializes every record.
+ * Every fetch returns a new score, so every tick publishes. Logging is raised to WARN so that console
+ * output is not measured.
+ * <p>
+ * Allocation per tick is reported by the JMH {@code gc} profiler as {@code gc.alloc.rate.norm}; a tick
+ * should allocate little beyond the fetched score and the Kafka record.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark verify -Djmh.includes=EventScoreProcessorBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Without TCP_NODELAY the JDK HTTP server's split header and body writes stall on delayed ACKs
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class EventScoreProcessorBenchmark {
+
+    private static final int EVENT_ID = 42;
+
+    @Param({"stub", "http"})
+    private String upstream;
+
+    private HttpServer server;
+
+    private MockProducer<Integer, EventScore> producer;
+
+    private EventScoreProcessor processor;
+
+    /** Score returned by the next fetch, changed on every fetch */
+    private float nextScore;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        producer = new MockProducer<>(true, new IntegerSerializer(), new JsonSerializer<>());
+        PollingMetrics metrics = new PollingMetrics(new SimpleMeterRegistry());
+        ScorePublisher scorePublisher = new ScorePublisher(new KafkaTemplate<>(new MockProducerFactory<>(() -> producer)), 1000, 100, metrics);
+        processor = new EventScoreProcessor(scorePublisher, newScoreSource(), EVENT_ID, (retry, delayMs) -> retry.run(),
+                new UpstreamCircuitBreaker("localhost", 5, 30000), new UpstreamRequestBudget(0, 0),
+                new ScoreChangeDetector(0), new LatestScoreCache(100, 0), new AdaptivePollingInterval(10000, 2000, 60000), metrics);
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Iteration)
+    public void clearSentRecords() {
+        producer.clear();
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Runs one polling tick of an event.
+     */
+    @Benchmark
+    public void pollAndPublish() {
+        processor.run();
+    }
+
+    private ScoreSource newScoreSource() throws IOException {
+        if (!"http".equals(upstream)) {
+            return new ScoreSource() {
+                @Override
+                public EventScore fetchScore(int eventId) {
+                    return new EventScore(eventId, nextScore++);
+                }
+
+                @Override
+                public List<EventScore> fetchScores(List<Integer> eventIds) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(2));
+        server.createContext("/event-score/", exchange -> {
+            String eventId = exchange.getRequestURI().getPath().substring("/event-score/".length());
+            byte[] body = ("{\"eventId\":" + eventId + ",\"score\":" + nextScore++ + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        return new HttpClientScoreSource(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(), new ObjectMapper(),
+                baseUrl + "/event-score/{eventId}", baseUrl + "/event-score?ids={eventIds}", Duration.ofSeconds(3));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventScoreProcessorBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
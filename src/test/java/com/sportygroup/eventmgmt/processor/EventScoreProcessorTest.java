@@ -1,6 +1,14 @@
 package com.sportygroup.eventmgmt.processor;
 
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
 import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.RestTemplateScoreSource;
+import com.sportygroup.eventmgmt.upstream.ScoreFetch;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreaker;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -11,6 +19,13 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class EventScoreProcessorTest {
@@ -21,15 +36,47 @@ class EventScoreProcessorTest {
     @Mock
     private RestTemplate restTemplate;
 
+    private ScorePublisher scorePublisher;
+
+    private ScoreSource scoreSource;
+
     @Captor
     private ArgumentCaptor<EventScore> eventScoreCaptor;
 
     private final Integer eventId = 42;
     private final String apiUrl = "http://api.example.com/event/{eventId}";
 
+    /** Retry delays requested by the processor; retries run immediately to keep the tests synchronous */
+    private final List<Long> retryDelays = new ArrayList<>();
+
+    private final RetryScheduler retryScheduler = (retry, delayMs) -> {
+        retryDelays.add(delayMs);
+        retry.run();
+    };
+
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    private final UpstreamRequestBudget requestBudget = new UpstreamRequestBudget(0, 0);
+
+    private final ScoreChangeDetector changeDetector = new ScoreChangeDetector(0);
+
+    private final LatestScoreCache scoreCache = new LatestScoreCache(100, 0);
+
+    private final AdaptivePollingInterval pollingInterval = new AdaptivePollingInterval(10000, 2000, 60000);
+
+    private final AtomicBoolean live = new AtomicBoolean(true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PollingMetrics metrics = new PollingMetrics(meterRegistry);
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        when(kafkaTemplate.send(anyString(), anyInt(), any(EventScore.class))).thenReturn(CompletableFuture.completedFuture(null));
+        scorePublisher = new ScorePublisher(kafkaTemplate, 10, 100, metrics);
+        circuitBreaker = new UpstreamCircuitBreaker("api.example.com", 10, 30000);
+        scoreSource = new RestTemplateScoreSource(restTemplate, apiUrl, apiUrl);
     }
 
     @Test
@@ -40,14 +87,29 @@ class EventScoreProcessorTest {
 
         when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenReturn(mockScore);
 
-        EventScoreProcessor processor = new EventScoreProcessor(kafkaTemplate, restTemplate, apiUrl, eventId);
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
         processor.run();
 
         verify(restTemplate, times(1)).getForObject(apiUrl, EventScore.class, eventId);
-        verify(kafkaTemplate, times(1)).send("event-score-processor", mockScore);
+        verify(kafkaTemplate, times(1)).send("event-score-processor", eventId, mockScore);
         verifyNoMoreInteractions(restTemplate, kafkaTemplate);
     }
 
+    @Test
+    void testRun_ShouldStampScheduleFetchAndPublishTimes() {
+        EventScore mockScore = new EventScore(eventId, 20.1f);
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenReturn(mockScore);
+        long before = System.currentTimeMillis();
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run(before - 250);
+
+        assertEquals(before - 250, mockScore.getScheduledAt());
+        assertTrue(mockScore.getFetchedAt() >= before);
+        assertTrue(mockScore.getPublishedAt() >= mockScore.getFetchedAt());
+        assertTrue(mockScore.getSequence() > 0);
+    }
+
     @Test
     void testRun_TemporaryFailuresAndSuccessOnThirdTry() {
         EventScore mockScore = new EventScore();
@@ -59,12 +121,20 @@ class EventScoreProcessorTest {
                 .thenThrow(new RestClientException("Timeout"))
                 .thenReturn(mockScore);
 
-        EventScoreProcessor processor = new EventScoreProcessor(kafkaTemplate, restTemplate, apiUrl, eventId);
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
         processor.run();
 
         verify(restTemplate, times(3)).getForObject(apiUrl, EventScore.class, eventId);
-        verify(kafkaTemplate).send("event-score-processor", mockScore);
+        verify(kafkaTemplate).send("event-score-processor", eventId, mockScore);
         verifyNoMoreInteractions(kafkaTemplate);
+        // Retries are rescheduled with a growing, jittered backoff instead of sleeping
+        assertEquals(2, retryDelays.size());
+        assertTrue(retryDelays.get(0) >= 500 && retryDelays.get(0) <= 1000);
+        assertTrue(retryDelays.get(1) >= 1000 && retryDelays.get(1) <= 2000);
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        // One tick, which needed two retries
+        assertEquals(1, meterRegistry.get("eventmgmt.polling.retries").summary().count());
+        assertEquals(2.0, meterRegistry.get("eventmgmt.polling.retries").summary().totalAmount());
     }
 
     @Test
@@ -72,7 +142,7 @@ class EventScoreProcessorTest {
         when(restTemplate.getForObject(apiUrl, EventScore.class, eventId))
                 .thenThrow(new RestClientException("Server overload"));
 
-        EventScoreProcessor processor = new EventScoreProcessor(kafkaTemplate, restTemplate, apiUrl, eventId);
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
         processor.run();
 
         verify(restTemplate, times(3)).getForObject(apiUrl, EventScore.class, eventId);
@@ -84,11 +154,157 @@ class EventScoreProcessorTest {
         when(restTemplate.getForObject(apiUrl, EventScore.class, eventId))
                 .thenThrow(new NullPointerException("Unexpected null"));
 
-        EventScoreProcessor processor = new EventScoreProcessor(kafkaTemplate, restTemplate, apiUrl, eventId);
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
         processor.run();
 
         verify(restTemplate, times(1)).getForObject(apiUrl, EventScore.class, eventId);
         verifyNoInteractions(kafkaTemplate);
     }
 
+    @Test
+    void testRun_CircuitBreakerOpen_ShouldNotCallApi() {
+        UpstreamCircuitBreaker openBreaker = new UpstreamCircuitBreaker("api.example.com", 1, 30000);
+        openBreaker.recordFailure();
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, openBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+
+        verifyNoInteractions(restTemplate, kafkaTemplate);
+    }
+
+    @Test
+    void testRun_RequestBudgetExhausted_ShouldSkipPoll() {
+        UpstreamRequestBudget oneRequestBudget = new UpstreamRequestBudget(0, 1);
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenReturn(new EventScore(eventId, 1.0f));
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, oneRequestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+
+        processor.run();
+        processor.run();
+
+        verify(restTemplate, times(1)).getForObject(apiUrl, EventScore.class, eventId);
+        assertEquals(1, oneRequestBudget.getThrottledRequests("api.example.com"));
+    }
+
+    @Test
+    void testRun_RepeatedFailures_ShouldOpenCircuitBreakerAndStopRetrying() {
+        UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker("api.example.com", 2, 30000);
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId))
+                .thenThrow(new RestClientException("Server overload"));
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, breaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+
+        // The second failure opens the breaker, so the last retry is skipped
+        verify(restTemplate, times(2)).getForObject(apiUrl, EventScore.class, eventId);
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRun_UnchangedScore_ShouldOnlyPublishOnce() {
+        EventScore first = new EventScore(eventId, 12.5f);
+        EventScore unchanged = new EventScore(eventId, 12.5f);
+        EventScore changed = new EventScore(eventId, 13.0f);
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenReturn(first, unchanged, changed);
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+        processor.run();
+        processor.run();
+
+        verify(kafkaTemplate).send("event-score-processor", eventId, first);
+        verify(kafkaTemplate).send("event-score-processor", eventId, changed);
+        verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void testRun_ShouldCacheEveryFetchedScore() {
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId))
+                .thenReturn(new EventScore(eventId, 12.5f), new EventScore(eventId, 12.5f));
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+        Instant firstFetch = scoreCache.get(eventId).getFetchedAt();
+        processor.run();
+
+        // The unchanged score is not published again, but its fetch time is refreshed
+        verify(kafkaTemplate, times(1)).send(eq("event-score-processor"), eq(eventId), any(EventScore.class));
+        assertEquals(12.5f, scoreCache.get(eventId).getScore());
+        assertFalse(scoreCache.get(eventId).getFetchedAt().isBefore(firstFetch));
+    }
+
+    @Test
+    void testRun_EventNotLiveWhenResponseArrives_ShouldDiscardScore() {
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenAnswer(invocation -> {
+            // The event goes not live while the request is in flight
+            live.set(false);
+            return new EventScore(eventId, 2.0f);
+        });
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+
+        verifyNoInteractions(kafkaTemplate);
+        assertEquals(0, changeDetector.size());
+        assertNull(scoreCache.get(eventId));
+    }
+
+    @Test
+    void testRun_ChangingScores_ShouldShortenPollingInterval() {
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId))
+                .thenReturn(new EventScore(eventId, 1.0f), new EventScore(eventId, 2.0f));
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+        processor.run();
+
+        assertEquals(5000, pollingInterval.getIntervalMs());
+    }
+
+    @Test
+    void testRun_FailedSend_ShouldPublishSameScoreAgainOnNextTick() {
+        EventScore mockScore = new EventScore(eventId, 7.5f);
+        when(restTemplate.getForObject(apiUrl, EventScore.class, eventId)).thenReturn(mockScore);
+        when(kafkaTemplate.send("event-score-processor", eventId, mockScore))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+        processor.run();
+
+        verify(kafkaTemplate, times(2)).send("event-score-processor", eventId, mockScore);
+        assertEquals(1, scorePublisher.getFailedRecords());
+        assertEquals(1, scorePublisher.getSentRecords());
+    }
+
+    @Test
+    void testRun_PublisherSaturated_ShouldSkipFetch() {
+        when(kafkaTemplate.send(anyString(), anyInt(), any(EventScore.class))).thenReturn(new CompletableFuture<>());
+        ScorePublisher saturatedPublisher = new ScorePublisher(kafkaTemplate, 1, 0, metrics);
+        saturatedPublisher.publish(new EventScore(1, 1.0f));
+
+        EventScoreProcessor processor = new EventScoreProcessor(saturatedPublisher, scoreSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        processor.run();
+
+        assertTrue(saturatedPublisher.isSaturated());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testRun_ShouldPrepareFetchOnceOnFirstTick() {
+        ScoreSource preparingSource = mock(ScoreSource.class);
+        ScoreFetch scoreFetch = mock(ScoreFetch.class);
+        when(preparingSource.prepareFetch(eventId)).thenReturn(scoreFetch);
+        when(scoreFetch.fetch()).thenReturn(new EventScore(eventId, 1.0f)).thenReturn(new EventScore(eventId, 2.0f));
+
+        EventScoreProcessor processor = new EventScoreProcessor(scorePublisher, preparingSource, eventId, retryScheduler, circuitBreaker, requestBudget, changeDetector, scoreCache, live::get, pollingInterval, metrics);
+        verifyNoInteractions(preparingSource);
+        processor.run();
+        processor.run();
+
+        verify(preparingSource, times(1)).prepareFetch(eventId);
+        verify(scoreFetch, times(2)).fetch();
+        verify(kafkaTemplate, times(2)).send(eq("event-score-processor"), eq(eventId), any(EventScore.class));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.sportygroup.eventmgmt.processor;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.model.LatestScore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatestScoreCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final LatestScoreCache cache = new LatestScoreCache(3, 1000, clock);
+
+    @Test
+    void testPut_ShouldKeepLatestScoreWithFetchTime() {
+        cache.put(new EventScore(1, 1.5f));
+        clock.advance(10);
+        cache.put(new EventScore(1, 2.5f));
+
+        LatestScore latest = cache.get(1);
+
+        assertEquals(1, latest.getEventId());
+        assertEquals(2.5f, latest.getScore());
+        assertEquals(Instant.ofEpochMilli(1_000_010), latest.getFetchedAt());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testPut_ScoreWithFetchTime_ShouldBeStampedAndExpiredByIt() {
+        EventScore fetchedEarlier = new EventScore(1, 1.5f);
+        fetchedEarlier.setFetchedAt(clock.millis() - 600);
+
+        cache.put(fetchedEarlier);
+
+        assertEquals(Instant.ofEpochMilli(999_400), cache.get(1).getFetchedAt());
+        clock.advance(400);
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void testPut_ScoreFetchedBeforeCachedOne_ShouldNotReplaceIt() {
+        EventScore late = new EventScore(1, 1.5f);
+        late.setFetchedAt(clock.millis() - 100);
+        cache.put(new EventScore(1, 2.5f));
+
+        cache.put(late);
+
+        assertEquals(2.5f, cache.get(1).getScore());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testPut_EventNotLive_ShouldNotRecordScore() {
+        List<LatestScore> notified = new ArrayList<>();
+        cache.addListener(notified::add);
+
+        assertFalse(cache.put(new EventScore(1, 1.5f), () -> false));
+
+        assertNull(cache.get(1));
+        assertTrue(notified.isEmpty());
+    }
+
+    @Test
+    void testPut_EventGoesNotLiveDuringPut_ShouldNotLeaveScoreBehind() {
+        AtomicInteger liveChecks = new AtomicInteger();
+        BooleanSupplier live = () -> {
+            if (liveChecks.incrementAndGet() == 1) {
+                return true;
+            }
+            // The event went not live and its score was evicted before the put stored it
+            cache.evict(1);
+            return false;
+        };
+
+        assertFalse(cache.put(new EventScore(1, 1.5f), live));
+
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPut_ConcurrentPutsOfManyEvents_ShouldStayBoundedAndKeepTheLatestFetchedEvent() throws Exception {
+        int capacity = 1000;
+        LatestScoreCache concurrentCache = new LatestScoreCache(capacity, 0, Clock.systemUTC());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            int firstEventId = thread * 10_000;
+            writers.add(executor.submit(() -> {
+                for (int eventId = firstEventId; eventId < firstEventId + 10_000; eventId++) {
+                    concurrentCache.put(new EventScore(eventId, eventId));
+                    // Every writer also refreshes a hot event shared with the others
+                    concurrentCache.put(new EventScore(-1, eventId));
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(concurrentCache.size() <= capacity);
+        assertNotNull(concurrentCache.get(-1));
+    }
+
+    @Test
+    void testGet_AfterTtl_ShouldExpire() {
+        cache.put(new EventScore(1, 1.5f));
+
+        clock.advance(999);
+        assertNotNull(cache.get(1));
+        clock.advance(1);
+
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testEvict_ShouldForgetScore() {
+        cache.put(new EventScore(1, 1.5f));
+
+        cache.evict(1);
+
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    void testPut_Full_ShouldEvictScoreFetchedLongestAgo() {
+        cache.put(new EventScore(1, 1f));
+        clock.advance(1);
+        cache.put(new EventScore(2, 2f));
+        clock.advance(1);
+        cache.put(new EventScore(3, 3f));
+        clock.advance(1);
+        cache.put(new EventScore(1, 1.5f));
+
+        cache.put(new EventScore(4, 4f));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(1));
+        assertNotNull(cache.get(4));
+    }
+
+    @Test
+    void testPut_Full_ShouldSweepExpiredScoresFirst() {
+        cache.put(new EventScore(1, 1f));
+        cache.put(new EventScore(2, 2f));
+        clock.advance(500);
+        cache.put(new EventScore(3, 3f));
+        clock.advance(600);
+
+        cache.put(new EventScore(4, 4f));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(3));
+        assertNotNull(cache.get(4));
+    }
+
+    @Test
+    void testPut_FilledPastCapacity_ShouldKeepTheLatestFetchedEvents() {
+        int capacity = 50_000;
+        LatestScoreCache largeCache = new LatestScoreCache(capacity, 0, clock);
+
+        for (int eventId = 1; eventId <= 3 * capacity; eventId++) {
+            largeCache.put(new EventScore(eventId, eventId));
+            clock.advance(1);
+            // Refetching the first event keeps it among the latest
+            largeCache.put(new EventScore(1, 1f));
+        }
+
+        assertEquals(capacity, largeCache.size());
+        assertNotNull(largeCache.get(1));
+        assertNull(largeCache.get(2));
+        assertNull(largeCache.get(2 * capacity + 1));
+        assertNotNull(largeCache.get(2 * capacity + 2));
+        assertNotNull(largeCache.get(3 * capacity));
+    }
+
+    @Test
+    void testGetAll_ShouldKeepRequestOrderAndSkipUnknownEvents() {
+        cache.put(new EventScore(1, 1f));
+        cache.put(new EventScore(2, 2f));
+
+        List<LatestScore> latestScores = cache.getAll(Arrays.asList(2, 9, null, 1));
+
+        assertEquals(2, latestScores.size());
+        assertEquals(2, latestScores.get(0).getEventId());
+        assertEquals(1, latestScores.get(1).getEventId());
+    }
+
+    @Test
+    void testConstructor_InvalidSize_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatestScoreCache(0, 1000, clock));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_000_000;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
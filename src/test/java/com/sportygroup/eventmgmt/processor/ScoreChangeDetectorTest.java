@@ -0,0 +1,72 @@
+package com.sportygroup.eventmgmt.processor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreChangeDetectorTest {
+
+    @Test
+    void testShouldPublish_FirstAndChangedScores() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(0);
+
+        assertTrue(detector.shouldPublish(1, 10.0f));
+        assertFalse(detector.shouldPublish(1, 10.0f));
+        assertTrue(detector.shouldPublish(1, 10.5f));
+        assertFalse(detector.shouldPublish(1, 10.5f));
+        assertEquals(1, detector.size());
+    }
+
+    @Test
+    void testShouldPublish_HeartbeatDue_ShouldRepublishUnchangedScore() throws Exception {
+        ScoreChangeDetector detector = new ScoreChangeDetector(20);
+
+        assertTrue(detector.shouldPublish(1, 10.0f));
+        assertFalse(detector.shouldPublish(1, 10.0f));
+        Thread.sleep(30);
+
+        assertTrue(detector.shouldPublish(1, 10.0f));
+        assertFalse(detector.shouldPublish(1, 10.0f));
+    }
+
+    @Test
+    void testClear_ShouldPublishNextScoreAgain() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(0);
+        detector.shouldPublish(1, 10.0f);
+
+        detector.clear(1);
+
+        assertEquals(0, detector.size());
+        assertTrue(detector.shouldPublish(1, 10.0f));
+    }
+
+    @Test
+    void testManyEvents_ShouldTrackEachEventAcrossResizesAndRemovals() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(0);
+        int events = 20_000;
+
+        for (int id = 1; id <= events; id++) {
+            assertTrue(detector.shouldPublish(id, id * 0.5f));
+        }
+        assertEquals(events, detector.size());
+
+        // Remove every other event, the remaining ones must still be found
+        for (int id = 2; id <= events; id += 2) {
+            detector.clear(id);
+        }
+        assertEquals(events / 2, detector.size());
+        for (int id = 1; id <= events; id++) {
+            boolean removed = id % 2 == 0;
+            assertEquals(removed, detector.shouldPublish(id, id * 0.5f), "event " + id);
+        }
+    }
+
+    @Test
+    void testShouldPublish_EventIdZero_IsNeverCached() {
+        ScoreChangeDetector detector = new ScoreChangeDetector(0);
+
+        assertTrue(detector.shouldPublish(0, 1.0f));
+        assertTrue(detector.shouldPublish(0, 1.0f));
+        assertEquals(0, detector.size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a published {@link EventScore} record value by the binary
+ * {@link EventScoreSerializer} configured as {@code spring.kafka.producer.value-serializer} and by the
+ * {@link JsonSerializer} still selectable there. The producer passes the record headers, so both
+ * serializers also add their header, which is measured separately.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark verify -Djmh.includes=EventScoreSerializationBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventScoreSerializationBenchmark {
+
+    private JsonSerializer<EventScore> serializer;
+
+    private EventScoreSerializer binarySerializer;
+
+    private EventScore eventScore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        binarySerializer = new EventScoreSerializer();
+        eventScore = new EventScore(123456, 2.75f);
+        long now = System.currentTimeMillis();
+        eventScore.setScheduledAt(now - 45);
+        eventScore.setFetchedAt(now - 3);
+        eventScore.setPublishedAt(now);
+        eventScore.setSequence(now * 1000);
+    }
+
+    /**
+     * Serializes a score as JSON as the producer does, with a fresh set of record headers.
+     *
+     * @return the serialized value
+     */
+    @Benchmark
+    public byte[] serializeWithHeaders() {
+        return serializer.serialize(ScorePublisher.TOPIC_NAME, new RecordHeaders(), eventScore);
+    }
+
+    /**
+     * Serializes a score as JSON without headers, i.e. the JSON encoding alone.
+     *
+     * @return the serialized value
+     */
+    @Benchmark
+    public byte[] serializeValueOnly() {
+        return serializer.serialize(ScorePublisher.TOPIC_NAME, eventScore);
+    }
+
+    /**
+     * Serializes a score in the binary format as the producer does, with a fresh set of record headers.
+     *
+     * @return the serialized value
+     */
+    @Benchmark
+    public byte[] serializeBinaryWithHeaders() {
+        return binarySerializer.serialize(ScorePublisher.TOPIC_NAME, new RecordHeaders(), eventScore);
+    }
+
+    /**
+     * Serializes a score in the binary format without headers.
+     *
+     * @return the serialized value
+     */
+    @Benchmark
+    public byte[] serializeBinaryValueOnly() {
+        return binarySerializer.serialize(ScorePublisher.TOPIC_NAME, eventScore);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventScoreSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventScoreSerializerTest {
+
+    private final EventScoreSerializer serializer = new EventScoreSerializer();
+
+    private final EventScoreDeserializer deserializer = new EventScoreDeserializer();
+
+    @Test
+    void testRoundTrip_PublishedScore_ShouldKeepAllFields() {
+        long now = System.currentTimeMillis();
+        EventScore eventScore = new EventScore(123456, 2.75f);
+        eventScore.setScheduledAt(now - 45);
+        eventScore.setFetchedAt(now - 3);
+        eventScore.setPublishedAt(now);
+        eventScore.setSequence(now * 1000 + 2);
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize(ScorePublisher.TOPIC_NAME, headers, eventScore);
+        EventScore read = deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, data);
+
+        assertArrayEquals(new byte[]{EventScoreSerializer.VERSION}, headers.lastHeader(EventScoreSerializer.FORMAT_HEADER).value());
+        assertTrue(data.length <= 20, "Published score should take at most 20 bytes, took " + data.length);
+        assertEquals(123456, read.getEventId());
+        assertEquals(2.75f, read.getScore());
+        assertEquals(now - 45, read.getScheduledAt());
+        assertEquals(now - 3, read.getFetchedAt());
+        assertEquals(now, read.getPublishedAt());
+        assertEquals(now * 1000 + 2, read.getSequence());
+    }
+
+    @Test
+    void testRoundTrip_UnstampedScore_ShouldTakeFixedPartOnly() {
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize(ScorePublisher.TOPIC_NAME, headers, new EventScore(-7, -1.5f));
+        EventScore read = deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, data);
+
+        assertEquals(EventScoreSerializer.FIXED_SIZE, data.length);
+        assertEquals(-7, read.getEventId());
+        assertEquals(-1.5f, read.getScore());
+        assertEquals(0, read.getFetchedAt());
+        assertEquals(0, read.getSequence());
+    }
+
+    @Test
+    void testSerialize_ShouldReplaceExistingFormatHeader() {
+        Headers headers = new RecordHeaders();
+        headers.add(EventScoreSerializer.FORMAT_HEADER, new byte[]{9});
+
+        serializer.serialize(ScorePublisher.TOPIC_NAME, headers, new EventScore(1, 1.0f));
+
+        assertEquals(1, headers.toArray().length);
+        assertArrayEquals(new byte[]{EventScoreSerializer.VERSION}, headers.lastHeader(EventScoreSerializer.FORMAT_HEADER).value());
+    }
+
+    @Test
+    void testDeserialize_JsonRecordWithoutFormatHeader_ShouldReadJson() {
+        EventScore eventScore = new EventScore(42, 9.5f);
+        eventScore.setFetchedAt(1751394612041L);
+        Headers headers = new RecordHeaders();
+        try (JsonSerializer<EventScore> jsonSerializer = new JsonSerializer<>()) {
+            byte[] data = jsonSerializer.serialize(ScorePublisher.TOPIC_NAME, headers, eventScore);
+
+            EventScore read = deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, data);
+
+            assertEquals(42, read.getEventId());
+            assertEquals(9.5f, read.getScore());
+            assertEquals(1751394612041L, read.getFetchedAt());
+        }
+    }
+
+    @Test
+    void testDeserialize_UnknownVersion_ShouldThrowSerializationException() {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(ScorePublisher.TOPIC_NAME, headers, new EventScore(1, 1.0f));
+        headers.remove(EventScoreSerializer.FORMAT_HEADER);
+        headers.add(EventScoreSerializer.FORMAT_HEADER, new byte[]{2});
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, data));
+    }
+
+    @Test
+    void testDeserialize_TruncatedRecord_ShouldThrowSerializationException() {
+        EventScore eventScore = new EventScore(1, 1.0f);
+        eventScore.setPublishedAt(System.currentTimeMillis());
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize(ScorePublisher.TOPIC_NAME, headers, eventScore);
+
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, truncated));
+    }
+
+    @Test
+    void testNullValue_ShouldStayNull() {
+        Headers headers = new RecordHeaders();
+
+        assertNull(serializer.serialize(ScorePublisher.TOPIC_NAME, headers, null));
+        assertNull(deserializer.deserialize(ScorePublisher.TOPIC_NAME, headers, null));
+        assertNull(headers.lastHeader(EventScoreSerializer.FORMAT_HEADER));
+    }
+}
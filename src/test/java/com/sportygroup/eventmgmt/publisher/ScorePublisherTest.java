@@ -0,0 +1,170 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScorePublisherTest {
+
+    @Mock
+    private KafkaTemplate<Integer, EventScore> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PollingMetrics metrics = new PollingMetrics(meterRegistry);
+
+    @Test
+    void testPublish_ShouldKeyRecordByEventId() {
+        EventScore eventScore = new EventScore(77, 3.5f);
+        when(kafkaTemplate.send("event-score-processor", 77, eventScore)).thenReturn(CompletableFuture.completedFuture(null));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 2, 0, metrics);
+
+        CompletableFuture<SendResult<Integer, EventScore>> future = publisher.publish(eventScore);
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+        verify(kafkaTemplate).send("event-score-processor", 77, eventScore);
+        assertEquals(1, publisher.getSentRecords());
+        assertEquals(0, publisher.getInFlight());
+        assertEquals(1, meterRegistry.get("eventmgmt.kafka.send").tag("outcome", "success").timer().count());
+        assertEquals(0.0, meterRegistry.get("eventmgmt.kafka.in-flight").gauge().value());
+    }
+
+    @Test
+    void testPublish_ShouldStampPublishTimeAndIncreasingSequence() {
+        when(kafkaTemplate.send(eq("event-score-processor"), anyInt(), any(EventScore.class))).thenReturn(CompletableFuture.completedFuture(null));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 2, 0, metrics);
+        EventScore first = new EventScore(1, 1.0f);
+        EventScore second = new EventScore(1, 2.0f);
+        long before = System.currentTimeMillis();
+
+        publisher.publish(first);
+        publisher.publish(second);
+
+        assertTrue(first.getPublishedAt() >= before);
+        assertTrue(second.getPublishedAt() >= first.getPublishedAt());
+        assertTrue(first.getSequence() >= before * 1000, "Sequence must start from the publish time in microseconds");
+        assertTrue(second.getSequence() > first.getSequence());
+    }
+
+    @Test
+    void testPublish_FetchedScore_ShouldRecordFetchAndScheduleToPublishLag() {
+        when(kafkaTemplate.send(eq("event-score-processor"), anyInt(), any(EventScore.class))).thenReturn(CompletableFuture.completedFuture(null));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 2, 0, metrics);
+        EventScore fetched = new EventScore(1, 1.0f);
+        long now = System.currentTimeMillis();
+        fetched.setScheduledAt(now - 500);
+        fetched.setFetchedAt(now - 100);
+
+        publisher.publish(fetched);
+        publisher.publish(new EventScore(2, 2.0f));
+
+        assertEquals(1, meterRegistry.get("eventmgmt.score.fetch-to-publish").timer().count());
+        assertEquals(1, meterRegistry.get("eventmgmt.score.schedule-to-publish").timer().count());
+        assertTrue(meterRegistry.get("eventmgmt.score.schedule-to-publish").timer().totalTime(TimeUnit.MILLISECONDS) >= 500);
+    }
+
+    @Test
+    void testStampedScore_ShouldSerializeOnlySetTimestamps() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        EventScore eventScore = new EventScore(5, 1.5f);
+
+        assertEquals("{\"eventId\":5,\"score\":1.5}", objectMapper.writeValueAsString(eventScore));
+
+        eventScore.setFetchedAt(1000);
+        eventScore.setPublishedAt(1200);
+        eventScore.setSequence(1200000);
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(eventScore));
+        assertFalse(json.has("scheduledAt"));
+        assertEquals(1000, json.get("fetchedAt").asLong());
+        assertEquals(1200, json.get("publishedAt").asLong());
+        assertEquals(1200000, json.get("sequence").asLong());
+    }
+
+    @Test
+    void testPublish_CapReached_ShouldDropRecordUntilSendCompletes() {
+        CompletableFuture<SendResult<Integer, EventScore>> pendingSend = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq("event-score-processor"), anyInt(), any(EventScore.class)))
+                .thenReturn(pendingSend)
+                .thenReturn(CompletableFuture.completedFuture(null));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 1, 10, metrics);
+
+        publisher.publish(new EventScore(1, 1.0f));
+        assertTrue(publisher.isSaturated());
+        assertEquals(1, publisher.getInFlight());
+
+        CompletableFuture<SendResult<Integer, EventScore>> dropped = publisher.publish(new EventScore(2, 2.0f));
+        ExecutionException exception = assertThrows(ExecutionException.class, dropped::get);
+        assertTrue(exception.getCause() instanceof TimeoutException);
+        assertEquals(1, publisher.getDroppedRecords());
+        assertEquals(1.0, meterRegistry.get("eventmgmt.kafka.send.failures").tag("reason", "dropped").counter().count());
+
+        // Acknowledging the pending send frees its slot
+        pendingSend.complete(null);
+        assertFalse(publisher.isSaturated());
+        assertFalse(publisher.publish(new EventScore(3, 3.0f)).isCompletedExceptionally());
+        assertEquals(2, publisher.getSentRecords());
+    }
+
+    @Test
+    void testTryPublish_CapReached_ShouldDropRecordWithoutWaiting() {
+        when(kafkaTemplate.send(eq("event-score-processor"), anyInt(), any(EventScore.class))).thenReturn(new CompletableFuture<>());
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 1, 5000, metrics);
+        publisher.tryPublish(new EventScore(1, 1.0f));
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<Integer, EventScore>> dropped = publisher.tryPublish(new EventScore(2, 2.0f));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        ExecutionException exception = assertThrows(ExecutionException.class, dropped::get);
+        assertTrue(exception.getCause() instanceof TimeoutException);
+        assertEquals(1, publisher.getDroppedRecords());
+        verify(kafkaTemplate, times(1)).send(eq("event-score-processor"), anyInt(), any(EventScore.class));
+    }
+
+    @Test
+    void testPublish_BrokerFailure_ShouldCountFailedRecordAndReleaseSlot() {
+        EventScore eventScore = new EventScore(9, 9.0f);
+        when(kafkaTemplate.send("event-score-processor", 9, eventScore))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 1, 0, metrics);
+
+        CompletableFuture<SendResult<Integer, EventScore>> future = publisher.publish(eventScore);
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1, publisher.getFailedRecords());
+        assertFalse(publisher.isSaturated());
+        assertEquals(1, meterRegistry.get("eventmgmt.kafka.send").tag("outcome", "failure").timer().count());
+        assertEquals(1.0, meterRegistry.get("eventmgmt.kafka.send.failures").tag("reason", "error").counter().count());
+    }
+
+    @Test
+    void testPublish_SendThrows_ShouldCountFailedRecordAndReleaseSlot() {
+        EventScore eventScore = new EventScore(9, 9.0f);
+        when(kafkaTemplate.send("event-score-processor", 9, eventScore)).thenThrow(new IllegalStateException("Producer closed"));
+        ScorePublisher publisher = new ScorePublisher(kafkaTemplate, 1, 0, metrics);
+
+        CompletableFuture<SendResult<Integer, EventScore>> future = publisher.publish(eventScore);
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1, publisher.getFailedRecords());
+        assertFalse(publisher.isSaturated());
+    }
+}
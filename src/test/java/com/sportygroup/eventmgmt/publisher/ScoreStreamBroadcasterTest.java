@@ -0,0 +1,286 @@
+package com.sportygroup.eventmgmt.publisher;
+
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.model.LatestScore;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreStreamBroadcasterTest {
+
+    private final LatestScoreCache scoreCache = new LatestScoreCache(100, 0);
+
+    private final ScoreStreamBroadcaster broadcaster = new ScoreStreamBroadcaster(scoreCache, 16, 0, 2, 0);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void testSubscribe_ShouldSendLatestScoreThenEveryFetchedScore() throws InterruptedException {
+        scoreCache.put(new EventScore(1, 1.0f));
+        RecordingEmitter emitter = new RecordingEmitter(3);
+
+        broadcaster.subscribe(1, emitter);
+        scoreCache.put(new EventScore(1, 2.0f));
+        scoreCache.put(new EventScore(2, 9.0f));
+        scoreCache.put(new EventScore(1, 3.0f));
+
+        assertTrue(emitter.received.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1.0f, 2.0f, 3.0f), emitter.scores());
+        assertEquals(1, broadcaster.getSubscriberCount(1));
+    }
+
+    @Test
+    void testBroadcast_ManySubscribers_ShouldFanOutOnFewThreads() throws InterruptedException {
+        int subscriberCount = 2000;
+        CountDownLatch received = new CountDownLatch(subscriberCount);
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(1, received);
+            emitters.add(emitter);
+            broadcaster.subscribe(7, emitter);
+        }
+
+        scoreCache.put(new EventScore(7, 4.0f));
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(List.of(4.0f), emitter.scores());
+        }
+        assertTrue(emitters.stream().allMatch(emitter -> emitter.senderThread.startsWith("score-stream-")));
+    }
+
+    @Test
+    void testBroadcast_SlowSubscriber_ShouldDropOldestWithoutBlockingOthers() throws InterruptedException {
+        ScoreStreamBroadcaster smallBuffers = new ScoreStreamBroadcaster(scoreCache, 2, 0, 2, 0);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(3) {
+            @Override
+            void beforeSend() throws InterruptedException {
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+        };
+        RecordingEmitter fast = new RecordingEmitter(1);
+        smallBuffers.subscribe(3, slow);
+        smallBuffers.subscribe(3, fast);
+
+        scoreCache.put(new EventScore(3, 1.0f));
+        assertTrue(sending.await(2, TimeUnit.SECONDS));
+        long start = System.nanoTime();
+        for (int i = 2; i <= 5; i++) {
+            scoreCache.put(new EventScore(3, i));
+        }
+        long publishMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(publishMillis < 1000, "Publishing was held back by a slow subscriber: " + publishMillis + " ms");
+        assertTrue(fast.awaitScore(5.0f));
+
+        release.countDown();
+        assertTrue(slow.received.await(2, TimeUnit.SECONDS));
+        // The first score was being written; of the four buffered behind it only the latest two were kept
+        assertEquals(List.of(1.0f, 4.0f, 5.0f), slow.scores());
+        assertTrue(smallBuffers.getDroppedScores() >= 2);
+        smallBuffers.stop();
+    }
+
+    @Test
+    void testBroadcast_ClientGone_ShouldUnsubscribe() throws InterruptedException {
+        RecordingEmitter broken = new RecordingEmitter(1) {
+            @Override
+            void beforeSend() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.subscribe(4, broken);
+
+        scoreCache.put(new EventScore(4, 1.0f));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (broadcaster.getSubscriberCount(4) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.getSubscriberCount(4));
+    }
+
+    @Test
+    void testBroadcast_StalledClientWrite_ShouldCloseStreamAfterWriteTimeoutAndFreeSender() throws InterruptedException {
+        ScoreStreamBroadcaster oneSender = new ScoreStreamBroadcaster(scoreCache, 16, 0, 1, 100);
+        CountDownLatch sending = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(1) {
+            @Override
+            void beforeSend() throws IOException {
+                sending.countDown();
+                try {
+                    // A client that never reads: the write only returns when interrupted
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IOException("Write interrupted");
+                }
+            }
+        };
+        RecordingEmitter healthy = new RecordingEmitter(1);
+        oneSender.subscribe(5, stalled);
+        oneSender.subscribe(6, healthy);
+
+        scoreCache.put(new EventScore(5, 1.0f));
+        assertTrue(sending.await(2, TimeUnit.SECONDS));
+        scoreCache.put(new EventScore(6, 2.0f));
+
+        assertTrue(healthy.awaitScore(2.0f));
+        assertEquals(0, oneSender.getSubscriberCount(5));
+        assertEquals(1, oneSender.getSubscriberCount(6));
+        oneSender.stop();
+    }
+
+    @Test
+    void testBroadcast_ClientsStalledIgnoringInterrupt_ShouldCloseEveryStreamWithoutBlockingWatchdog() throws InterruptedException {
+        ScoreStreamBroadcaster threeSenders = new ScoreStreamBroadcaster(scoreCache, 16, 0, 3, 100);
+        StalledEmitter first = new StalledEmitter();
+        StalledEmitter second = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter(1);
+        threeSenders.subscribe(8, first);
+        threeSenders.subscribe(9, second);
+        threeSenders.subscribe(10, healthy);
+
+        scoreCache.put(new EventScore(8, 1.0f));
+        scoreCache.put(new EventScore(9, 1.0f));
+        assertTrue(first.writing.await(2, TimeUnit.SECONDS));
+        assertTrue(second.writing.await(2, TimeUnit.SECONDS));
+
+        // Finishing the first stalled emitter waits for its write, yet the watchdog goes on to the second
+        long deadline = System.currentTimeMillis() + 2000;
+        while ((threeSenders.getSubscriberCount(8) > 0 || threeSenders.getSubscriberCount(9) > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, threeSenders.getSubscriberCount(8));
+        assertEquals(0, threeSenders.getSubscriberCount(9));
+        assertTrue(first.interrupted && second.interrupted);
+        assertFalse(first.completed.await(200, TimeUnit.MILLISECONDS));
+        scoreCache.put(new EventScore(10, 2.0f));
+        assertTrue(healthy.awaitScore(2.0f));
+
+        // Once the writes fail, the emitters are finished with the write timeout as the error
+        first.release.countDown();
+        second.release.countDown();
+        assertTrue(first.completed.await(2, TimeUnit.SECONDS));
+        assertTrue(second.completed.await(2, TimeUnit.SECONDS));
+        threeSenders.stop();
+    }
+
+    /**
+     * Emitter recording the scores it is asked to send instead of writing to a connection.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<LatestScore> sent = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch received;
+
+        private volatile String senderThread;
+
+        RecordingEmitter(int expectedScores) {
+            this(expectedScores, new CountDownLatch(expectedScores));
+        }
+
+        RecordingEmitter(int expectedScores, CountDownLatch received) {
+            this.received = received;
+        }
+
+        void beforeSend() throws IOException, InterruptedException {
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                beforeSend();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            senderThread = Thread.currentThread().getName();
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof LatestScore latestScore) {
+                    sent.add(latestScore);
+                    received.countDown();
+                }
+            }
+        }
+
+        boolean awaitScore(float score) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!scores().contains(score)) {
+                if (System.currentTimeMillis() > deadline) {
+                    return false;
+                }
+                Thread.sleep(5);
+            }
+            return true;
+        }
+
+        List<Float> scores() {
+            return sent.stream().map(LatestScore::getScore).toList();
+        }
+    }
+
+    /**
+     * Emitter of a client that stopped reading: like a servlet response, a write holds the lock of the
+     * emitter and does not return on an interrupt, and finishing the emitter needs the same lock.
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final ReentrantLock writeLock = new ReentrantLock();
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private volatile boolean interrupted;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writeLock.lock();
+            try {
+                writing.countDown();
+                while (true) {
+                    try {
+                        if (release.await(10, TimeUnit.SECONDS)) {
+                            break;
+                        }
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                throw new IOException("Connection reset by peer");
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            writeLock.lock();
+            try {
+                completed.countDown();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+}
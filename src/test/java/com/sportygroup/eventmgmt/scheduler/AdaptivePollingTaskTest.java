@@ -0,0 +1,161 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePollingTaskTest {
+
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2);
+
+    /** Lags reported by the task, in order */
+    private final List<Long> lagsNanos = new CopyOnWriteArrayList<>();
+
+    /** Delays requested from the scheduler, in order */
+    private final List<Long> requestedDelays = new CopyOnWriteArrayList<>();
+
+    private final AdaptivePollingTask.DelayScheduler scheduler = (task, delayMs) -> {
+        requestedDelays.add(delayMs);
+        return executor.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    };
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testRun_ShouldRescheduleWithCurrentDelay() throws InterruptedException {
+        AtomicLong nextDelay = new AtomicLong(5);
+        CountDownLatch runs = new CountDownLatch(3);
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> {
+            nextDelay.addAndGet(5);
+            runs.countDown();
+        }, nextDelay::get, scheduler, lagsNanos::add);
+
+        task.start(1);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        task.cancel(false);
+        assertEquals(List.of(1L, 10L, 15L), requestedDelays.subList(0, 3));
+    }
+
+    @Test
+    void testCancel_ShouldStopFurtherRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> runs.incrementAndGet(), () -> 5, scheduler, lagsNanos::add);
+
+        task.start(5);
+        Thread.sleep(100);
+        assertTrue(task.cancel(true));
+        int runsAtCancel = runs.get();
+        Thread.sleep(100);
+
+        assertTrue(runsAtCancel > 0);
+        assertTrue(runs.get() <= runsAtCancel + 1, "At most a run in progress may complete after cancel");
+        assertTrue(task.isCancelled());
+        assertTrue(task.isDone());
+        assertFalse(task.cancel(true));
+    }
+
+    @Test
+    void testCancelBeforeFirstRun_ShouldNeverRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> runs.incrementAndGet(), () -> 5, scheduler, lagsNanos::add).start(50);
+
+        task.cancel(false);
+        Thread.sleep(150);
+
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void testCancel_FirstRunFiringBeforeStartReturns_ShouldCancelRescheduledRun() throws InterruptedException {
+        ScheduledThreadPoolExecutor runner = new ScheduledThreadPoolExecutor(1);
+        List<ScheduledFuture<?>> scheduled = new CopyOnWriteArrayList<>();
+        AdaptivePollingTask.DelayScheduler immediateFirstRun = (task, delayMs) -> {
+            ScheduledFuture<?> future = executor.schedule(() -> { }, 1, TimeUnit.HOURS);
+            scheduled.add(future);
+            if (scheduled.size() == 1) {
+                // The first run fires on another thread before its future is handed back
+                runner.execute(task);
+                sleepQuietly(100);
+            }
+            return future;
+        };
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> { }, () -> 5, immediateFirstRun, lagsNanos::add);
+
+        task.start(0);
+        runner.shutdown();
+        assertTrue(runner.awaitTermination(1, TimeUnit.SECONDS));
+        task.cancel(false);
+
+        assertEquals(2, scheduled.size());
+        assertTrue(scheduled.get(1).isCancelled(), "The rescheduled run must be the pending one");
+    }
+
+    @Test
+    void testRun_FailingTask_ShouldStillReschedule() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(2);
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> {
+            runs.countDown();
+            throw new IllegalStateException("boom");
+        }, () -> 5, scheduler, lagsNanos::add);
+
+        task.start(1);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        task.cancel(false);
+    }
+
+    @Test
+    void testRun_LateRun_ShouldReportLag() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(1);
+        // The timer fires every run 50 ms after it is due
+        AdaptivePollingTask.DelayScheduler lateScheduler = (task, delayMs) -> executor.schedule(task, delayMs + 50, TimeUnit.MILLISECONDS);
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> runs.countDown(), () -> 1000, lateScheduler, lagsNanos::add);
+
+        task.start(1);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        task.cancel(false);
+        assertEquals(1, lagsNanos.size());
+        assertTrue(lagsNanos.get(0) >= TimeUnit.MILLISECONDS.toNanos(50), "Lag was " + lagsNanos.get(0) + " ns");
+    }
+
+    @Test
+    void testRun_LateRun_ShouldPassTimeRunWasDue() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(1);
+        AtomicLong lateByMs = new AtomicLong();
+        AdaptivePollingTask.DelayScheduler lateScheduler = (task, delayMs) -> executor.schedule(task, delayMs + 50, TimeUnit.MILLISECONDS);
+        AdaptivePollingTask task = new AdaptivePollingTask(scheduledAtMs -> {
+            lateByMs.set(System.currentTimeMillis() - scheduledAtMs);
+            runs.countDown();
+        }, () -> 1000, lateScheduler, lagsNanos::add);
+
+        task.start(1);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+        task.cancel(false);
+        // Allow for the wall clock and the nano clock being rounded differently
+        assertTrue(lateByMs.get() >= 49 && lateByMs.get() < 1000, "Run was " + lateByMs.get() + " ms late");
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingPollingTaskTest {
+
+    /** Lags reported by the task, in order */
+    private final List<Long> lagsNanos = new CopyOnWriteArrayList<>();
+
+    /** Ticks reported as coalesced */
+    private final AtomicLong coalesced = new AtomicLong();
+
+    @Test
+    void testRun_MissedTicksFiredBackToBack_ShouldRunOnlyTheLatest() {
+        AtomicInteger runs = new AtomicInteger();
+        // The first tick was due 2.5 periods ago, as after a run overran its period
+        CoalescingPollingTask task = new CoalescingPollingTask(runs::incrementAndGet, -2500, 1000, TimeUnit.MILLISECONDS,
+                lagsNanos::add, coalesced::addAndGet);
+
+        task.run();
+        task.run();
+        task.run();
+
+        assertEquals(1, runs.get());
+        assertEquals(2, coalesced.get());
+        assertEquals(1, lagsNanos.size());
+        assertTrue(lagsNanos.get(0) >= TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(lagsNanos.get(0) < TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    void testRun_TimerSkippedMissedTicks_ShouldKeepPollingOnCadence() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        // The first tick was due 2.5 periods ago, and the timer fires only the latest one
+        CoalescingPollingTask task = new CoalescingPollingTask(runs::incrementAndGet, -125, 50, TimeUnit.MILLISECONDS,
+                lagsNanos::add, coalesced::addAndGet);
+
+        task.run();
+        Thread.sleep(60);
+        task.run();
+        Thread.sleep(50);
+        task.run();
+
+        assertEquals(3, runs.get());
+        assertEquals(2, coalesced.get());
+    }
+
+    @Test
+    void testRun_PreviousRunInProgress_ShouldSkipTick() {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicReference<CoalescingPollingTask> self = new AtomicReference<>();
+        CoalescingPollingTask task = new CoalescingPollingTask(() -> {
+            // A tick handed to another thread while this run is still in progress
+            if (runs.incrementAndGet() == 1) {
+                self.get().run();
+            }
+        }, 0, 1, TimeUnit.HOURS, lagsNanos::add, coalesced::addAndGet);
+        self.set(task);
+
+        task.run();
+        task.run();
+
+        assertEquals(2, runs.get());
+        assertEquals(1, coalesced.get());
+    }
+
+    @Test
+    void testRun_TaskFails_ShouldReleaseTheNextTick() {
+        AtomicInteger runs = new AtomicInteger();
+        CoalescingPollingTask task = new CoalescingPollingTask(() -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("Upstream down");
+        }, 0, 1, TimeUnit.HOURS, lagsNanos::add, coalesced::addAndGet);
+
+        assertThrows(IllegalStateException.class, task::run);
+        assertThrows(IllegalStateException.class, task::run);
+
+        assertEquals(2, runs.get());
+        assertEquals(0, coalesced.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentIntObjectMapTest {
+
+    private final ConcurrentIntObjectMap<String> map = new ConcurrentIntObjectMap<>();
+
+    @Test
+    void testPutIfAbsent_ShouldKeepFirstValue() {
+        assertNull(map.putIfAbsent(7, "first"));
+        assertEquals("first", map.putIfAbsent(7, "second"));
+
+        assertEquals("first", map.get(7));
+        assertNull(map.get(8));
+    }
+
+    @Test
+    void testRemove_ShouldOnlyRemoveExpectedValue() {
+        String value = "value";
+        map.putIfAbsent(7, value);
+
+        assertFalse(map.remove(7, "other"));
+        assertTrue(map.remove(7, value));
+        assertFalse(map.remove(7, value));
+        assertNull(map.get(7));
+    }
+
+    @Test
+    void testManyKeys_ShouldSurviveResizesAndRemovals() {
+        int keys = 10_000;
+        for (int key = 0; key < keys; key++) {
+            assertNull(map.putIfAbsent(key, "v" + key));
+        }
+        for (int key = 0; key < keys; key += 2) {
+            assertTrue(map.remove(key, "v" + key));
+        }
+
+        for (int key = 0; key < keys; key++) {
+            assertEquals(key % 2 == 1 ? "v" + key : null, map.get(key));
+        }
+        Map<Integer, String> entries = new HashMap<>();
+        map.forEach((value, key) -> entries.put(key, value));
+        assertEquals(keys / 2, entries.size());
+        assertEquals(keys / 2, map.count(value -> true));
+        assertEquals("v9999", entries.get(9999));
+    }
+
+    @Test
+    void testConcurrentUpdates_DuringResizes_ShouldKeepEveryEntryOnce() throws Exception {
+        int threads = 8;
+        int keysPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t * keysPerThread;
+                futures.add(executor.submit(() -> {
+                    for (int key = first; key < first + keysPerThread; key++) {
+                        assertNull(map.putIfAbsent(key, "v" + key));
+                    }
+                    for (int key = first; key < first + keysPerThread; key += 2) {
+                        assertTrue(map.remove(key, "v" + key));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int key = 0; key < threads * keysPerThread; key++) {
+            assertEquals(key % 2 == 1 ? "v" + key : null, map.get(key));
+        }
+        assertEquals(threads * keysPerThread / 2, map.count(value -> true));
+    }
+}
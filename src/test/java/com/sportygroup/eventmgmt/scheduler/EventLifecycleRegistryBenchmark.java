@@ -0,0 +1,114 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups and the live/not-live transitions of {@link EventLifecycleRegistry} with a given
+ * number of live events. Event IDs run past the range of the {@link Integer} cache, as in production.
+ * Run with the default {@code gc} profiler, {@code gc.alloc.rate.norm} shows the bytes allocated per
+ * operation.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark verify -Djmh.includes=EventLifecycleRegistryBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLifecycleRegistryBenchmark {
+
+    /** Number of events looked up or cycled per benchmark invocation */
+    private static final int OPERATIONS = 1_000;
+
+    @Param({"1000", "10000"})
+    private int liveEvents;
+
+    private EventLifecycleRegistry registry;
+
+    private final ScheduledFuture<?> future = new StubFuture();
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        registry = new EventLifecycleRegistry();
+        for (int eventId = 1; eventId <= liveEvents; eventId++) {
+            registry.startPolling(eventId, live -> future);
+        }
+    }
+
+    /**
+     * Checks whether events are live, as every status update does before changing one.
+     *
+     * @return the number of live events seen, so that the lookups are not eliminated
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int isLive() {
+        int live = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (registry.isLive(nextEventId())) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Takes events not live and live again.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void stopAndStartPolling() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            int eventId = nextEventId();
+            registry.stopPolling(eventId);
+            registry.startPolling(eventId, live -> future);
+        }
+    }
+
+    private int nextEventId() {
+        next = next == liveEvents ? 1 : next + 1;
+        return next;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventLifecycleRegistryBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Future standing in for a scheduled polling task.
+     */
+    private static final class StubFuture extends CompletableFuture<Object> implements ScheduledFuture<Object> {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return 0;
+        }
+    }
+}
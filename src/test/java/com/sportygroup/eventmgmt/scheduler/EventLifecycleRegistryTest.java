@@ -0,0 +1,185 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLifecycleRegistryTest {
+
+    private final EventLifecycleRegistry registry = new EventLifecycleRegistry();
+
+    @Test
+    void testStartPolling_ShouldScheduleOnceAndGoLive() {
+        TestFuture future = new TestFuture(null);
+        AtomicInteger starts = new AtomicInteger();
+
+        assertTrue(registry.startPolling(1, live -> {
+            starts.incrementAndGet();
+            return future;
+        }));
+        assertFalse(registry.startPolling(1, live -> {
+            starts.incrementAndGet();
+            return new TestFuture(null);
+        }));
+
+        assertEquals(1, starts.get());
+        assertEquals(EventLifecycleRegistry.State.LIVE, registry.getState(1));
+        assertSame(future, registry.getFuture(1));
+        assertEquals(Set.of(1), registry.getLiveEventIds());
+    }
+
+    @Test
+    void testStopPolling_ShouldCancelAndUnregister() {
+        TestFuture future = new TestFuture(null);
+        AtomicReference<BooleanSupplier> liveness = new AtomicReference<>();
+        registry.startPolling(1, live -> {
+            liveness.set(live);
+            return future;
+        });
+
+        assertTrue(registry.stopPolling(1));
+        assertFalse(registry.stopPolling(1));
+
+        assertTrue(future.isCancelled());
+        assertFalse(liveness.get().getAsBoolean());
+        assertEquals(EventLifecycleRegistry.State.STOPPED, registry.getState(1));
+        assertNull(registry.getFuture(1));
+    }
+
+    @Test
+    void testStopPolling_WhileScheduling_ShouldCancelTaskOnceScheduled() {
+        TestFuture future = new TestFuture(null);
+
+        registry.startPolling(1, live -> {
+            // A not-live request arrives before the task is registered
+            assertEquals(EventLifecycleRegistry.State.SCHEDULING, registry.getState(1));
+            assertTrue(registry.stopPolling(1));
+            assertFalse(live.getAsBoolean());
+            return future;
+        });
+
+        assertTrue(future.isCancelled());
+        assertEquals(EventLifecycleRegistry.State.STOPPED, registry.getState(1));
+        assertFalse(registry.isLive(1));
+    }
+
+    @Test
+    void testStartPolling_AfterStop_ShouldRegisterNewLiveness() {
+        AtomicReference<BooleanSupplier> first = new AtomicReference<>();
+        AtomicReference<BooleanSupplier> second = new AtomicReference<>();
+        registry.startPolling(1, live -> {
+            first.set(live);
+            return new TestFuture(null);
+        });
+        registry.stopPolling(1);
+
+        assertTrue(registry.startPolling(1, live -> {
+            second.set(live);
+            return new TestFuture(null);
+        }));
+
+        assertFalse(first.get().getAsBoolean());
+        assertTrue(second.get().getAsBoolean());
+    }
+
+    @Test
+    void testStartPolling_StarterFails_ShouldLeaveEventUnregistered() {
+        assertThrows(IllegalStateException.class, () -> registry.startPolling(1, live -> {
+            throw new IllegalStateException("scheduler shut down");
+        }));
+
+        assertEquals(EventLifecycleRegistry.State.STOPPED, registry.getState(1));
+        assertTrue(registry.startPolling(1, live -> new TestFuture(null)));
+    }
+
+    @Test
+    void testConcurrentLiveAndNotLiveStorms_ShouldNeverRunTwoProcessorsPerEvent() throws Exception {
+        int events = 32;
+        int threads = 8;
+        int updatesPerThread = 20_000;
+        AtomicIntegerArray running = new AtomicIntegerArray(events + 1);
+        AtomicBoolean overlap = new AtomicBoolean();
+        ExecutorService clients = Executors.newFixedThreadPool(threads);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<?>> storms = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            storms.add(clients.submit(() -> {
+                barrier.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < updatesPerThread; i++) {
+                    int eventId = 1 + random.nextInt(events);
+                    if (random.nextBoolean()) {
+                        registry.startPolling(eventId, live -> {
+                            if (running.incrementAndGet(eventId) > 1) {
+                                overlap.set(true);
+                            }
+                            return new TestFuture(() -> running.decrementAndGet(eventId));
+                        });
+                    } else {
+                        registry.stopPolling(eventId);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> storm : storms) {
+            storm.get(60, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+
+        assertFalse(overlap.get(), "Two processors ran for the same event");
+        for (int eventId = 1; eventId <= events; eventId++) {
+            boolean live = registry.isLive(eventId);
+            assertEquals(live ? 1 : 0, running.get(eventId), "Processors running for event " + eventId);
+        }
+    }
+
+    /**
+     * Scheduled future standing for a running processor, notifying its cancellation.
+     */
+    private static final class TestFuture extends CompletableFuture<Void> implements ScheduledFuture<Void> {
+
+        private final Runnable onCancel;
+
+        private TestFuture(Runnable onCancel) {
+            this.onCancel = onCancel;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && onCancel != null) {
+                onCancel.run();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+    private HashedTimingWheel wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+        workers.shutdownNow();
+    }
+
+    @Test
+    void testScheduleAtFixedRate_ShouldRunPeriodically() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        CountDownLatch runs = new CountDownLatch(3);
+
+        wheel.scheduleAtFixedRate(runs::countDown, 20, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(runs.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancel_ShouldStopFurtherRuns() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        AtomicInteger runs = new AtomicInteger();
+
+        ScheduledFuture<?> future = wheel.scheduleAtFixedRate(runs::incrementAndGet, 20, 20, TimeUnit.MILLISECONDS);
+        Thread.sleep(100);
+        assertTrue(future.cancel(false));
+        Thread.sleep(50);
+        int runsAtCancel = runs.get();
+        Thread.sleep(150);
+
+        assertTrue(runsAtCancel > 0);
+        assertEquals(runsAtCancel, runs.get());
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, future::get);
+    }
+
+    @Test
+    void testScheduleAtFixedRate_DelayLongerThanOneRotation_ShouldWaitForRemainingRounds() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 4, workers);
+        AtomicLong firedAt = new AtomicLong();
+        long scheduledAt = System.nanoTime();
+
+        wheel.scheduleAtFixedRate(() -> firedAt.compareAndSet(0, System.nanoTime()), 200, 1000, TimeUnit.MILLISECONDS);
+        Thread.sleep(400);
+
+        long delayMs = TimeUnit.NANOSECONDS.toMillis(firedAt.get() - scheduledAt);
+        assertTrue(firedAt.get() > 0);
+        assertTrue(delayMs >= 200, "Fired early after " + delayMs + " ms");
+    }
+
+    @Test
+    void testScheduleAtFixedRate_CoalescingTaskAfterStallLongerThanPeriod_ShouldKeepPolling() throws Exception {
+        // Tasks run on the timer thread, so the first run stalls the wheel for five periods
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, Runnable::run);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicLong coalesced = new AtomicLong();
+        CountDownLatch runsAfterStall = new CountDownLatch(3);
+        CoalescingPollingTask task = new CoalescingPollingTask(() -> {
+            if (runs.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(250);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                runsAfterStall.countDown();
+            }
+        }, 20, 50, TimeUnit.MILLISECONDS, lagNanos -> { }, coalesced::addAndGet);
+
+        wheel.scheduleAtFixedRate(task, 20, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(runsAfterStall.await(2, TimeUnit.SECONDS), "Polling stopped after the stall");
+        assertTrue(coalesced.get() > 0);
+    }
+
+    @Test
+    void testSchedule_ShouldRunOnlyOnce() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        AtomicInteger runs = new AtomicInteger();
+        long scheduledAt = System.nanoTime();
+        AtomicLong firedAt = new AtomicLong();
+
+        wheel.schedule(() -> {
+            firedAt.compareAndSet(0, System.nanoTime());
+            runs.incrementAndGet();
+        }, 30, TimeUnit.MILLISECONDS);
+        Thread.sleep(200);
+
+        assertEquals(1, runs.get());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - scheduledAt) >= 30);
+    }
+
+    @Test
+    void testScheduleAtFixedRate_FiftyThousandEvents_ShouldStayAccurateToTheTick() throws Exception {
+        int liveEvents = 50_000;
+        long periodMs = 200;
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 512, workers);
+        AtomicLongArray firstRun = new AtomicLongArray(liveEvents);
+        CountDownLatch allFired = new CountDownLatch(liveEvents);
+
+        long scheduledAt = System.nanoTime();
+        for (int i = 0; i < liveEvents; i++) {
+            int event = i;
+            wheel.scheduleAtFixedRate(() -> {
+                if (firstRun.compareAndSet(event, 0, System.nanoTime())) {
+                    allFired.countDown();
+                }
+            }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(allFired.await(5, TimeUnit.SECONDS));
+        long maxLatenessMs = 0;
+        for (int i = 0; i < liveEvents; i++) {
+            maxLatenessMs = Math.max(maxLatenessMs, TimeUnit.NANOSECONDS.toMillis(firstRun.get(i) - scheduledAt) - periodMs);
+        }
+        assertTrue(maxLatenessMs < 150, "Max lateness was " + maxLatenessMs + " ms");
+    }
+
+    @Test
+    void testScheduleAtFixedRate_SlowTask_ShouldNotRunConcurrentlyWithItself() throws Exception {
+        wheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, workers);
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+
+        wheel.scheduleAtFixedRate(() -> {
+            maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRuns.decrementAndGet();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+        Thread.sleep(300);
+
+        assertEquals(1, maxConcurrentRuns.get());
+    }
+
+    @Test
+    void testScheduleAtFixedRate_SlowTaskOnItsOwnExecutor_ShouldNotRunConcurrentlyWithItself() throws Exception {
+        // The timer thread only hands the task over; the run counts as in progress until it returned on the lane
+        wheel = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8, Runnable::run);
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+
+        wheel.scheduleAtFixedRate(() -> {
+            maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRuns.decrementAndGet();
+        }, 0, 10, TimeUnit.MILLISECONDS, workers);
+        Thread.sleep(300);
+
+        assertEquals(1, maxConcurrentRuns.get());
+    }
+
+    @Test
+    void testSchedule_Fired_ShouldBeDoneAndReturnFromGet() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        AtomicInteger runs = new AtomicInteger();
+
+        ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+
+        assertNull(future.get(2, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+        assertFalse(future.cancel(false));
+    }
+
+    @Test
+    void testSchedule_FailedRun_ShouldReportFailureFromGet() {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+
+        ScheduledFuture<?> future = wheel.schedule(() -> {
+            throw new IllegalStateException("Upstream down");
+        }, 10, TimeUnit.MILLISECONDS);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    void testSchedule_CancelledBeforeFiring_ShouldNotRunAndThrowFromGet() throws Exception {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        AtomicInteger runs = new AtomicInteger();
+
+        ScheduledFuture<?> future = wheel.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        assertFalse(future.isDone());
+        assertTrue(future.cancel(false));
+        Thread.sleep(200);
+
+        assertEquals(0, runs.get());
+        assertTrue(future.isDone());
+        assertThrows(CancellationException.class, () -> future.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testScheduleAtFixedRate_AfterStop_ShouldReject() {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, workers);
+        wheel.stop();
+
+        assertThrows(RejectedExecutionException.class,
+                () -> wheel.scheduleAtFixedRate(() -> { }, 10, 10, TimeUnit.MILLISECONDS));
+    }
+}
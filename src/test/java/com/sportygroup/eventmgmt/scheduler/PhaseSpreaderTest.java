@@ -0,0 +1,45 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseSpreaderTest {
+
+    private final PhaseSpreader phaseSpreader = new PhaseSpreader();
+
+    @Test
+    void testNextInitialDelayMs_ShouldStartWithFullPeriodAndFollowGoldenRatio() {
+        assertEquals(10000, phaseSpreader.nextInitialDelayMs(10000));
+        assertEquals(3820, phaseSpreader.nextInitialDelayMs(10000));
+        assertEquals(7640, phaseSpreader.nextInitialDelayMs(10000));
+    }
+
+    @Test
+    void testNextInitialDelayMs_ShouldStayWithinPeriod() {
+        for (int i = 0; i < 10_000; i++) {
+            long delay = phaseSpreader.nextInitialDelayMs(3000);
+            assertTrue(delay > 0 && delay <= 3000, "Delay out of period: " + delay);
+        }
+    }
+
+    @Test
+    void testNextInitialDelayMs_BurstOfEvents_ShouldSpreadEvenly() {
+        int events = 1000;
+        long periodMs = 10000;
+        long[] offsets = new long[events];
+        for (int i = 0; i < events; i++) {
+            offsets[i] = phaseSpreader.nextInitialDelayMs(periodMs);
+        }
+        Arrays.sort(offsets);
+
+        // An even spread would leave 10 ms between neighbours, the golden ratio sequence stays within a small factor
+        long largestGap = periodMs - offsets[events - 1] + offsets[0];
+        for (int i = 1; i < events; i++) {
+            largestGap = Math.max(largestGap, offsets[i] - offsets[i - 1]);
+        }
+        assertTrue(largestGap <= 3 * periodMs / events, "Largest gap between polls: " + largestGap);
+    }
+}
@@ -0,0 +1,101 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of scheduling and cancelling a polling task on the current
+ * ScheduledThreadPoolExecutor against the hashed timing wheel, with a given number of
+ * live events already scheduled.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark verify -Djmh.includes=SchedulerBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    /** Number of schedule/cancel pairs per benchmark invocation */
+    private static final int OPERATIONS = 1_000;
+
+    @Param({"1000", "10000", "100000"})
+    private int liveEvents;
+
+    @Param({"executor", "timing-wheel"})
+    private String scheduler;
+
+    private ScheduledThreadPoolExecutor executor;
+
+    private HashedTimingWheel timingWheel;
+
+    private final Runnable noop = () -> { };
+
+    /**
+     * Creates a fresh scheduler holding {@code liveEvents} periodic tasks with the production
+     * 10 second period. A fresh scheduler per invocation keeps cancelled executor tasks from
+     * piling up across invocations.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        executor = new ScheduledThreadPoolExecutor(10);
+        if ("timing-wheel".equals(scheduler)) {
+            timingWheel = new HashedTimingWheel(100, TimeUnit.MILLISECONDS, 512, executor);
+        }
+        for (int i = 0; i < liveEvents; i++) {
+            schedule(10_000 + (i % 10_000));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        if (timingWheel != null) {
+            timingWheel.stop();
+            timingWheel = null;
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Schedules and immediately cancels a polling task, as done when an event goes live and then not live.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void scheduleAndCancel() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            schedule(10_000).cancel(false);
+        }
+    }
+
+    private ScheduledFuture<?> schedule(long initialDelayMs) {
+        if (timingWheel != null) {
+            return timingWheel.scheduleAtFixedRate(noop, initialDelayMs, 10_000, TimeUnit.MILLISECONDS);
+        }
+        return executor.scheduleAtFixedRate(noop, initialDelayMs, 10_000, TimeUnit.MILLISECONDS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SchedulerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
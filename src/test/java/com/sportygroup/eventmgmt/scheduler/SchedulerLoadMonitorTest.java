@@ -0,0 +1,63 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerLoadMonitorTest {
+
+    @Test
+    void testIsOverloaded_MeanLagAboveThreshold_ShouldHoldForOneWindow() throws InterruptedException {
+        SchedulerLoadMonitor monitor = new SchedulerLoadMonitor(10, 50);
+        monitor.recordLag(TimeUnit.MILLISECONDS.toNanos(100));
+        monitor.recordLag(TimeUnit.MILLISECONDS.toNanos(40));
+
+        assertFalse(monitor.isOverloaded());
+        Thread.sleep(60);
+
+        assertTrue(monitor.isOverloaded());
+        assertEquals(70, monitor.getLagMs());
+    }
+
+    @Test
+    void testIsOverloaded_WindowWithoutRuns_ShouldRecover() throws InterruptedException {
+        SchedulerLoadMonitor monitor = new SchedulerLoadMonitor(10, 50);
+        monitor.recordLag(TimeUnit.MILLISECONDS.toNanos(100));
+        Thread.sleep(60);
+        assertTrue(monitor.isOverloaded());
+        monitor.recordRejected();
+
+        Thread.sleep(60);
+
+        assertFalse(monitor.isOverloaded());
+        assertEquals(0, monitor.getLagMs());
+    }
+
+    @Test
+    void testIsOverloaded_SingleLateRun_ShouldBeAveragedOut() throws InterruptedException {
+        SchedulerLoadMonitor monitor = new SchedulerLoadMonitor(10, 50);
+        monitor.recordLag(TimeUnit.MILLISECONDS.toNanos(100));
+        for (int i = 0; i < 19; i++) {
+            monitor.recordLag(TimeUnit.MILLISECONDS.toNanos(-1));
+        }
+        Thread.sleep(60);
+
+        assertFalse(monitor.isOverloaded());
+        assertEquals(5, monitor.getLagMs());
+    }
+
+    @Test
+    void testGetRetryAfterSeconds_ShouldRoundTheWindowUp() {
+        assertEquals(5, new SchedulerLoadMonitor(1000, 5000).getRetryAfterSeconds());
+        assertEquals(2, new SchedulerLoadMonitor(1000, 1500).getRetryAfterSeconds());
+        assertEquals(1, new SchedulerLoadMonitor(1000, 100).getRetryAfterSeconds());
+    }
+
+    @Test
+    void testConstructor_NonPositiveThreshold_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SchedulerLoadMonitor(0, 5000));
+        assertThrows(IllegalArgumentException.class, () -> new SchedulerLoadMonitor(1000, 0));
+    }
+}
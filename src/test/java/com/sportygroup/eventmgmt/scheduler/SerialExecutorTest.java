@@ -0,0 +1,86 @@
+package com.sportygroup.eventmgmt.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialExecutorTest {
+
+    @Test
+    void testExecute_ThreadPerTaskExecutor_ShouldNeverOverlapRuns() throws Exception {
+        ExecutorService threadPerTask = Executors.newCachedThreadPool();
+        SerialExecutor executor = new SerialExecutor(threadPerTask);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 200; i++) {
+            threadPerTask.execute(() -> executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        threadPerTask.shutdownNow();
+    }
+
+    @Test
+    void testExecute_TaskSubmittedWhileRunning_ShouldRunAfterItInOrder() throws Exception {
+        ExecutorService threadPerTask = Executors.newCachedThreadPool();
+        SerialExecutor executor = new SerialExecutor(threadPerTask);
+        List<Integer> order = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            // A poll scheduling its retry while it still runs
+            executor.execute(() -> order.add(2));
+            executor.execute(() -> {
+                order.add(3);
+                done.countDown();
+            });
+            order.add(1);
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), order);
+        threadPerTask.shutdownNow();
+    }
+
+    @Test
+    void testExecute_TaskFails_ShouldKeepRunningLaterTasks() throws Exception {
+        ExecutorService threadPerTask = Executors.newCachedThreadPool();
+        SerialExecutor executor = new SerialExecutor(threadPerTask);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            throw new IllegalStateException("Upstream failure");
+        });
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        threadPerTask.shutdownNow();
+    }
+
+    @Test
+    void testExecute_UnderlyingExecutorShutDown_ShouldRejectTask() {
+        ExecutorService threadPerTask = Executors.newCachedThreadPool();
+        threadPerTask.shutdown();
+        SerialExecutor executor = new SerialExecutor(threadPerTask);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+}
@@ -1,23 +1,64 @@
 package com.sportygroup.eventmgmt.service.impl;
 
+import com.sportygroup.eventmgmt.cluster.ClusterMembership;
+import com.sportygroup.eventmgmt.cluster.ConsistentHashRing;
+import com.sportygroup.eventmgmt.config.PipelineMode;
+import com.sportygroup.eventmgmt.config.PollingMode;
+import com.sportygroup.eventmgmt.config.SchedulerType;
+import com.sportygroup.eventmgmt.journal.EventJournal;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
 import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventPriority;
 import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.model.EventStatusResult;
+import com.sportygroup.eventmgmt.processor.AsyncEventScoreProcessor;
 import com.sportygroup.eventmgmt.processor.EventScoreProcessor;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import com.sportygroup.eventmgmt.processor.ScoreChangeDetector;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.scheduler.AdaptivePollingTask;
+import com.sportygroup.eventmgmt.scheduler.CoalescingPollingTask;
+import com.sportygroup.eventmgmt.scheduler.EventLifecycleRegistry;
+import com.sportygroup.eventmgmt.scheduler.HashedTimingWheel;
+import com.sportygroup.eventmgmt.scheduler.PhaseSpreader;
+import com.sportygroup.eventmgmt.scheduler.SchedulerLoadMonitor;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreakers;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpServerErrorException;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,11 +72,37 @@ class EventManagementServiceImplTest {
     private EventManagementServiceImpl eventService;
 
     @Mock
-    private RestTemplate restTemplate;
+    private ScoreSource scoreSource;
 
     @Mock
     private KafkaTemplate<Integer, EventScore> kafkaTemplate;
 
+    @Mock
+    private ScorePublisher scorePublisher;
+
+    @Spy
+    private UpstreamCircuitBreakers circuitBreakers = new UpstreamCircuitBreakers();
+
+    @Spy
+    private UpstreamRequestBudget requestBudget = new UpstreamRequestBudget(0, 0);
+
+    @Spy
+    private LatestScoreCache scoreCache = new LatestScoreCache(100, 0);
+
+    @Spy
+    private ScoreChangeDetector changeDetector = new ScoreChangeDetector();
+
+    @Spy
+    private EventJournal eventJournal = new EventJournal("", 0);
+
+    @Spy
+    private ClusterMembership clusterMembership = new ClusterMembership(false, "", "", "", 128, 5000);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PollingMetrics pollingMetrics = new PollingMetrics(meterRegistry);
+
     @Mock
     private ScheduledFuture<?> mockFuture;
 
@@ -48,6 +115,7 @@ class EventManagementServiceImplTest {
         Field apiUrlField = EventManagementServiceImpl.class.getDeclaredField("apiUrl");
         apiUrlField.setAccessible(true);
         apiUrlField.set(eventService, "http://mock-api.com/scores");
+        setField(eventService, "bulkApiUrl", "http://mock-api.com/scores?ids={eventIds}");
     }
 
     @Test
@@ -87,15 +155,55 @@ class EventManagementServiceImplTest {
 
         eventService.updateEventStatus(event);
 
-        verify(executorSpy, times(1)).scheduleAtFixedRate(
+        verify(executorSpy, times(1)).schedule(
                 runnableCaptor.capture(),
-                eq(10L),
-                eq(10L),
-                eq(TimeUnit.SECONDS)
+                eq(10000L),
+                eq(TimeUnit.MILLISECONDS)
+        );
+
+        assertTrue(runnableCaptor.getValue() instanceof AdaptivePollingTask);
+        assertTrue(((AdaptivePollingTask) runnableCaptor.getValue()).getTask() instanceof EventScoreProcessor);
+        assertSame(runnableCaptor.getValue(), getRegistry(eventService).getFuture(101));
+        verifyNoMoreInteractions(scoreSource, kafkaTemplate);
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_LiveEventWithIntervalHint_ShouldSpreadFirstPollOverHint() {
+        Event first = new Event();
+        first.setEventId(102);
+        first.setLive(true);
+        Event hinted = new Event();
+        hinted.setEventId(103);
+        hinted.setLive(true);
+        hinted.setPollIntervalMs(3000L);
+
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.updateEventStatus(first);
+        eventService.updateEventStatus(hinted);
+
+        // The second event is moved forward by the golden ratio of its 3 s interval
+        verify(executorSpy).schedule(any(Runnable.class), eq(10000L), eq(TimeUnit.MILLISECONDS));
+        verify(executorSpy).schedule(any(Runnable.class), eq(1146L), eq(TimeUnit.MILLISECONDS));
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_InvalidIntervalHint_ShouldThrowException() {
+        Event event = new Event();
+        event.setEventId(103);
+        event.setLive(true);
+        event.setPollIntervalMs(0L);
+
+        HttpClientErrorException exception = assertThrows(
+                HttpClientErrorException.class,
+                () -> eventService.updateEventStatus(event)
         );
 
-        assertTrue(runnableCaptor.getValue() instanceof EventScoreProcessor);
-        verifyNoMoreInteractions(restTemplate, kafkaTemplate);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertTrue(getRegistry(eventService).getLiveEventIds().isEmpty());
     }
 
     @Test
@@ -108,7 +216,7 @@ class EventManagementServiceImplTest {
         eventService.updateEventStatus(event);
 
         verify(mockFuture, never()).cancel(anyBoolean());
-        verifyNoMoreInteractions(restTemplate, kafkaTemplate);
+        verifyNoMoreInteractions(scoreSource, kafkaTemplate);
     }
 
     @Test
@@ -121,8 +229,11 @@ class EventManagementServiceImplTest {
         eventService.updateEventStatus(event);
 
         verify(mockFuture).cancel(true);
-        // Internal future map should remove it
-        assertFalse(getFutureMap(eventService).containsKey(303));
+        // The event should be unregistered
+        assertEquals(EventLifecycleRegistry.State.STOPPED, getRegistry(eventService).getState(303));
+        // The last published and the latest fetched score should be forgotten
+        verify(changeDetector).clear(303);
+        verify(scoreCache).evict(303);
     }
 
     @Test
@@ -135,10 +246,587 @@ class EventManagementServiceImplTest {
 
         // No scheduling or cancel should happen
         verify(mockFuture, never()).cancel(anyBoolean());
-        verifyNoInteractions(restTemplate, kafkaTemplate);
+        verifyNoInteractions(scoreSource, kafkaTemplate);
+    }
+
+    @Test
+    void testStart_BatchMode_ShouldScheduleSingleBulkTask() throws Exception {
+        setField(eventService, "pollingMode", PollingMode.BATCH);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.start();
+
+        verify(executorSpy, times(1)).scheduleAtFixedRate(
+                runnableCaptor.capture(),
+                eq(10L),
+                eq(10L),
+                eq(TimeUnit.SECONDS)
+        );
+        assertTrue(runnableCaptor.getValue() instanceof CoalescingPollingTask);
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testStart_SingleMode_ShouldNotSchedule() {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.start();
+
+        verify(executorSpy, never()).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testStart_ShouldRegisterLiveEventAndExecutorMetrics() {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.start();
+        eventService.updateEventStatus(event(101, true));
+        eventService.updateEventStatus(event(102, true));
+        eventService.updateEventStatus(event(101, false));
+
+        assertEquals(1.0, meterRegistry.get("eventmgmt.events.live").gauge().value());
+        assertNotNull(meterRegistry.find("executor.queued").tag("name", "polling").gauge());
+        assertNotNull(meterRegistry.find("executor.queued").tag("name", "polling-high").gauge());
+        assertNotNull(meterRegistry.find("executor.queued").tag("name", "polling-low").gauge());
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testStart_PriorityWithoutBudgetShare_ShouldDrawOnTheBudget() throws Exception {
+        setField(eventService, "lowPriorityBudgetShare", 0.0);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.start();
+
+        verify(requestBudget).share(0.3);
+        verify(requestBudget).share(0.5);
+        verify(requestBudget, times(2)).share(anyDouble());
+        @SuppressWarnings("unchecked")
+        Map<EventPriority, UpstreamRequestBudget> priorityBudgets = (Map<EventPriority, UpstreamRequestBudget>) getField(eventService, "priorityBudgets");
+        assertFalse(priorityBudgets.containsKey(EventPriority.LOW));
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testStart_BudgetSharesAboveOne_ShouldThrowException() throws Exception {
+        setField(eventService, "highPriorityBudgetShare", 0.6);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> eventService.start());
+
+        assertTrue(exception.getMessage().contains("add up to more than 1"));
+        verify(requestBudget, never()).share(anyDouble());
+    }
+
+    @Test
+    void testStart_JournalledLiveEvents_ShouldRescheduleThem(@TempDir Path dir) throws Exception {
+        Path journalFile = dir.resolve("live-events.journal");
+        EventJournal previousRun = new EventJournal(journalFile.toString(), 1024);
+        previousRun.open();
+        previousRun.record(event(101, true));
+        previousRun.record(event(102, true));
+        previousRun.record(event(101, false));
+        previousRun.record(event(103, true));
+        previousRun.close();
+
+        EventJournal journal = new EventJournal(journalFile.toString(), 1024);
+        journal.open();
+        setField(eventService, "eventJournal", journal);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.start();
+
+        assertEquals(Set.of(102, 103), getRegistry(eventService).getLiveEventIds());
+        verify(executorSpy, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        journal.close();
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_ShouldJournalAcceptedTransitionsOnly() {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        Event live = event(101, true);
+        Event notLive = event(101, false);
+
+        eventService.updateEventStatus(live);
+        eventService.updateEventStatus(live);
+        eventService.updateEventStatus(notLive);
+        eventService.updateEventStatus(notLive);
+
+        verify(eventJournal, times(1)).record(live);
+        verify(eventJournal, times(1)).record(notLive);
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_ClusterMode_ShouldPollOnlyOwnedEventsAndRebalanceOnMemberChange() throws Exception {
+        ClusterMembership cluster = new ClusterMembership(true, "node-a", "node-a,node-b,node-c", "", 128, 5000);
+        cluster.start();
+        setField(eventService, "clusterMembership", cluster);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        injectExecutor(eventService, executor);
+        eventService.start();
+
+        for (int eventId = 1; eventId <= 300; eventId++) {
+            eventService.updateEventStatus(event(eventId, true));
+        }
+        Set<Integer> owned = ownedBy(cluster.getRing(), "node-a", 300);
+        assertFalse(owned.isEmpty());
+        assertEquals(owned, getRegistry(eventService).getLiveEventIds());
+        // Every live event is journalled, owned or not, so that it survives a restart of any node
+        verify(eventJournal, times(300)).record(any(Event.class));
+        ScheduledFuture<?> keptFuture = getRegistry(eventService).getFuture(owned.iterator().next());
+
+        // node-b leaves: node-a takes over part of its events and keeps its own
+        cluster.updateMembers(List.of("node-a", "node-c"));
+        Set<Integer> ownedAfterLeave = ownedBy(cluster.getRing(), "node-a", 300);
+        assertTrue(ownedAfterLeave.containsAll(owned));
+        assertEquals(ownedAfterLeave, getRegistry(eventService).getLiveEventIds());
+        assertSame(keptFuture, getRegistry(eventService).getFuture(owned.iterator().next()));
+
+        // node-b joins again and gets its events back
+        cluster.updateMembers(List.of("node-a", "node-b", "node-c"));
+        assertEquals(owned, getRegistry(eventService).getLiveEventIds());
+
+        // A not-live update of an event owned elsewhere is only untracked
+        int foreignEventId = 1;
+        while (owned.contains(foreignEventId)) {
+            foreignEventId++;
+        }
+        eventService.updateEventStatus(event(foreignEventId, false));
+        cluster.updateMembers(List.of("node-a"));
+        assertFalse(getRegistry(eventService).isLive(foreignEventId));
+        assertEquals(299, getRegistry(eventService).getLiveEventIds().size());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_BatchMode_ShouldTrackLiveEventsWithoutScheduling() throws Exception {
+        setField(eventService, "pollingMode", PollingMode.BATCH);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        Event live = new Event();
+        live.setEventId(505);
+        live.setLive(true);
+        eventService.updateEventStatus(live);
+
+        Set<Integer> liveEventIds = (Set<Integer>) getField(eventService, "liveEventIds");
+        assertTrue(liveEventIds.contains(505));
+        assertTrue(getRegistry(eventService).getLiveEventIds().isEmpty());
+
+        Event notLive = new Event();
+        notLive.setEventId(505);
+        notLive.setLive(false);
+        eventService.updateEventStatus(notLive);
+
+        assertFalse(liveEventIds.contains(505));
+        verify(executorSpy, never()).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_VirtualMode_ShouldHandTickToTickExecutor() throws Exception {
+        ExecutorService tickExecutor = mock(ExecutorService.class);
+        setField(eventService, "tickExecutor", tickExecutor);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        Event event = new Event();
+        event.setEventId(606);
+        event.setLive(true);
+        eventService.updateEventStatus(event);
+
+        verify(executorSpy).schedule(runnableCaptor.capture(), eq(10000L), eq(TimeUnit.MILLISECONDS));
+        assertFalse(runnableCaptor.getValue() instanceof AdaptivePollingTask);
+
+        // The scheduler thread only dispatches the tick
+        runnableCaptor.getValue().run();
+        verify(tickExecutor).execute(isA(AdaptivePollingTask.class));
+        verifyNoInteractions(scoreSource, kafkaTemplate);
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testStop_ShouldShutDownExecutors() throws Exception {
+        ExecutorService tickExecutor = mock(ExecutorService.class);
+        setField(eventService, "tickExecutor", tickExecutor);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        eventService.stop();
+
+        verify(executorSpy).shutdownNow();
+        verify(tickExecutor).shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_TimingWheel_ShouldScheduleOnWheelAndCancel() throws Exception {
+        setField(eventService, "schedulerType", SchedulerType.TIMING_WHEEL);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        eventService.start();
+        assertNotNull(getField(eventService, "timingWheel"));
+
+        Event event = new Event();
+        event.setEventId(707);
+        event.setLive(true);
+        eventService.updateEventStatus(event);
+
+        ScheduledFuture<?> future = getRegistry(eventService).getFuture(707);
+        assertNotNull(future);
+        verify(executorSpy, never()).schedule(any(Runnable.class), anyLong(), any());
+
+        event.setLive(false);
+        eventService.updateEventStatus(event);
+
+        assertTrue(future.isCancelled());
+        assertFalse(getRegistry(eventService).isLive(707));
+        eventService.stop();
+    }
+
+    @Test
+    void testUpdateEventStatus_AsyncPipeline_ShouldScheduleAsyncProcessor() throws Exception {
+        setField(eventService, "pipelineMode", PipelineMode.ASYNC);
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+
+        Event event = new Event();
+        event.setEventId(111);
+        event.setLive(true);
+        eventService.updateEventStatus(event);
+
+        verify(executorSpy).schedule(runnableCaptor.capture(), eq(10000L), eq(TimeUnit.MILLISECONDS));
+        assertTrue(((AdaptivePollingTask) runnableCaptor.getValue()).getTask() instanceof AsyncEventScoreProcessor);
+        verifyNoInteractions(scoreSource, kafkaTemplate);
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatuses_ShouldApplyValidEventsAndReportRejectedOnes() {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        Event first = new Event();
+        first.setEventId(11);
+        first.setLive(true);
+        Event invalid = new Event();
+        invalid.setEventId(-1);
+        Event second = new Event();
+        second.setEventId(12);
+        second.setLive(true);
+
+        List<EventStatusResult> results = eventService.updateEventStatuses(Arrays.asList(first, invalid, null, second));
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isUpdated());
+        assertFalse(results.get(1).isUpdated());
+        assertEquals("E1001", results.get(1).getErrorCode());
+        assertEquals(0, results.get(2).getEventId());
+        assertEquals("E1001", results.get(2).getErrorCode());
+        assertTrue(results.get(3).isUpdated());
+        assertEquals(Set.of(11, 12), getRegistry(eventService).getLiveEventIds());
+        verify(executorSpy, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatuses_Streamed_ShouldHandOverEachResultBeforeTakingTheNextEvent() {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        List<String> sequence = new ArrayList<>();
+        Iterator<Event> events = List.of(event(31, true), event(-1, true), event(32, true)).iterator();
+        Iterable<Event> tracedEvents = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return events.hasNext();
+            }
+
+            @Override
+            public Event next() {
+                Event event = events.next();
+                sequence.add("take " + event.getEventId());
+                return event;
+            }
+        };
+
+        eventService.updateEventStatuses(tracedEvents, result -> sequence.add("result " + result.getEventId()
+                + (result.isUpdated() ? "" : " " + result.getErrorCode())));
+
+        assertEquals(List.of("take 31", "result 31", "take -1", "result -1 E1001", "take 32", "result 32"), sequence);
+        assertEquals(Set.of(31, 32), getRegistry(eventService).getLiveEventIds());
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_SchedulerOverloaded_ShouldRejectOnlyNewLiveEvents() throws Exception {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        eventService.updateEventStatus(event(21, true));
+        SchedulerLoadMonitor loadMonitor = mock(SchedulerLoadMonitor.class);
+        when(loadMonitor.isOverloaded()).thenReturn(true);
+        when(loadMonitor.getRetryAfterSeconds()).thenReturn(5L);
+        @SuppressWarnings("unchecked")
+        Map<EventPriority, SchedulerLoadMonitor> loadMonitors = (Map<EventPriority, SchedulerLoadMonitor>) getField(eventService, "loadMonitors");
+        loadMonitors.put(EventPriority.NORMAL, loadMonitor);
+
+        HttpServerErrorException exception = assertThrows(HttpServerErrorException.class,
+                () -> eventService.updateEventStatus(event(22, true)));
+        eventService.updateEventStatus(event(21, true));
+        List<EventStatusResult> results = eventService.updateEventStatuses(List.of(event(23, true), event(21, false)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        assertEquals("5", exception.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("E1004", results.get(0).getErrorCode());
+        assertTrue(results.get(1).isUpdated());
+        assertTrue(getRegistry(eventService).getLiveEventIds().isEmpty());
+        verify(loadMonitor, times(2)).recordRejected();
+        assertEquals(2.0, meterRegistry.get("eventmgmt.polling.shed").tag("reason", "rejected").counter().count());
+        executorSpy.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_LaneOverloaded_ShouldAdmitOtherPriorities() throws Exception {
+        SchedulerLoadMonitor loadMonitor = mock(SchedulerLoadMonitor.class);
+        when(loadMonitor.isOverloaded()).thenReturn(true);
+        @SuppressWarnings("unchecked")
+        Map<EventPriority, SchedulerLoadMonitor> loadMonitors = (Map<EventPriority, SchedulerLoadMonitor>) getField(eventService, "loadMonitors");
+        loadMonitors.put(EventPriority.LOW, loadMonitor);
+        ScheduledThreadPoolExecutor highLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        setField(eventService, "highPriorityExecutionService", highLane);
+
+        assertThrows(HttpServerErrorException.class, () -> eventService.updateEventStatus(event(31, true, EventPriority.LOW)));
+        eventService.updateEventStatus(event(32, true, EventPriority.HIGH));
+
+        assertEquals(Set.of(32), getRegistry(eventService).getLiveEventIds());
+        highLane.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_BatchModeOverloaded_ShouldRejectEveryPriority() throws Exception {
+        setField(eventService, "pollingMode", PollingMode.BATCH);
+        SchedulerLoadMonitor loadMonitor = mock(SchedulerLoadMonitor.class);
+        when(loadMonitor.isOverloaded()).thenReturn(true);
+        @SuppressWarnings("unchecked")
+        Map<EventPriority, SchedulerLoadMonitor> loadMonitors = (Map<EventPriority, SchedulerLoadMonitor>) getField(eventService, "loadMonitors");
+        // The bulk task runs on the normal lane, the only one recording lag in batch mode
+        loadMonitors.put(EventPriority.NORMAL, loadMonitor);
+        loadMonitors.put(EventPriority.HIGH, new SchedulerLoadMonitor(5000, 5000));
+
+        assertThrows(HttpServerErrorException.class, () -> eventService.updateEventStatus(event(35, true, EventPriority.HIGH)));
+        assertThrows(HttpServerErrorException.class, () -> eventService.updateEventStatus(event(36, true, EventPriority.LOW)));
+
+        verify(loadMonitor, times(2)).recordRejected();
+    }
+
+    @Test
+    void testUpdateEventStatus_Priorities_ShouldAdaptWithinTheirOwnMinimumIntervals() throws Exception {
+        ScheduledThreadPoolExecutor normalLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        ScheduledThreadPoolExecutor highLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        ScheduledThreadPoolExecutor lowLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, normalLane);
+        setField(eventService, "highPriorityExecutionService", highLane);
+        setField(eventService, "lowPriorityExecutionService", lowLane);
+        startPollsAfterFullInterval();
+
+        // Interval hints below every minimum are raised to the minimum of the tier
+        eventService.updateEventStatus(event(44, true, EventPriority.HIGH, 100L));
+        eventService.updateEventStatus(event(45, true, EventPriority.LOW, 100L));
+        eventService.updateEventStatus(event(46, true, EventPriority.NORMAL, 100L));
+
+        verify(highLane).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(lowLane).schedule(any(Runnable.class), eq(10000L), eq(TimeUnit.MILLISECONDS));
+        verify(normalLane).schedule(any(Runnable.class), eq(2000L), eq(TimeUnit.MILLISECONDS));
+        normalLane.shutdownNow();
+        highLane.shutdownNow();
+        lowLane.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_Priorities_ShouldScheduleOnTheirLanesWithTheirIntervals() throws Exception {
+        ScheduledThreadPoolExecutor normalLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        ScheduledThreadPoolExecutor highLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        ScheduledThreadPoolExecutor lowLane = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, normalLane);
+        setField(eventService, "highPriorityExecutionService", highLane);
+        setField(eventService, "lowPriorityExecutionService", lowLane);
+        startPollsAfterFullInterval();
+
+        eventService.updateEventStatus(event(41, true, EventPriority.HIGH));
+        eventService.updateEventStatus(event(42, true, EventPriority.LOW));
+        eventService.updateEventStatus(event(43, true));
+
+        verify(highLane).schedule(any(Runnable.class), eq(2000L), eq(TimeUnit.MILLISECONDS));
+        verify(lowLane).schedule(any(Runnable.class), eq(30000L), eq(TimeUnit.MILLISECONDS));
+        verify(normalLane).schedule(any(Runnable.class), eq(10000L), eq(TimeUnit.MILLISECONDS));
+        normalLane.shutdownNow();
+        highLane.shutdownNow();
+        lowLane.shutdownNow();
+    }
+
+    @Test
+    void testUpdateEventStatus_LowPriorityLaneSaturated_ShouldKeepPollingHighPriorityEvents() throws Exception {
+        ScheduledThreadPoolExecutor lowLane = new ScheduledThreadPoolExecutor(1);
+        setField(eventService, "lowPriorityExecutionService", lowLane);
+        setField(eventService, "minPollIntervalMs", 10L);
+        CountDownLatch release = new CountDownLatch(1);
+        lowLane.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int eventId = 1; eventId <= 100; eventId++) {
+            Event low = event(eventId, true, EventPriority.LOW);
+            low.setPollIntervalMs(20L);
+            eventService.updateEventStatus(low);
+        }
+        Event high = event(500, true, EventPriority.HIGH);
+        high.setPollIntervalMs(20L);
+
+        eventService.updateEventStatus(high);
+
+        verify(scoreSource, timeout(1000)).prepareFetch(500);
+        verify(scoreSource, never()).prepareFetch(1);
+        release.countDown();
+        eventService.stop();
+    }
+
+    @Test
+    void testUpdateEventStatus_ConcurrentLiveAndNotLiveStorms_ShouldScheduleOneProcessorPerLiveEvent() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        injectExecutor(eventService, executor);
+        int events = 50;
+        int threads = 8;
+        int updatesPerThread = 2000;
+        ExecutorService clients = Executors.newFixedThreadPool(threads);
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<?>> storms = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            storms.add(clients.submit(() -> {
+                barrier.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < updatesPerThread; i++) {
+                    Event event = new Event();
+                    event.setEventId(1 + random.nextInt(events));
+                    event.setLive(random.nextBoolean());
+                    eventService.updateEventStatus(event);
+                }
+                // Finish with duplicate live requests for every event, as at kickoff
+                barrier.await();
+                for (int eventId = 1; eventId <= events; eventId++) {
+                    Event event = new Event();
+                    event.setEventId(eventId);
+                    event.setLive(true);
+                    eventService.updateEventStatus(event);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> storm : storms) {
+            storm.get(30, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+
+        EventLifecycleRegistry registry = getRegistry(eventService);
+        // Cancelled runs leave the queue, so every live event has exactly one pending run
+        assertEquals(events, executor.getQueue().size());
+        Set<AdaptivePollingTask> pending = new HashSet<>();
+        for (int eventId = 1; eventId <= events; eventId++) {
+            assertEquals(EventLifecycleRegistry.State.LIVE, registry.getState(eventId));
+            assertTrue(pending.add((AdaptivePollingTask) registry.getFuture(eventId)));
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testScheduleEventRetry_EventNoLongerLive_ShouldDropRetry() throws Exception {
+        ScheduledThreadPoolExecutor executorSpy = Mockito.spy(new ScheduledThreadPoolExecutor(1));
+        injectExecutor(eventService, executorSpy);
+        Runnable retry = mock(Runnable.class);
+        Method scheduleEventRetry = EventManagementServiceImpl.class.getDeclaredMethod("scheduleEventRetry", int.class, EventPriority.class, BooleanSupplier.class, Runnable.class, long.class);
+        scheduleEventRetry.setAccessible(true);
+        EventLifecycleRegistry registry = getRegistry(eventService);
+        AtomicReference<BooleanSupplier> staleLive = new AtomicReference<>();
+        AtomicReference<BooleanSupplier> currentLive = new AtomicReference<>();
+
+        // A retry of a polling chain that was stopped must be dropped even once the event is live again
+        registry.startPolling(808, live -> {
+            staleLive.set(live);
+            return mockFuture;
+        });
+        registry.stopPolling(808);
+        registry.startPolling(808, live -> {
+            currentLive.set(live);
+            return mockFuture;
+        });
+        scheduleEventRetry.invoke(eventService, 808, EventPriority.NORMAL, staleLive.get(), retry, 0L);
+        scheduleEventRetry.invoke(eventService, 808, EventPriority.NORMAL, currentLive.get(), retry, 0L);
+
+        verify(retry, timeout(1000).times(1)).run();
+        executorSpy.shutdown();
+        assertTrue(executorSpy.awaitTermination(1, TimeUnit.SECONDS));
+        verify(retry, times(1)).run();
     }
 
     // === Utility Methods ===
+    private Set<Integer> ownedBy(ConsistentHashRing ring, String nodeId, int events) {
+        Set<Integer> owned = new HashSet<>();
+        for (int eventId = 1; eventId <= events; eventId++) {
+            if (nodeId.equals(ring.ownerOf(eventId))) {
+                owned.add(eventId);
+            }
+        }
+        return owned;
+    }
+
+    private Event event(int eventId, boolean live) {
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setLive(live);
+        return event;
+    }
+
+    private Event event(int eventId, boolean live, EventPriority priority) {
+        Event event = event(eventId, live);
+        event.setPriority(priority);
+        return event;
+    }
+
+    private Event event(int eventId, boolean live, EventPriority priority, Long pollIntervalMs) {
+        Event event = event(eventId, live, priority);
+        event.setPollIntervalMs(pollIntervalMs);
+        return event;
+    }
+
+    /**
+     * Replaces the phase spreader so that the first poll of every event is due after a full interval.
+     */
+    private void startPollsAfterFullInterval() throws Exception {
+        PhaseSpreader phaseSpreader = mock(PhaseSpreader.class);
+        when(phaseSpreader.nextInitialDelayMs(anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+        setField(eventService, "phaseSpreader", phaseSpreader);
+    }
+
+    private void setField(EventManagementServiceImpl service, String name, Object value) throws Exception {
+        Field field = EventManagementServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(service, value);
+    }
+
+    private Object getField(EventManagementServiceImpl service, String name) throws Exception {
+        Field field = EventManagementServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(service);
+    }
+
     private void injectExecutor(EventManagementServiceImpl service, ScheduledThreadPoolExecutor customExecutor) {
         try {
             Field executorField = EventManagementServiceImpl.class.getDeclaredField("scheduleExecutionService");
@@ -150,21 +838,12 @@ class EventManagementServiceImplTest {
     }
 
     private void injectFutureManually(EventManagementServiceImpl service, int eventId, ScheduledFuture<?> future) {
-        try {
-            Field field = EventManagementServiceImpl.class.getDeclaredField("eventFutures");
-            field.setAccessible(true);
-            Map<Integer, ScheduledFuture> map = (Map<Integer, ScheduledFuture>) field.get(service);
-            map.put(eventId, future);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        getRegistry(service).startPolling(eventId, live -> future);
     }
 
-    private Map<Integer, ScheduledFuture> getFutureMap(EventManagementServiceImpl service) {
+    private EventLifecycleRegistry getRegistry(EventManagementServiceImpl service) {
         try {
-            Field field = EventManagementServiceImpl.class.getDeclaredField("eventFutures");
-            field.setAccessible(true);
-            return (Map<Integer, ScheduledFuture>) field.get(service);
+            return (EventLifecycleRegistry) getField(service, "eventRegistry");
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
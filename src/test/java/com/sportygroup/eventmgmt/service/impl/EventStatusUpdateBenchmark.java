@@ -0,0 +1,149 @@
+package com.sportygroup.eventmgmt.service.impl;
+
+import ch.qos.logback.classic.Level;
+import com.sportygroup.eventmgmt.cluster.ClusterMembership;
+import com.sportygroup.eventmgmt.journal.EventJournal;
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.Event;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sportygroup.eventmgmt.processor.LatestScoreCache;
+import com.sportygroup.eventmgmt.processor.ScoreChangeDetector;
+import com.sportygroup.eventmgmt.publisher.ScorePublisher;
+import com.sportygroup.eventmgmt.upstream.ScoreSource;
+import com.sportygroup.eventmgmt.upstream.UpstreamCircuitBreakers;
+import com.sportygroup.eventmgmt.upstream.UpstreamRequestBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventManagementServiceImpl#updateEventStatus(Event)} under contention: eight threads
+ * send random live and not-live updates for a shared set of events, so that updates of the same event
+ * race each other, as during a burst of status changes. The polling tasks started by the updates run
+ * against an in-memory upstream and a {@link MockProducer}.
+ * <p>
+ * The service logs every update at INFO; logging is raised to WARN so that console output is not measured.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark verify -Djmh.includes=EventStatusUpdateBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class EventStatusUpdateBenchmark {
+
+    /** Number of pre-built updates per thread */
+    private static final int UPDATES = 4096;
+
+    @Param({"100", "10000"})
+    private int events;
+
+    private EventManagementServiceImpl service;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        MockProducer<Integer, EventScore> producer = new MockProducer<>(true, new IntegerSerializer(), new JsonSerializer<>());
+        PollingMetrics metrics = new PollingMetrics(new SimpleMeterRegistry());
+        service = new EventManagementServiceImpl();
+        ReflectionTestUtils.setField(service, "scoreSource", new ScoreSource() {
+            @Override
+            public EventScore fetchScore(int eventId) {
+                return new EventScore(eventId, ThreadLocalRandom.current().nextInt(10));
+            }
+
+            @Override
+            public List<EventScore> fetchScores(List<Integer> eventIds) {
+                throw new UnsupportedOperationException();
+            }
+        });
+        ReflectionTestUtils.setField(service, "scorePublisher", new ScorePublisher(new KafkaTemplate<>(new MockProducerFactory<>(() -> producer)), 1000, 100, metrics));
+        ReflectionTestUtils.setField(service, "circuitBreakers", new UpstreamCircuitBreakers());
+        ReflectionTestUtils.setField(service, "requestBudget", new UpstreamRequestBudget(0, 0));
+        ReflectionTestUtils.setField(service, "changeDetector", new ScoreChangeDetector());
+        ReflectionTestUtils.setField(service, "scoreCache", new LatestScoreCache(events, 0));
+        ReflectionTestUtils.setField(service, "eventJournal", new EventJournal("", 0));
+        ReflectionTestUtils.setField(service, "clusterMembership", new ClusterMembership(false, "", "", "", 128, 5000));
+        ReflectionTestUtils.setField(service, "pollingMetrics", metrics);
+        ReflectionTestUtils.setField(service, "apiUrl", "http://localhost:8080/event-mgmt/event-score/{eventId}");
+        ReflectionTestUtils.setField(service, "bulkApiUrl", "http://localhost:8080/event-mgmt/event-score?ids={eventIds}");
+        service.start();
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        service.stop();
+    }
+
+    /**
+     * Random status updates sent by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Updates {
+
+        private final Event[] updates = new Event[UPDATES];
+
+        private int next;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Trial)
+        public void setUp(EventStatusUpdateBenchmark benchmark) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < UPDATES; i++) {
+                Event event = new Event();
+                event.setEventId(1 + random.nextInt(benchmark.events));
+                event.setLive(random.nextBoolean());
+                updates[i] = event;
+            }
+        }
+
+        private Event next() {
+            Event event = updates[next];
+            next = (next + 1) % UPDATES;
+            return event;
+        }
+    }
+
+    /**
+     * Applies one live or not-live update.
+     *
+     * @param updates the updates of the calling thread
+     */
+    @Benchmark
+    public void updateEventStatus(Updates updates) {
+        service.updateEventStatus(updates.next());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EventStatusUpdateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
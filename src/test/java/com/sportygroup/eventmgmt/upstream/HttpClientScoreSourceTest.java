@@ -0,0 +1,153 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.eventmgmt.model.EventScore;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientScoreSourceTest {
+
+    private HttpServer server;
+
+    private HttpClientScoreSource scoreSource;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/event-score/", exchange -> {
+            String eventId = exchange.getRequestURI().getPath().substring("/event-score/".length());
+            switch (eventId) {
+                case "404" -> respond(exchange, 404, "{\"message\":\"not found\"}");
+                case "7" -> respond(exchange, 200, "not json");
+                case "999" -> {
+                    sleep(2000);
+                    respond(exchange, 200, "{\"eventId\":999,\"score\":1.0}");
+                }
+                default -> respond(exchange, 200, "{\"eventId\":" + eventId + ",\"score\":2.5}");
+            }
+        });
+        server.createContext("/event-score", exchange -> {
+            assertEquals("ids=1,2", exchange.getRequestURI().getQuery());
+            respond(exchange, 200, "[{\"eventId\":1,\"score\":1.5},{\"eventId\":2,\"score\":2.5}]");
+        });
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        scoreSource = new HttpClientScoreSource(httpClient, new ObjectMapper(),
+                baseUrl + "/event-score/{eventId}", baseUrl + "/event-score?ids={eventIds}", Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testFetchScore_ShouldDecodeSingleScore() {
+        EventScore eventScore = scoreSource.fetchScore(42);
+
+        assertEquals(42, eventScore.getEventId());
+        assertEquals(2.5f, eventScore.getScore());
+    }
+
+    @Test
+    void testFetchScores_ShouldExpandIdsAndDecodeAllScores() {
+        List<EventScore> eventScores = scoreSource.fetchScores(List.of(1, 2));
+
+        assertEquals(2, eventScores.size());
+        assertEquals(1, eventScores.get(0).getEventId());
+        assertEquals(2.5f, eventScores.get(1).getScore());
+    }
+
+    @Test
+    void testFetchScore_ErrorStatus_ShouldThrowResponseException() {
+        RestClientResponseException exception = assertThrows(RestClientResponseException.class, () -> scoreSource.fetchScore(404));
+
+        assertEquals(404, exception.getStatusCode().value());
+        assertTrue(exception.getResponseBodyAsString().contains("not found"));
+    }
+
+    @Test
+    void testFetchScore_UndecodableBody_ShouldThrowRestClientException() {
+        assertThrows(RestClientException.class, () -> scoreSource.fetchScore(7));
+    }
+
+    @Test
+    void testFetchScore_SlowUpstream_ShouldTimeOut() {
+        long start = System.nanoTime();
+
+        assertThrows(ResourceAccessException.class, () -> scoreSource.fetchScore(999));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500, "Request should be cut off by its deadline");
+    }
+
+    @Test
+    void testFetchScoreAsync_ShouldDecodeScoreWithoutBlocking() throws Exception {
+        CompletableFuture<EventScore> response = scoreSource.fetchScoreAsync(42);
+
+        EventScore eventScore = response.get(1, TimeUnit.SECONDS);
+        assertEquals(42, eventScore.getEventId());
+        assertEquals(2.5f, eventScore.getScore());
+    }
+
+    @Test
+    void testFetchScoreAsync_ErrorStatus_ShouldCompleteWithResponseException() {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> scoreSource.fetchScoreAsync(404).get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(RestClientResponseException.class, exception.getCause());
+    }
+
+    @Test
+    void testFetchScoreAsync_SlowUpstream_ShouldCompleteWithResourceAccessException() {
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> scoreSource.fetchScoreAsync(999).get(1500, TimeUnit.MILLISECONDS));
+
+        assertInstanceOf(ResourceAccessException.class, exception.getCause());
+    }
+
+    @Test
+    void testPrepareFetch_ShouldRepeatTheSameRequest() throws Exception {
+        ScoreFetch fetch = scoreSource.prepareFetch(42);
+
+        assertEquals(42, fetch.fetch().getEventId());
+        assertEquals(2.5f, fetch.fetchAsync().get(1, TimeUnit.SECONDS).getScore());
+        assertEquals(42, fetch.fetch().getEventId());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
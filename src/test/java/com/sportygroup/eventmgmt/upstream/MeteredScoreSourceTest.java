@@ -0,0 +1,75 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import com.sportygroup.eventmgmt.metrics.PollingMetrics;
+import com.sportygroup.eventmgmt.model.EventScore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MeteredScoreSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ScoreSource delegate = mock(ScoreSource.class);
+
+    private final MeteredScoreSource scoreSource = new MeteredScoreSource(delegate, new PollingMetrics(registry));
+
+    @BeforeEach
+    void setup() {
+        when(delegate.prepareFetch(anyInt())).thenCallRealMethod();
+    }
+
+    @Test
+    void testFetchScore_ShouldRecordSuccessAndRethrowFailure() {
+        EventScore eventScore = new EventScore(1, 2.0f);
+        when(delegate.fetchScore(1)).thenReturn(eventScore).thenThrow(new RestClientException("Service down"));
+
+        assertSame(eventScore, scoreSource.fetchScore(1));
+        assertThrows(RestClientException.class, () -> scoreSource.fetchScore(1));
+
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "success").timer().count());
+        assertEquals(1.0, registry.get("eventmgmt.upstream.errors").tags("operation", "single", "type", "temporary").counter().count());
+    }
+
+    @Test
+    void testFetchScoreAsync_ShouldRecordWhenResponseCompletes() {
+        CompletableFuture<EventScore> response = new CompletableFuture<>();
+        when(delegate.fetchScoreAsync(1)).thenReturn(response);
+
+        CompletableFuture<EventScore> future = scoreSource.fetchScoreAsync(1);
+        assertEquals(0, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "failure").timer().count());
+        response.completeExceptionally(new RestClientException("Timeout"));
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "failure").timer().count());
+        assertEquals(1.0, registry.get("eventmgmt.upstream.errors").tags("operation", "single", "type", "temporary").counter().count());
+    }
+
+    @Test
+    void testPrepareFetch_ShouldRecordEveryPoll() {
+        when(delegate.fetchScore(1)).thenReturn(new EventScore(1, 2.0f));
+        ScoreFetch fetch = scoreSource.prepareFetch(1);
+
+        fetch.fetch();
+        fetch.fetch();
+
+        verify(delegate, times(1)).prepareFetch(1);
+        assertEquals(2, registry.get("eventmgmt.upstream.fetch").tags("operation", "single", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void testFetchScores_ShouldRecordBulkRequest() {
+        when(delegate.fetchScores(List.of(1, 2))).thenReturn(List.of(new EventScore(1, 1.0f), new EventScore(2, 2.0f)));
+
+        assertEquals(2, scoreSource.fetchScores(List.of(1, 2)).size());
+
+        assertEquals(1, registry.get("eventmgmt.upstream.fetch").tags("operation", "bulk", "outcome", "success").timer().count());
+    }
+}
@@ -0,0 +1,78 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private final TokenBucket bucket = new TokenBucket(4, nanoTime::get);
+
+    @Test
+    void testTryAcquire_FullBucket_ShouldAllowOneSecondBurst() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bucket.tryAcquire());
+        }
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquire_ShouldRefillAtConfiguredRate() {
+        drain();
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquire_LongIdle_ShouldNotExceedCapacity() {
+        drain();
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bucket.tryAcquire());
+        }
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testRelease_ShouldReturnUnusedToken() {
+        drain();
+
+        bucket.release();
+
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testTake_EmptyBucket_ShouldGoIntoDebtUntilRefilled() {
+        drain();
+
+        bucket.take();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertFalse(bucket.tryAcquire());
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    void testConstructor_NonPositiveRate_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0));
+    }
+
+    private void drain() {
+        while (bucket.tryAcquire()) {
+            // Empty the bucket
+        }
+    }
+}
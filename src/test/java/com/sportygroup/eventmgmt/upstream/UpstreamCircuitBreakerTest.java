@@ -0,0 +1,129 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamCircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final UpstreamCircuitBreaker breaker = new UpstreamCircuitBreaker("scores:8080", 3, 1000, clock);
+
+    @Test
+    void testRecordFailure_BelowThreshold_ShouldStayClosed() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertEquals(2, breaker.getConsecutiveFailures());
+    }
+
+    @Test
+    void testRecordFailure_AtThreshold_ShouldOpenAndPausePolling() {
+        openBreaker();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    void testAllowRequest_AfterOpenDuration_ShouldLetSingleProbeThrough() {
+        openBreaker();
+        clock.advance(1000);
+
+        assertTrue(breaker.allowRequest());
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    void testRecordSuccess_AfterProbe_ShouldClose() {
+        openBreaker();
+        clock.advance(1000);
+        breaker.allowRequest();
+
+        breaker.recordSuccess();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void testRecordFailure_AfterProbe_ShouldReopenUntilNextProbe() {
+        openBreaker();
+        clock.advance(1000);
+        breaker.allowRequest();
+
+        breaker.recordFailure();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        clock.advance(1000);
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void testAllowRequest_LostProbe_ShouldSendAnotherProbeAfterOpenDuration() {
+        openBreaker();
+        clock.advance(1000);
+        assertTrue(breaker.allowRequest());
+
+        clock.advance(1000);
+
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void testForUrl_SameHostShouldShareBreaker() {
+        UpstreamCircuitBreakers circuitBreakers = new UpstreamCircuitBreakers();
+
+        UpstreamCircuitBreaker single = circuitBreakers.forUrl("http://localhost:8080/event-mgmt/event-score/{eventId}");
+        UpstreamCircuitBreaker bulk = circuitBreakers.forUrl("http://localhost:8080/event-mgmt/event-score?ids={eventIds}");
+        UpstreamCircuitBreaker other = circuitBreakers.forUrl("http://scores.example.com/score/{eventId}");
+
+        assertSame(single, bulk);
+        assertNotSame(single, other);
+        assertEquals("localhost:8080", single.getUpstream());
+        assertEquals("scores.example.com", other.getUpstream());
+        assertEquals(2, circuitBreakers.getAll().size());
+    }
+
+    private void openBreaker() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordFailure();
+    }
+
+    /** Clock that only moves when advanced by the test */
+    private static class MutableClock extends Clock {
+
+        private long millis = 1_000_000;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sportygroup.eventmgmt.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRequestBudgetTest {
+
+    @Test
+    void testTryAcquire_Unlimited_ShouldAlwaysAllow() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(0, 0);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(budget.tryAcquire("scores:8080"));
+        }
+        assertEquals(0, budget.getThrottledRequests("scores:8080"));
+    }
+
+    @Test
+    void testTryAcquire_PerUpstreamLimit_ShouldNotThrottleOtherUpstreams() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(0, 2);
+
+        assertTrue(budget.tryAcquire("a:8080"));
+        assertTrue(budget.tryAcquire("a:8080"));
+        assertFalse(budget.tryAcquire("a:8080"));
+        assertTrue(budget.tryAcquire("b:8080"));
+
+        assertEquals(1, budget.getThrottledRequests("a:8080"));
+        assertEquals(0, budget.getThrottledRequests("b:8080"));
+    }
+
+    @Test
+    void testTryAcquire_GlobalLimit_ShouldBeSharedByAllUpstreams() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(2, 0);
+
+        assertTrue(budget.tryAcquire("a:8080"));
+        assertTrue(budget.tryAcquire("b:8080"));
+        assertFalse(budget.tryAcquire("c:8080"));
+
+        assertEquals(1, budget.getThrottledRequests("c:8080"));
+    }
+
+    @Test
+    void testTryAcquire_GlobalLimitReached_ShouldCountLagPerUpstream() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(1, 1);
+
+        assertTrue(budget.tryAcquire("a:8080"));
+        assertFalse(budget.tryAcquire("b:8080"));
+        assertFalse(budget.tryAcquire("b:8080"));
+
+        assertEquals(0, budget.getThrottledRequests("a:8080"));
+        assertEquals(2, budget.getThrottledRequests("b:8080"));
+    }
+
+    @Test
+    void testShare_ExhaustedShare_ShouldBorrowUnusedBudgetButNotOtherReservations() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(10, 10);
+        UpstreamRequestBudget high = budget.share(0.3);
+        UpstreamRequestBudget low = budget.share(0.2);
+
+        // Two requests from its reservation, then the eight the budget has left
+        for (int i = 0; i < 10; i++) {
+            assertTrue(low.tryAcquire("a:8080"));
+        }
+        assertFalse(low.tryAcquire("a:8080"));
+        assertFalse(budget.tryAcquire("a:8080"));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(high.tryAcquire("a:8080"));
+        }
+        assertFalse(high.tryAcquire("a:8080"));
+
+        assertEquals(3, budget.getThrottledRequests("a:8080"));
+    }
+
+    @Test
+    void testShare_RequestsFromReservation_ShouldBeChargedToTheBudget() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(10, 10);
+        UpstreamRequestBudget high = budget.share(0.3);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(high.tryAcquire("a:8080"));
+        }
+        for (int i = 0; i < 7; i++) {
+            assertTrue(budget.tryAcquire("a:8080"));
+        }
+
+        assertFalse(budget.tryAcquire("a:8080"));
+        assertFalse(high.tryAcquire("a:8080"));
+    }
+
+    @Test
+    void testShare_InvalidFraction_ShouldThrowException() {
+        UpstreamRequestBudget budget = new UpstreamRequestBudget(10, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> budget.share(0));
+        assertThrows(IllegalArgumentException.class, () -> budget.share(1.5));
+        assertTrue(new UpstreamRequestBudget(0, 0).share(0.5).tryAcquire("a:8080"));
+    }
+}